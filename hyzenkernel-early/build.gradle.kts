@@ -25,6 +25,7 @@ dependencies {
     // ASM for bytecode manipulation (9.8+ required for Java 25 support)
     implementation("org.ow2.asm:asm:9.8")
     implementation("org.ow2.asm:asm-commons:9.8")
+    implementation("org.ow2.asm:asm-tree:9.8")
     implementation("org.ow2.asm:asm-util:9.8")
 }
 
@@ -60,6 +61,87 @@ tasks.jar {
     archiveBaseName.set("hyzenkernel-early")
 }
 
+// ============================================
+// Build-time pre-patching (overlay jar + AppCDS archive)
+// ============================================
+
+val serverJar = file("../libs/HytaleServer.jar")
+val prePatchDir = layout.buildDirectory.dir("prepatch")
+val cdsDir = layout.buildDirectory.dir("cds")
+
+// Runs every fix offline against libs/HytaleServer.jar and writes build/prepatch/hyzenkernel-overlay.jar.
+// Use -PserverDir=/path/to/server to bake in that server's mods/hyzenkernel/config.json.
+tasks.register<JavaExec>("prePatch") {
+    group = "hyzenkernel"
+    description = "Pre-patches HytaleServer.jar into an overlay jar so the early plugin can skip rewriting at boot"
+    dependsOn("classes")
+
+    classpath = sourceSets.main.get().runtimeClasspath + files(serverJar)
+    mainClass.set("com.hyzenkernel.early.PrePatcher")
+    workingDir = file(findProperty("serverDir")?.toString() ?: projectDir.path)
+    args(serverJar.absolutePath, prePatchDir.get().asFile.absolutePath, project.version.toString())
+
+    inputs.file(serverJar)
+    inputs.files(sourceSets.main.get().output)
+    outputs.dir(prePatchDir)
+}
+
+// Dumps a static AppCDS archive (build/cds/) containing the overlay classes and the rest of the server jar.
+// The archive must be created with the same JVM that runs the server: pass -PcdsJava=/path/to/java if needed.
+// Run the server with: -XX:SharedArchiveFile=hyzenkernel-server.jsa -cp hyzenkernel-overlay.jar:HytaleServer.jar
+tasks.register<Exec>("prePatchCds") {
+    group = "hyzenkernel"
+    description = "Creates an AppCDS archive from the pre-patched overlay jar and HytaleServer.jar"
+    dependsOn("prePatch")
+
+    val overlayJar = prePatchDir.get().file("hyzenkernel-overlay.jar").asFile
+    val classList = prePatchDir.get().file("classlist").asFile
+    val archive = cdsDir.get().file("hyzenkernel-server.jsa").asFile
+    val javaBin = findProperty("cdsJava")?.toString()
+        ?: "${System.getProperty("java.home")}/bin/java"
+
+    doFirst { archive.parentFile.mkdirs() }
+    commandLine(
+        javaBin,
+        "-Xshare:dump",
+        "-XX:SharedClassListFile=${classList.absolutePath}",
+        "-XX:SharedArchiveFile=${archive.absolutePath}",
+        "-cp", "${overlayJar.absolutePath}${File.pathSeparator}${serverJar.absolutePath}"
+    )
+
+    inputs.files(overlayJar, classList)
+    outputs.file(archive)
+}
+
+// ============================================
+// JMH microbenchmarks (src/jmh/java)
+// ============================================
+
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += output + compileClasspath
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+// Runs the benchmarks in src/jmh/java. Pass a JMH include regex and options with
+// -PjmhArgs="InteractionChainSyncBenchmark -prof gc"; results go to build/jmh/results.txt.
+tasks.register<JavaExec>("jmh") {
+    group = "hyzenkernel"
+    description = "Runs the JMH benchmarks for the bytecode fixes"
+    dependsOn(jmh.classesTaskName)
+
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val resultFile = layout.buildDirectory.file("jmh/results.txt").get().asFile
+    doFirst { resultFile.parentFile.mkdirs() }
+    args((findProperty("jmhArgs")?.toString() ?: "").split(" ").filter { it.isNotBlank() })
+    args("-o", resultFile.absolutePath)
+}
+
 tasks.withType<JavaCompile> {
     options.encoding = "UTF-8"
     options.release.set(25)
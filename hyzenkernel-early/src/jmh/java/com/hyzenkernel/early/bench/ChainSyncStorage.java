@@ -0,0 +1,31 @@
+package com.hyzenkernel.early.bench;
+
+/**
+ * The sync-buffer methods of InteractionChain exercised by the benchmarks.
+ *
+ * Implemented by {@link InteractionChainStandIn}. The vanilla and patched copies of the
+ * stand-in are loaded by different class loaders, so benchmarks call them through this
+ * interface.
+ */
+public interface ChainSyncStorage {
+
+    void putInteractionSyncData(int index, Object data);
+
+    Object removeInteractionSyncData(int index);
+
+    void updateSyncPosition(int index);
+
+    void clearInteractionSyncData(int index);
+
+    boolean isSyncDataOutOfOrder(int index);
+
+    /**
+     * Benchmark-only: drop all buffered data and rewind the offset.
+     */
+    void reset(int offset);
+
+    /**
+     * Benchmark-only: number of buffered entries.
+     */
+    int bufferedCount();
+}
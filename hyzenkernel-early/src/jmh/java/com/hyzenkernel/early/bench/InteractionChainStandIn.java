@@ -0,0 +1,110 @@
+package com.hyzenkernel.early.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stand-in for com.hypixel.hytale.server.core.entity.InteractionChain, reduced to the
+ * sync buffer (tempSyncData / tempSyncDataOffset).
+ *
+ * The method bodies follow the vanilla bytecode in analysis/InteractionChain.class
+ * instruction for instruction, with InteractionSyncData as Object and HytaleLogger
+ * replaced by a java.util.logging logger that is switched off - the real server's
+ * Flogger calls are just as cheap when the level is disabled, and we want to measure
+ * the buffer handling rather than console I/O.
+ *
+ * {@link StandIns#patched()} runs this class through the real InteractionChainTransformer,
+ * which matches methods by name, so the patched copy gets exactly the bodies the
+ * early plugin injects into the server.
+ */
+public class InteractionChainStandIn implements ChainSyncStorage {
+
+    private static final Logger LOGGER = Logger.getLogger(InteractionChainStandIn.class.getName());
+
+    static {
+        LOGGER.setLevel(Level.OFF);
+    }
+
+    private final List<Object> tempSyncData = new ArrayList<>();
+    private int tempSyncDataOffset;
+    private boolean desynced;
+
+    @Override
+    public void putInteractionSyncData(int index, Object data) {
+        index = index - tempSyncDataOffset;
+        if (index < 0) {
+            LOGGER.log(Level.SEVERE, "Attempted to store sync data at {0}. Offset: {1}, Size: {2}",
+                    new Object[]{index + tempSyncDataOffset, tempSyncDataOffset, tempSyncData.size()});
+            return;
+        }
+        if (index < tempSyncData.size()) {
+            tempSyncData.set(index, data);
+        } else if (index == tempSyncData.size()) {
+            tempSyncData.add(data);
+        } else {
+            LOGGER.log(Level.WARNING, "Temp sync data sent out of order: " + index + " " + tempSyncData.size());
+        }
+    }
+
+    @Override
+    public Object removeInteractionSyncData(int index) {
+        index = index - tempSyncDataOffset;
+        if (index != 0) {
+            return null;
+        }
+        if (tempSyncData.isEmpty()) {
+            return null;
+        }
+        if (tempSyncData.get(index) == null) {
+            return null;
+        }
+        tempSyncDataOffset++;
+        return tempSyncData.remove(index);
+    }
+
+    @Override
+    public void updateSyncPosition(int index) {
+        if (tempSyncDataOffset == index) {
+            tempSyncDataOffset = index + 1;
+        } else if (index > tempSyncDataOffset) {
+            throw new IllegalArgumentException("Temp sync data sent out of order: " + index + " " + tempSyncData.size());
+        }
+    }
+
+    @Override
+    public void clearInteractionSyncData(int index) {
+        int adjusted = index - tempSyncDataOffset;
+        if (!tempSyncData.isEmpty()) {
+            for (int i = tempSyncData.size() - 1; i >= adjusted && i >= 0; i--) {
+                tempSyncData.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Called by the patched putInteractionSyncData when the buffer cap is reached.
+     * The server version also schedules the chain for removal; only the flag matters here.
+     */
+    public void flagDesync() {
+        desynced = true;
+    }
+
+    @Override
+    public boolean isSyncDataOutOfOrder(int index) {
+        return index > tempSyncDataOffset + tempSyncData.size();
+    }
+
+    @Override
+    public void reset(int offset) {
+        tempSyncData.clear();
+        tempSyncDataOffset = offset;
+        desynced = false;
+    }
+
+    @Override
+    public int bufferedCount() {
+        return tempSyncData.size();
+    }
+}
@@ -0,0 +1,102 @@
+package com.hyzenkernel.early.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vanilla vs patched InteractionChain sync-buffer handling
+ * (PutSyncDataMethodVisitor / UpdateSyncPositionMethodVisitor).
+ *
+ * Each invocation replays one batch of sync indices against a fresh buffer:
+ * - inOrder:           put(i) then remove(i), the common case both versions handle
+ * - gapped:            every {@code gapEvery}-th index never arrives; the rest are put
+ *                      and acknowledged with updateSyncPosition(i) - vanilla throws
+ * - backwardsStepwise: indices arrive newest-first below the current offset, one at a
+ *                      time - vanilla drops them, the patch grows the buffer at the front
+ * - backwardsJump:     a single index {@code batch} positions below the offset
+ *
+ * Run with: ./gradlew :hyzenkernel-early:jmh
+ * (add -PjmhArgs="InteractionChainSyncBenchmark.backwards" to filter)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InteractionChainSyncBenchmark {
+
+    private static final Object DATA = new Object();
+
+    @Param({"vanilla", "patched"})
+    public String variant;
+
+    @Param({"16", "256"})
+    public int batch;
+
+    @Param({"4"})
+    public int gapEvery;
+
+    private ChainSyncStorage storage;
+
+    @Setup
+    public void setup() {
+        storage = variant.equals("patched") ? StandIns.patched() : StandIns.vanilla();
+    }
+
+    @Benchmark
+    public int inOrder() {
+        storage.reset(0);
+        for (int i = 0; i < batch; i++) {
+            storage.putInteractionSyncData(i, DATA);
+            storage.removeInteractionSyncData(i);
+        }
+        return storage.bufferedCount();
+    }
+
+    @Benchmark
+    public int gapped(Blackhole bh) {
+        storage.reset(0);
+        for (int i = 0; i < batch; i++) {
+            if (i % gapEvery == gapEvery - 1) {
+                continue;
+            }
+            storage.putInteractionSyncData(i, DATA);
+            try {
+                storage.updateSyncPosition(i);
+            } catch (IllegalArgumentException e) {
+                // Vanilla: this is what kicks the player on a real server
+                bh.consume(e);
+            }
+        }
+        return storage.bufferedCount();
+    }
+
+    @Benchmark
+    public int backwardsStepwise() {
+        storage.reset(batch);
+        for (int i = batch - 1; i >= 0; i--) {
+            storage.putInteractionSyncData(i, DATA);
+        }
+        return storage.bufferedCount();
+    }
+
+    @Benchmark
+    public int backwardsJump() {
+        storage.reset(batch);
+        storage.putInteractionSyncData(0, DATA);
+        return storage.bufferedCount();
+    }
+}
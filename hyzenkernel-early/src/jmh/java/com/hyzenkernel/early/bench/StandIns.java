@@ -0,0 +1,107 @@
+package com.hyzenkernel.early.bench;
+
+import com.hyzenkernel.early.ClassFix;
+import com.hyzenkernel.early.HierarchyClassWriter;
+import com.hyzenkernel.early.InteractionChainTransformer;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Creates vanilla and patched {@link InteractionChainStandIn} instances.
+ *
+ * The patched copy is produced the same way the early plugin patches the server:
+ * the stand-in's class file goes through InteractionChainTransformer's visitor and a
+ * {@link HierarchyClassWriter}, and the result is defined in a child class loader
+ * under the same name.
+ */
+public final class StandIns {
+
+    private static final String STAND_IN = InteractionChainStandIn.class.getName();
+
+    private static volatile Class<?> patchedClass;
+
+    private StandIns() {
+    }
+
+    public static ChainSyncStorage vanilla() {
+        return new InteractionChainStandIn();
+    }
+
+    public static ChainSyncStorage patched() {
+        try {
+            return (ChainSyncStorage) patchedClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not instantiate patched stand-in", e);
+        }
+    }
+
+    private static Class<?> patchedClass() throws ClassNotFoundException {
+        Class<?> clazz = patchedClass;
+        if (clazz == null) {
+            synchronized (StandIns.class) {
+                clazz = patchedClass;
+                if (clazz == null) {
+                    clazz = new PatchedLoader(StandIns.class.getClassLoader(), patch(STAND_IN, new InteractionChainTransformer()))
+                            .loadClass(STAND_IN);
+                    patchedClass = clazz;
+                }
+            }
+        }
+        return clazz;
+    }
+
+    static byte[] patch(String className, ClassFix fix) {
+        byte[] original = readClass(className);
+        ClassReader reader = new ClassReader(original);
+        ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        reader.accept(fix.createVisitor(writer), ClassReader.EXPAND_FRAMES);
+        return writer.toByteArray();
+    }
+
+    private static byte[] readClass(String className) {
+        String resource = className.replace('.', '/') + ".class";
+        try (InputStream in = StandIns.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Class file not found: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Child-first for the stand-in only; everything else (including {@link ChainSyncStorage})
+     * comes from the parent so both copies share the interface.
+     */
+    private static final class PatchedLoader extends ClassLoader {
+
+        private final byte[] patchedBytes;
+
+        PatchedLoader(ClassLoader parent, byte[] patchedBytes) {
+            super(parent);
+            this.patchedBytes = patchedBytes;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(STAND_IN)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz == null) {
+                    clazz = defineClass(name, patchedBytes, 0, patchedBytes.length);
+                }
+                if (resolve) {
+                    resolveClass(clazz);
+                }
+                return clazz;
+            }
+        }
+    }
+}
@@ -13,7 +13,7 @@ import org.objectweb.asm.Opcodes;
  *   throw new IllegalArgumentException("Duplicate block components at: " + position);
  *
  * The transformed code logs a warning and returns:
- *   System.out.println("[HyzenKernel-Early] WARNING: Duplicate block components, ignoring");
+ *   FixCounters.hit("blockComponentChunk.duplicateComponent", "WARNING: Duplicate block components, ignoring");
  *   return;
  *
  * We detect the pattern by watching for:
@@ -86,9 +86,7 @@ public class AddEntityReferenceMethodVisitor extends MethodVisitor {
             target.visitInsn(Opcodes.POP); // Remove the exception from stack
 
             // Log warning
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyzenKernel-Early] WARNING: Duplicate block component detected - ignoring (teleporter fix)");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(target, "blockComponentChunk.duplicateComponent", "WARNING: Duplicate block component detected - ignoring (teleporter fix)");
 
             // Return instead of throwing (method returns void)
             target.visitInsn(Opcodes.RETURN);
@@ -176,7 +174,7 @@ public class AddEntityReferenceMethodVisitor extends MethodVisitor {
 
     @Override
     public void visitMaxs(int maxStack, int maxLocals) {
-        // Increase max stack for our println call
+        // Increase max stack for our FixCounters call
         target.visitMaxs(maxStack + 2, maxLocals);
     }
 
@@ -1,9 +1,5 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
@@ -32,53 +28,29 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/20">GitHub Issue #20</a>
  */
-public class ArchetypeChunkTransformer implements ClassTransformer {
+public class ArchetypeChunkTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.component.ArchetypeChunk";
 
     @Override
-    public int priority() {
-        // High priority - core ECS component
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the ArchetypeChunk class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
+    public String name() {
+        return "ArchetypeChunk";
+    }
 
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("archetypeChunk")) {
-            info("ArchetypeChunkTransformer DISABLED by config");
-            return classBytes;
-        }
+    @Override
+    public String configKey() {
+        return "archetypeChunk";
+    }
 
-        separator();
-        info("Transforming ArchetypeChunk class...");
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
         verbose("Fixing getComponent() IndexOutOfBoundsException (Issue #20)");
         verbose("Fixing copySerializableEntity() IndexOutOfBoundsException (Issue #29)");
-        separator();
-
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new ArchetypeChunkVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("ArchetypeChunk transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
-
-        } catch (Exception e) {
-            error("ERROR: Failed to transform ArchetypeChunk!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+        return new ArchetypeChunkVisitor(next);
     }
 }
@@ -87,9 +87,7 @@ public class ArchetypeChunkVisitor extends ClassVisitor {
                 mv.visitLabel(catchHandler);
 
                 // Log warning
-                mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-                mv.visitLdcInsn("[HyzenKernel-Early] WARNING: getComponent() IndexOutOfBounds - returning null (stale entity ref)");
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+                FixCounterCalls.emitHit(mv, "archetypeChunk.getComponentOutOfBounds", "WARNING: getComponent() IndexOutOfBounds - returning null (stale entity ref)");
 
                 // Return null
                 mv.visitInsn(Opcodes.ACONST_NULL);
@@ -152,9 +150,7 @@ public class ArchetypeChunkVisitor extends ClassVisitor {
                 mv.visitLabel(catchHandler);
 
                 // Log warning
-                mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-                mv.visitLdcInsn("[HyzenKernel-Early] WARNING: copySerializableEntity() IndexOutOfBounds - skipping (stale entity ref)");
-                mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+                FixCounterCalls.emitHit(mv, "archetypeChunk.copySerializableOutOfBounds", "WARNING: copySerializableEntity() IndexOutOfBounds - skipping (stale entity ref)");
 
                 // Return appropriate default value based on return type
                 emitDefaultReturn(opcode);
@@ -0,0 +1,173 @@
+package com.hyzenkernel.early;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background writer behind {@link EarlyLogger}.
+ *
+ * Producers (class-loading threads, world threads running injected fixes) publish into a
+ * bounded lock-free ring buffer and return immediately; a single daemon thread drains it
+ * to System.out/System.err. When the buffer is full the message is dropped and counted
+ * instead of blocking the caller - the drain thread reports how many were lost.
+ *
+ * The ring buffer is a multi-producer / single-consumer array queue: every slot carries a
+ * sequence number, producers claim a position with a CAS on the tail, and the consumer
+ * owns the head.
+ *
+ * The drain thread parks while idle and producers unpark it; it only wakes up on a timer
+ * while dropped/suppressed counts are waiting for their summary.
+ */
+final class AsyncLogSink {
+
+    private static final int CAPACITY = 4096;
+    private static final int MASK = CAPACITY - 1;
+    private static final long SUMMARY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    record LogEntry(String line, Throwable cause, boolean stderr) {
+    }
+
+    private final AtomicReferenceArray<LogEntry> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final LogRateLimiter limiter;
+    private final String prefix;
+    private final Thread drainThread;
+    private long head;
+
+    // Set by the drain thread right before it parks, so producers only unpark when needed
+    private volatile boolean idle;
+
+    AsyncLogSink(String prefix, LogRateLimiter limiter) {
+        this.prefix = prefix;
+        this.limiter = limiter;
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, i);
+        }
+
+        drainThread = new Thread(this::drainLoop, "HyzenKernel-EarlyLogger");
+        drainThread.setDaemon(true);
+        drainThread.start();
+
+        // Flush whatever is left when the JVM exits (daemon threads are just abandoned)
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "HyzenKernel-EarlyLogger-Flush"));
+    }
+
+    /**
+     * Queue a line for output. Never blocks; returns false if the buffer was full.
+     */
+    boolean offer(LogEntry entry) {
+        while (true) {
+            long pos = tail.get();
+            int index = (int) (pos & MASK);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.set(index, entry);
+                    sequences.set(index, pos + 1);
+                    wake();
+                    return true;
+                }
+            } else if (diff < 0) {
+                dropped.incrementAndGet();
+                wake();
+                return false;
+            }
+            // Another producer claimed this slot first - retry with the new tail
+        }
+    }
+
+    /**
+     * Unpark the drain thread if it is idle (new entry, or something to report).
+     */
+    void wake() {
+        if (idle) {
+            LockSupport.unpark(drainThread);
+        }
+    }
+
+    private LogEntry poll() {
+        if (!hasQueued()) {
+            return null;
+        }
+        int index = (int) (head & MASK);
+        LogEntry entry = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, head + CAPACITY);
+        head++;
+        return entry;
+    }
+
+    private void drainLoop() {
+        long nextSummary = System.nanoTime() + SUMMARY_INTERVAL_NANOS;
+        while (true) {
+            boolean wroteAny = drainAvailable();
+
+            long now = System.nanoTime();
+            if (now - nextSummary >= 0) {
+                nextSummary = now + SUMMARY_INTERVAL_NANOS;
+                writeSummaries();
+            }
+
+            if (!wroteAny) {
+                idle = true;
+                // Re-check after publishing idle: an entry offered before that saw idle == false
+                if (!hasQueued()) {
+                    if (dropped.get() > 0 || limiter.hasSuppressed()) {
+                        LockSupport.parkNanos(Math.max(nextSummary - System.nanoTime(), 0));
+                    } else {
+                        LockSupport.park(this);
+                    }
+                }
+                idle = false;
+            }
+        }
+    }
+
+    private boolean hasQueued() {
+        return sequences.get((int) (head & MASK)) == head + 1;
+    }
+
+    /**
+     * Write every queued entry. Only the drain thread - or the shutdown hook once the
+     * JVM is exiting - may call this.
+     */
+    private synchronized boolean drainAvailable() {
+        boolean wroteAny = false;
+        LogEntry entry;
+        while ((entry = poll()) != null) {
+            write(entry);
+            wroteAny = true;
+        }
+        return wroteAny;
+    }
+
+    private synchronized void writeSummaries() {
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            System.err.println(prefix + lost + " log messages dropped (log buffer full)");
+        }
+        limiter.drainSuppressed((key, count) ->
+                System.out.println(prefix + count + " similar messages suppressed: " + key + "..."));
+    }
+
+    private void write(LogEntry entry) {
+        PrintStream out = entry.stderr() ? System.err : System.out;
+        out.println(prefix + entry.line());
+        if (entry.cause() != null) {
+            entry.cause().printStackTrace(out);
+        }
+    }
+
+    void flush() {
+        drainAvailable();
+        writeSummaries();
+        System.out.flush();
+        System.err.flush();
+    }
+}
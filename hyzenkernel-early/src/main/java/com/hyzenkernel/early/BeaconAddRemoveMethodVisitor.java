@@ -19,7 +19,7 @@ import org.objectweb.asm.Opcodes;
  * The transformed code adds a null check:
  *   BeaconSpawnController spawnController = legacySpawnBeaconEntity.getSpawnController();
  *   if (spawnController == null) {
- *       System.out.println("[HyzenKernel-Early] null spawnController, despawning NPC");
+ *       FixCounters.hit("spawnReferenceSystems.nullSpawnController", "null spawnController, despawning NPC");
  *       npcEntity.setToDespawn();
  *       return;
  *   }
@@ -88,7 +88,7 @@ public class BeaconAddRemoveMethodVisitor extends MethodVisitor {
 
             // Generate null check:
             // if (spawnController == null) {
-            //     System.out.println("[HyzenKernel-Early] WARNING: null spawnController...");
+            //     FixCounters.hit("spawnReferenceSystems.nullSpawnController", "WARNING: null spawnController...");
             //     npcEntity.setToDespawn();
             //     return;
             // }
@@ -100,9 +100,7 @@ public class BeaconAddRemoveMethodVisitor extends MethodVisitor {
             target.visitJumpInsn(Opcodes.IFNONNULL, continueLabel);
 
             // spawnController is null - log warning
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyzenKernel-Early] WARNING: null spawnController in BeaconAddRemoveSystem - despawning NPC (missing beacon type?)");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(target, "spawnReferenceSystems.nullSpawnController", "WARNING: null spawnController in BeaconAddRemoveSystem - despawning NPC (missing beacon type?)");
 
             // Despawn the NPC (same as what happens when hasSlots() returns false)
             target.visitVarInsn(Opcodes.ALOAD, npcEntityLocalVar);
@@ -193,7 +191,7 @@ public class BeaconAddRemoveMethodVisitor extends MethodVisitor {
 
     @Override
     public void visitMaxs(int maxStack, int maxLocals) {
-        // Increase max stack for our println call
+        // Increase max stack for our FixCounters call
         target.visitMaxs(maxStack + 2, maxLocals);
     }
 
@@ -0,0 +1,42 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * ASM MethodVisitor for BenchWindow.onOpen0() / onClose0().
+ *
+ * onOpen0():
+ *   BenchWindows.opening(this);
+ *   ...
+ *   BenchWindows.opened();   // before every return
+ *
+ * onClose0():
+ *   BenchWindows.closing(this);
+ *   ...
+ */
+public class BenchWindowMethodVisitor extends MethodVisitor {
+
+    private final boolean open;
+
+    public BenchWindowMethodVisitor(MethodVisitor mv, boolean open) {
+        super(Opcodes.ASM9, mv);
+        this.open = open;
+    }
+
+    @Override
+    public void visitCode() {
+        super.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, BenchWindows.OWNER, open ? "opening" : "closing",
+                "(Ljava/lang/Object;)V", false);
+    }
+
+    @Override
+    public void visitInsn(int opcode) {
+        if (open && opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) {
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, BenchWindows.OWNER, "opened", "()V", false);
+        }
+        super.visitInsn(opcode);
+    }
+}
@@ -0,0 +1,43 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.ClassVisitor;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * HyzenKernel Early Plugin - BenchWindow Bytecode Transformer
+ *
+ * Half of the stale bench fix (see {@link CraftingManagerTransformer}): tracks which bench
+ * windows are open in {@link BenchWindows}, so CraftingManager.setBench() only clears a bench
+ * whose window has closed. Shares the craftingManager config key with the setBench() patch.
+ */
+public class BenchWindowTransformer implements ClassFix {
+
+    private static final String TARGET_CLASS = "com.hypixel.hytale.builtin.crafting.window.BenchWindow";
+
+    @Override
+    public String targetClass() {
+        return TARGET_CLASS;
+    }
+
+    @Override
+    public String name() {
+        return "BenchWindow";
+    }
+
+    @Override
+    public String configKey() {
+        return "craftingManager";
+    }
+
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
+        verbose("Tracking bench window open/close for the stale bench fix");
+        return new BenchWindowVisitor(next);
+    }
+
+    @Override
+    public boolean isApplied(ClassVisitor visitor) {
+        return ((BenchWindowVisitor) visitor).isTransformed();
+    }
+}
@@ -0,0 +1,63 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * ASM ClassVisitor for BenchWindow.
+ *
+ * Wraps onOpen0() and onClose0() with {@link BenchWindowMethodVisitor}, which reports the
+ * window's open and close to {@link BenchWindows}.
+ */
+public class BenchWindowVisitor extends ClassVisitor {
+
+    private static final String OPEN_METHOD = "onOpen0";
+    private static final String CLOSE_METHOD = "onClose0";
+
+    private String className;
+    private boolean openPatched = false;
+    private boolean closePatched = false;
+
+    public BenchWindowVisitor(ClassVisitor cv) {
+        super(Opcodes.ASM9, cv);
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        this.className = name;
+        super.visit(version, access, name, signature, superName, interfaces);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
+        if ((access & (Opcodes.ACC_STATIC | Opcodes.ACC_ABSTRACT)) != 0) {
+            return mv;
+        }
+
+        if (name.equals(OPEN_METHOD) && !openPatched) {
+            verbose("Found method: " + className + "." + name + descriptor);
+            openPatched = true;
+            return new BenchWindowMethodVisitor(mv, true);
+        }
+
+        if (name.equals(CLOSE_METHOD) && !closePatched) {
+            verbose("Found method: " + className + "." + name + descriptor);
+            closePatched = true;
+            return new BenchWindowMethodVisitor(mv, false);
+        }
+
+        return mv;
+    }
+
+    /**
+     * Both onOpen0() and onClose0() were found - without either, no bench is ever
+     * known to be stale and setBench() keeps throwing.
+     */
+    public boolean isTransformed() {
+        return openPatched && closePatched;
+    }
+}
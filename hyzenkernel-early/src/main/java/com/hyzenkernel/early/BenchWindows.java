@@ -0,0 +1,87 @@
+package com.hyzenkernel.early;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Which bench window set the bench of a CraftingManager, and whether that window is still
+ * open, fed by the bytecode that {@link BenchWindowVisitor} and {@link SetBenchMethodVisitor}
+ * inject.
+ *
+ * A bench window counts as open from the start of its onOpen0() to the start of its
+ * onClose0() - closing is recorded before the close handler runs, so a close that throws
+ * before clearBench() (the stale bench case) still counts. setBench() binds the CraftingManager
+ * to the window whose onOpen0() it runs inside. A setBench() outside any onOpen0() leaves the
+ * owner unknown.
+ *
+ * Windows and CraftingManagers are held weakly.
+ */
+public final class BenchWindows {
+
+    static final String OWNER = "com/hyzenkernel/early/BenchWindows";
+
+    private static final Set<Object> open = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final Map<Object, WeakReference<Object>> owners = Collections.synchronizedMap(new WeakHashMap<>());
+    // The window whose onOpen0() is running on this thread
+    private static final ThreadLocal<Object> opening = new ThreadLocal<>();
+
+    private BenchWindows() {
+    }
+
+    // ============================================
+    // Called from injected bytecode
+    // ============================================
+
+    /**
+     * Start of BenchWindow.onOpen0().
+     */
+    public static void opening(Object window) {
+        open.add(window);
+        opening.set(window);
+    }
+
+    /**
+     * Normal return from BenchWindow.onOpen0().
+     */
+    public static void opened() {
+        opening.remove();
+    }
+
+    /**
+     * Start of BenchWindow.onClose0().
+     */
+    public static void closing(Object window) {
+        open.remove(window);
+    }
+
+    /**
+     * CraftingManager.setBench() is about to set a bench: the window being opened on this
+     * thread owns it from now on.
+     */
+    public static void bind(Object craftingManager) {
+        Object window = opening.get();
+        if (window != null) {
+            owners.put(craftingManager, new WeakReference<>(window));
+        } else {
+            owners.remove(craftingManager);
+        }
+    }
+
+    /**
+     * True only if the bench currently set on the CraftingManager is known to belong to a
+     * window that has been closed (or collected). False if that window is still open or the
+     * owner is unknown - the caller keeps the original throw then.
+     */
+    public static boolean isStale(Object craftingManager) {
+        WeakReference<Object> owner = owners.get(craftingManager);
+        if (owner == null) {
+            return false;
+        }
+        Object window = owner.get();
+        return window == null || !open.contains(window);
+    }
+}
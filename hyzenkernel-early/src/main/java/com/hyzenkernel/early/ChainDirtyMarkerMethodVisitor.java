@@ -0,0 +1,79 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * ASM MethodVisitor that reports interaction chain changes to {@link InteractionDirtySet},
+ * so the runtime InteractionManagerSanitizer only scans entities whose chains changed.
+ *
+ * Hooks (both leave the operand stack as they found it):
+ * 1. Any PUTFIELD of InteractionChain.clientState / serverState (protocol.InteractionState):
+ *      chain.clientState = state;
+ *    becomes
+ *      InteractionDirtySet.markChain(chain); chain.clientState = state;
+ * 2. With {@code markMapPuts} (InteractionManager): any put(int, Object) / put(Object, Object)
+ *    on an Int2ObjectMap or Map - the chains map is the only map InteractionManager puts
+ *    chains into, and markChain() ignores values that aren't chains:
+ *      InteractionDirtySet.markChain(value); map.put(key, value);
+ */
+public class ChainDirtyMarkerMethodVisitor extends MethodVisitor {
+
+    private static final String INTERACTION_CHAIN = "com/hypixel/hytale/server/core/entity/InteractionChain";
+    private static final String INTERACTION_STATE_DESC = "Lcom/hypixel/hytale/protocol/InteractionState;";
+    private static final String INT2OBJECT_MAP = "it/unimi/dsi/fastutil/ints/Int2ObjectMap";
+    private static final String MAP = "java/util/Map";
+
+    private final boolean markMapPuts;
+    private final String methodName;
+
+    public ChainDirtyMarkerMethodVisitor(MethodVisitor mv, String methodName, boolean markMapPuts) {
+        super(Opcodes.ASM9, mv);
+        this.methodName = methodName;
+        this.markMapPuts = markMapPuts;
+    }
+
+    @Override
+    public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+        if (isStateWrite(opcode, owner, name, descriptor)) {
+            verbose("  Marking chain dirty on " + name + " write in " + methodName);
+            // [chain, state] -> [chain, state, chain]
+            mv.visitInsn(Opcodes.DUP2);
+            mv.visitInsn(Opcodes.POP);
+            emitMarkChain();
+        }
+        super.visitFieldInsn(opcode, owner, name, descriptor);
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+        if (markMapPuts && isChainMapPut(opcode, owner, name, descriptor)) {
+            verbose("  Marking chain dirty on " + owner + ".put in " + methodName);
+            // [map, key, value] -> [map, key, value, value]
+            mv.visitInsn(Opcodes.DUP);
+            emitMarkChain();
+        }
+        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+    }
+
+    // InteractionChain$TempChain has its own clientState - match the owner too
+    private static boolean isStateWrite(int opcode, String owner, String name, String descriptor) {
+        return opcode == Opcodes.PUTFIELD && owner.equals(INTERACTION_CHAIN)
+                && descriptor.equals(INTERACTION_STATE_DESC)
+                && (name.equals("clientState") || name.equals("serverState"));
+    }
+
+    private static boolean isChainMapPut(int opcode, String owner, String name, String descriptor) {
+        if (opcode != Opcodes.INVOKEINTERFACE || !name.equals("put")) {
+            return false;
+        }
+        return (owner.equals(INT2OBJECT_MAP) && descriptor.equals("(ILjava/lang/Object;)Ljava/lang/Object;"))
+                || (owner.equals(MAP) && descriptor.equals("(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;"));
+    }
+
+    private void emitMarkChain() {
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, InteractionDirtySet.OWNER, "markChain", "(Ljava/lang/Object;)V", false);
+    }
+}
@@ -0,0 +1,147 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * ASM MethodVisitor that reports interaction chain lifecycle events to
+ * {@link ChainLifecycleStats}. Every hook leaves the operand stack as it found it.
+ *
+ * In InteractionManager and InteractionChain:
+ * - PUTFIELD InteractionChain.waitingForClientFinished:
+ *                                          ChainLifecycleStats.waitingForClient(chain, value)
+ * - PUTFIELD InteractionChain.clientState: ChainLifecycleStats.clientState(chain, state)
+ *
+ * In InteractionManager only ({@code inManager}):
+ * - put(int, Object) / put(Object, Object) on an Int2ObjectMap / Map:
+ *                                          ChainLifecycleStats.started(value)
+ * - remove(int) / remove(Object) on an Int2ObjectMap / Map, after the call:
+ *                                          ChainLifecycleStats.ended(removed)
+ * - next() / remove() on an ObjectIterator / Iterator: replaced by
+ *                                          ChainLifecycleStats.next(it) / remove(it)
+ * - entry of cancelChains(InteractionChain): ChainLifecycleStats.cancelled(chain)
+ *
+ * As with {@link ChainDirtyMarkerMethodVisitor}, values that aren't chains are ignored
+ * by the helper (they have no lifecycle field).
+ */
+public class ChainLifecycleMethodVisitor extends MethodVisitor {
+
+    private static final String INTERACTION_CHAIN = "com/hypixel/hytale/server/core/entity/InteractionChain";
+    private static final String INTERACTION_CHAIN_DESC = "L" + INTERACTION_CHAIN + ";";
+    private static final String INTERACTION_STATE_DESC = "Lcom/hypixel/hytale/protocol/InteractionState;";
+    private static final String WAITING_FIELD = "waitingForClientFinished";
+    private static final String CLIENT_STATE_FIELD = "clientState";
+    private static final String INT2OBJECT_MAP = "it/unimi/dsi/fastutil/ints/Int2ObjectMap";
+    private static final String MAP = "java/util/Map";
+    private static final String OBJECT_ITERATOR = "it/unimi/dsi/fastutil/objects/ObjectIterator";
+    private static final String ITERATOR = "java/util/Iterator";
+    private static final String CANCEL_CHAINS_METHOD = "cancelChains";
+
+    private final String methodName;
+    private final boolean inManager;
+    private final boolean cancelChains;
+
+    public ChainLifecycleMethodVisitor(MethodVisitor mv, int access, String methodName, String descriptor, boolean inManager) {
+        super(Opcodes.ASM9, mv);
+        this.methodName = methodName;
+        this.inManager = inManager;
+        Type[] args = Type.getArgumentTypes(descriptor);
+        this.cancelChains = inManager && methodName.equals(CANCEL_CHAINS_METHOD)
+                && (access & Opcodes.ACC_STATIC) == 0
+                && args.length == 1 && args[0].getDescriptor().equals(INTERACTION_CHAIN_DESC);
+    }
+
+    @Override
+    public void visitCode() {
+        super.visitCode();
+        if (cancelChains) {
+            verbose("  Recording chain cancellation in " + methodName);
+            mv.visitVarInsn(Opcodes.ALOAD, 1);
+            emitCall("cancelled");
+        }
+    }
+
+    @Override
+    public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+        // InteractionChain$TempChain has its own clientState - match the owner too
+        if (opcode == Opcodes.PUTFIELD && owner.equals(INTERACTION_CHAIN)) {
+            if (name.equals(WAITING_FIELD) && descriptor.equals("J")) {
+                verbose("  Recording " + name + " changes in " + methodName);
+                // [chain, value] -> [chain, chain, value]; the helper returns value
+                mv.visitInsn(Opcodes.DUP2_X1);
+                mv.visitInsn(Opcodes.POP2);
+                mv.visitInsn(Opcodes.DUP);
+                mv.visitInsn(Opcodes.DUP2_X2);
+                mv.visitInsn(Opcodes.POP2);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, ChainLifecycleStats.OWNER, "waitingForClient",
+                        "(Ljava/lang/Object;J)J", false);
+            } else if (name.equals(CLIENT_STATE_FIELD) && descriptor.equals(INTERACTION_STATE_DESC)) {
+                verbose("  Recording " + name + " changes in " + methodName);
+                // [chain, state] -> [chain, state, chain, state]
+                mv.visitInsn(Opcodes.DUP2);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, ChainLifecycleStats.OWNER, "clientState",
+                        "(Ljava/lang/Object;Ljava/lang/Object;)V", false);
+            }
+        }
+        super.visitFieldInsn(opcode, owner, name, descriptor);
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+        if (!inManager || opcode != Opcodes.INVOKEINTERFACE) {
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+            return;
+        }
+
+        if (isIteratorOwner(owner)) {
+            if (name.equals("next") && descriptor.equals("()Ljava/lang/Object;")) {
+                verbose("  Remembering " + owner + ".next in " + methodName);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, ChainLifecycleStats.OWNER, "next",
+                        "(Ljava/util/Iterator;)Ljava/lang/Object;", false);
+                return;
+            }
+            if (name.equals("remove") && descriptor.equals("()V")) {
+                verbose("  Recording chain end on " + owner + ".remove in " + methodName);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC, ChainLifecycleStats.OWNER, "remove",
+                        "(Ljava/util/Iterator;)V", false);
+                return;
+            }
+        }
+
+        if (name.equals("put") && isMapOwner(owner)
+                && (descriptor.equals("(ILjava/lang/Object;)Ljava/lang/Object;")
+                || descriptor.equals("(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;"))) {
+            verbose("  Recording chain start on " + owner + ".put in " + methodName);
+            // [map, key, value] -> [map, key, value, value]
+            mv.visitInsn(Opcodes.DUP);
+            emitCall("started");
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+            return;
+        }
+
+        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+
+        if (name.equals("remove") && isMapOwner(owner)
+                && (descriptor.equals("(I)Ljava/lang/Object;") || descriptor.equals("(Ljava/lang/Object;)Ljava/lang/Object;"))) {
+            verbose("  Recording chain end on " + owner + ".remove in " + methodName);
+            // [removed] -> [removed, removed]
+            mv.visitInsn(Opcodes.DUP);
+            emitCall("ended");
+        }
+    }
+
+    private static boolean isMapOwner(String owner) {
+        return owner.equals(INT2OBJECT_MAP) || owner.equals(MAP);
+    }
+
+    private static boolean isIteratorOwner(String owner) {
+        return owner.equals(OBJECT_ITERATOR) || owner.equals(ITERATOR);
+    }
+
+    private void emitCall(String method) {
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, ChainLifecycleStats.OWNER, method, "(Ljava/lang/Object;)V", false);
+    }
+}
@@ -0,0 +1,292 @@
+package com.hyzenkernel.early;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Interaction chain lifecycle metrics by root interaction, fed by the bytecode that
+ * {@link ChainLifecycleMethodVisitor} and {@link ServerTickMethodVisitor} inject.
+ *
+ * A chain is measured from the moment InteractionManager puts it into its chains map
+ * until InteractionManager removes it again (or InteractionManagerSanitizer does):
+ * - total duration
+ * - time spent waiting for the client: from InteractionChain.waitingForClientFinished being
+ *   set until it is cleared or clientState leaves NotFinished
+ * - outcome: finished, client timeout (serverTick's timeout, see ServerTickMethodVisitor),
+ *   removed by the runtime sanitizer, or cancelled (InteractionManager.cancelChains)
+ *
+ * Per-chain state lives in the injected {@link #FIELD} field of InteractionChain (added by
+ * {@link InteractionChainVisitor}), so nothing outlives the chain. Removal through an
+ * iterator is recorded by remembering, per thread, the element the last {@link #next} call
+ * returned; a remove() on an outer iterator after an inner loop ran is not recorded.
+ *
+ * Aggregates are fixed-size {@link LogHistogram}s in milliseconds, per root interaction
+ * ({@link SyncBufferStats#keyOf}), for at most {@link #MAX_TYPES} interactions.
+ */
+public final class ChainLifecycleStats {
+
+    /** Field added to InteractionChain by {@link InteractionChainVisitor}. */
+    static final String FIELD = "hyzenkernel$lifecycle";
+
+    static final String OWNER = "com/hyzenkernel/early/ChainLifecycleStats";
+
+    public static final int OUTCOME_FINISHED = 0;
+    public static final int OUTCOME_CLIENT_TIMEOUT = 1;
+    public static final int OUTCOME_SANITIZER_REMOVED = 2;
+    public static final int OUTCOME_CANCELLED = 3;
+    private static final int OUTCOMES = 4;
+
+    static final int MAX_TYPES = 256;
+    private static final String OTHER_TYPE = "(other)";
+
+    private static final String NOT_FINISHED_STATE = "NotFinished";
+
+    private static final Map<String, TypeStats> byType = new ConcurrentHashMap<>();
+
+    // Last element returned by an intercepted next(), per thread
+    private static final ThreadLocal<Cursor> cursors = ThreadLocal.withInitial(Cursor::new);
+
+    private static final ClassValue<VarHandle> TIMER_FIELDS = new ClassValue<>() {
+        @Override
+        protected VarHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.lookup().findVarHandle(type, FIELD, Object.class);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+    };
+
+    private ChainLifecycleStats() {
+    }
+
+    // ============================================
+    // Called from injected bytecode
+    // ============================================
+
+    /**
+     * The chain was put into an InteractionManager's chains map.
+     */
+    public static void started(Object chain) {
+        VarHandle field = timerField(chain);
+        if (field != null && field.get(chain) == null) {
+            field.set(chain, new Timer(System.nanoTime()));
+        }
+    }
+
+    /**
+     * The chain's waitingForClientFinished is about to be set to {@code value}; non-zero
+     * means it is waiting for the client. Returns {@code value}.
+     */
+    public static long waitingForClient(Object chain, long value) {
+        Timer timer = timerOf(chain);
+        if (timer != null) {
+            timer.waiting(value != 0, System.nanoTime());
+        }
+        return value;
+    }
+
+    /**
+     * The chain's clientState is about to be set to {@code state}. Once the client has
+     * finished (or failed) the chain is no longer waiting for it.
+     */
+    public static void clientState(Object chain, Object state) {
+        if (state instanceof Enum && !((Enum<?>) state).name().equals(NOT_FINISHED_STATE)) {
+            Timer timer = timerOf(chain);
+            if (timer != null) {
+                timer.waiting(false, System.nanoTime());
+            }
+        }
+    }
+
+    /**
+     * Replaces Iterator.next() in InteractionManager, remembering the element for {@link #remove}.
+     */
+    public static Object next(Iterator<?> iterator) {
+        Object element = iterator.next();
+        Cursor cursor = cursors.get();
+        cursor.iterator = iterator;
+        cursor.element = element;
+        return element;
+    }
+
+    /**
+     * Replaces Iterator.remove() in InteractionManager: the element last returned by
+     * {@code iterator} (a chain, or a map entry holding one) has left the map.
+     */
+    public static void remove(Iterator<?> iterator) {
+        Cursor cursor = cursors.get();
+        Object element = cursor.iterator == iterator ? cursor.element : null;
+        cursor.iterator = null;
+        cursor.element = null;
+        // Read the value first - fastutil's fast iterators reuse their entry objects
+        Object chain = element instanceof Map.Entry ? ((Map.Entry<?, ?>) element).getValue() : element;
+        iterator.remove();
+        ended(chain);
+    }
+
+    /**
+     * serverTick() decided the client took too long; the chain is being cancelled.
+     */
+    public static void timedOut(Object chain) {
+        Timer timer = timerOf(chain);
+        if (timer != null) {
+            timer.outcome(OUTCOME_CLIENT_TIMEOUT);
+        }
+    }
+
+    /**
+     * InteractionManager.cancelChains(chain) was called.
+     */
+    public static void cancelled(Object chain) {
+        Timer timer = timerOf(chain);
+        if (timer != null) {
+            timer.outcome(OUTCOME_CANCELLED);
+        }
+    }
+
+    /**
+     * The chain was removed from an InteractionManager's chains map ({@code chain} is the
+     * value remove() returned, possibly null or not a chain at all).
+     */
+    public static void ended(Object chain) {
+        end(chain, OUTCOME_FINISHED);
+    }
+
+    // ============================================
+    // Called by the runtime plugin (via reflection)
+    // ============================================
+
+    /**
+     * InteractionManagerSanitizer removed the chain from the map directly.
+     */
+    public static void removedBySanitizer(Object chain) {
+        end(chain, OUTCOME_SANITIZER_REMOVED);
+    }
+
+    /**
+     * Per root interaction:
+     * [chains, duration p50, p99, max, waiting p50, p99, max (ms), finished, client timeout,
+     *  sanitizer removed, cancelled]
+     */
+    public static Map<String, long[]> byType() {
+        Map<String, long[]> result = new TreeMap<>();
+        byType.forEach((type, stats) -> result.put(type, stats.row()));
+        return result;
+    }
+
+    // ============================================
+    // Internals
+    // ============================================
+
+    private static void end(Object chain, int defaultOutcome) {
+        VarHandle field = timerField(chain);
+        if (field == null) {
+            return;
+        }
+        Object value = field.getAndSet(chain, null);
+        if (!(value instanceof Timer)) {
+            return;
+        }
+        Timer timer = (Timer) value;
+        long now = System.nanoTime();
+        synchronized (timer) {
+            timer.waiting(false, now);
+            int outcome = timer.outcome >= 0 ? timer.outcome : defaultOutcome;
+            statsOf(SyncBufferStats.keyOf(chain)).record(
+                    TimeUnit.NANOSECONDS.toMillis(now - timer.createdNanos),
+                    TimeUnit.NANOSECONDS.toMillis(timer.waitingNanos),
+                    outcome);
+        }
+    }
+
+    private static Timer timerOf(Object chain) {
+        VarHandle field = timerField(chain);
+        Object value = field != null ? field.get(chain) : null;
+        return value instanceof Timer ? (Timer) value : null;
+    }
+
+    private static VarHandle timerField(Object chain) {
+        return chain != null ? TIMER_FIELDS.get(chain.getClass()) : null;
+    }
+
+    private static TypeStats statsOf(String type) {
+        TypeStats stats = byType.get(type);
+        if (stats != null) {
+            return stats;
+        }
+        if (byType.size() >= MAX_TYPES) {
+            return byType.computeIfAbsent(OTHER_TYPE, k -> new TypeStats());
+        }
+        return byType.computeIfAbsent(type, k -> new TypeStats());
+    }
+
+    /**
+     * Lifecycle state of one chain.
+     */
+    private static final class Timer {
+
+        final long createdNanos;
+        long waitingSinceNanos = -1;
+        long waitingNanos;
+        int outcome = -1;
+
+        Timer(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+
+        synchronized void waiting(boolean waiting, long now) {
+            if (waiting && waitingSinceNanos < 0) {
+                waitingSinceNanos = now;
+            } else if (!waiting && waitingSinceNanos >= 0) {
+                waitingNanos += now - waitingSinceNanos;
+                waitingSinceNanos = -1;
+            }
+        }
+
+        /**
+         * The first outcome sticks: a timed-out chain is cancelled and then removed.
+         */
+        synchronized void outcome(int outcome) {
+            if (this.outcome < 0) {
+                this.outcome = outcome;
+            }
+        }
+    }
+
+    private static final class Cursor {
+
+        Iterator<?> iterator;
+        Object element;
+    }
+
+    private static final class TypeStats {
+
+        final LogHistogram durationMs = new LogHistogram();
+        final LogHistogram waitingMs = new LogHistogram();
+        final AtomicLongArray outcomes = new AtomicLongArray(OUTCOMES);
+
+        void record(long durationMillis, long waitingMillis, int outcome) {
+            durationMs.record(durationMillis);
+            waitingMs.record(waitingMillis);
+            outcomes.incrementAndGet(outcome);
+        }
+
+        long[] row() {
+            long[] duration = durationMs.summary();
+            long[] waiting = waitingMs.summary();
+            return new long[]{
+                    duration[0], duration[1], duration[2], duration[3],
+                    waiting[1], waiting[2], waiting[3],
+                    outcomes.get(OUTCOME_FINISHED), outcomes.get(OUTCOME_CLIENT_TIMEOUT),
+                    outcomes.get(OUTCOME_SANITIZER_REMOVED), outcomes.get(OUTCOME_CANCELLED)
+            };
+        }
+    }
+}
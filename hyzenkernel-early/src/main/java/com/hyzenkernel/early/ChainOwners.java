@@ -0,0 +1,88 @@
+package com.hyzenkernel.early;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * InteractionChain -> InteractionContext.owningEntity (a Hytale Ref), resolved once per
+ * chain class into field getter MethodHandles. Shared by the helpers that injected
+ * InteractionChain/InteractionManager bytecode calls with a chain ({@link SyncGapStats},
+ * {@link InteractionDirtySet}), so they run on the world thread without core reflection.
+ */
+final class ChainOwners {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Getters> GETTERS = new ClassValue<>() {
+        @Override
+        protected Getters computeValue(Class<?> type) {
+            return getters(type);
+        }
+    };
+
+    // Classes without a context.owningEntity path (e.g. other values in a map)
+    private static final Getters NOT_A_CHAIN = new Getters(null, null);
+
+    /**
+     * chain.context and context.owningEntity, both as (Object)Object.
+     */
+    record Getters(MethodHandle context, MethodHandle owningEntity) {
+    }
+
+    private ChainOwners() {
+    }
+
+    /**
+     * Whether {@code value} looks like an InteractionChain (has context.owningEntity).
+     */
+    static boolean isChain(Object value) {
+        return value != null && GETTERS.get(value.getClass()) != NOT_A_CHAIN;
+    }
+
+    /**
+     * The chain's owning entity Ref, or null if it has no context/owner (or isn't a chain).
+     */
+    static Object owner(Object chain) {
+        if (chain == null) {
+            return null;
+        }
+        Getters getters = GETTERS.get(chain.getClass());
+        if (getters == NOT_A_CHAIN) {
+            return null;
+        }
+        try {
+            Object context = (Object) getters.context().invokeExact(chain);
+            return context != null ? (Object) getters.owningEntity().invokeExact(context) : null;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    private static Getters getters(Class<?> type) {
+        Field context = findField(type, "context");
+        Field owningEntity = context != null ? findField(context.getType(), "owningEntity") : null;
+        if (owningEntity == null) {
+            return NOT_A_CHAIN;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            return new Getters(
+                    lookup.unreflectGetter(context).asType(GETTER_TYPE),
+                    lookup.unreflectGetter(owningEntity).asType(GETTER_TYPE));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return NOT_A_CHAIN;
+        }
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.ClassVisitor;
+
+/**
+ * A single bytecode fix applied to one Hytale class.
+ *
+ * Fixes are not registered with the server directly. {@link TransformerRouter} is the only
+ * ClassTransformer in META-INF/services; it indexes every fix by its target class and
+ * chains all fixes for a class over one ClassReader/ClassWriter pass.
+ */
+public interface ClassFix {
+
+    /**
+     * Fully qualified target class name, as passed to ClassTransformer.transform()
+     * (e.g. "com.hypixel.hytale.server.core.entity.InteractionChain").
+     */
+    String targetClass();
+
+    /**
+     * Short name used in log output (e.g. "InteractionChain transformation COMPLETE!").
+     */
+    String name();
+
+    /**
+     * Config key checked via EarlyConfigManager.isTransformerEnabled(), or null if the
+     * fix cannot be disabled.
+     */
+    default String configKey() {
+        return null;
+    }
+
+    /**
+     * Ordering between fixes for the same class - higher priority fixes see the
+     * original bytecode first.
+     */
+    default int priority() {
+        return 100;
+    }
+
+    /**
+     * Wrap the next visitor in the chain with this fix's visitor.
+     * Returning {@code next} unchanged means the fix has nothing to do for this class.
+     */
+    ClassVisitor createVisitor(ClassVisitor next);
+
+    /**
+     * Called after the class was visited with the visitor returned by createVisitor().
+     * Return false if the fix did not find anything to patch.
+     */
+    default boolean isApplied(ClassVisitor visitor) {
+        return true;
+    }
+}
@@ -1,9 +1,5 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
@@ -38,53 +34,29 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/12">GitHub Issue #12</a>
  */
-public class CommandBufferTransformer implements ClassTransformer {
+public class CommandBufferTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.component.CommandBuffer";
 
     @Override
-    public int priority() {
-        // High priority - we want this transformation to happen early
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the CommandBuffer class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
+    public String name() {
+        return "CommandBuffer";
+    }
 
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("commandBuffer")) {
-            info("CommandBufferTransformer DISABLED by config");
-            return classBytes;
-        }
+    @Override
+    public String configKey() {
+        return "commandBuffer";
+    }
 
-        separator();
-        info("Transforming CommandBuffer class...");
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
         verbose("Fixing removeComponent() race condition (Issue #12)");
         verbose("Making deferred removals use tryRemoveComponent()");
-        separator();
-
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new CommandBufferVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("CommandBuffer transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
-
-        } catch (Exception e) {
-            error("ERROR: Failed to transform CommandBuffer!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+        return new CommandBufferVisitor(next);
     }
 }
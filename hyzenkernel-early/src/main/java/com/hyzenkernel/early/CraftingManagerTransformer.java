@@ -0,0 +1,53 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.ClassVisitor;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * HyzenKernel Early Plugin - CraftingManager Bytecode Transformer
+ *
+ * Fixes the "Bench blockType is already set!" kick when a player opens a processing bench
+ * (campfire, crafting table, ...) while CraftingManager still holds the previous bench:
+ *   java.lang.IllegalArgumentException: Bench blockType is already set! Must be cleared (close UI).
+ *   at CraftingManager.setBench(CraftingManager.java:157)
+ *
+ * The previous bench is stale when its window was closed without clearing it (the close
+ * handler threw, rapid bench switching). The fix turns the guarded throw in setBench() into
+ * "clear the stale bench and continue" when {@link BenchWindows} knows the window that set
+ * the previous bench has closed ({@link BenchWindowTransformer} feeds it); otherwise the
+ * original throw stays.
+ *
+ * This replaces the runtime CraftingManagerSanitizer, which polled every player every
+ * tick to pre-clear stale benches.
+ */
+public class CraftingManagerTransformer implements ClassFix {
+
+    private static final String TARGET_CLASS = "com.hypixel.hytale.builtin.crafting.component.CraftingManager";
+
+    @Override
+    public String targetClass() {
+        return TARGET_CLASS;
+    }
+
+    @Override
+    public String name() {
+        return "CraftingManager";
+    }
+
+    @Override
+    public String configKey() {
+        return "craftingManager";
+    }
+
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
+        verbose("Fixing stale bench crash in CraftingManager.setBench()");
+        return new CraftingManagerVisitor(next);
+    }
+
+    @Override
+    public boolean isApplied(ClassVisitor visitor) {
+        return ((CraftingManagerVisitor) visitor).isTransformed();
+    }
+}
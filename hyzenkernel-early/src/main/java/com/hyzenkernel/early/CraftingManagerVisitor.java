@@ -0,0 +1,71 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.MethodNode;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * ASM ClassVisitor for CraftingManager.
+ *
+ * Wraps setBench() with {@link SetBenchMethodVisitor}. setBench() is buffered until the
+ * end of the class, so the visitor knows whether CraftingManager declares clearBench()
+ * (the method closing the bench UI calls) wherever it appears in the class file.
+ */
+public class CraftingManagerVisitor extends ClassVisitor {
+
+    private static final String TARGET_METHOD = "setBench";
+    private static final String CLEAR_METHOD = "clearBench";
+    private static final String CLEAR_DESCRIPTOR = "()V";
+
+    private String className;
+    private MethodNode setBenchNode;
+    // INVOKEVIRTUAL / INVOKESPECIAL (private) for clearBench(), or 0 if it doesn't exist
+    private int clearBenchOpcode = 0;
+    private SetBenchMethodVisitor setBench;
+
+    public CraftingManagerVisitor(ClassVisitor classVisitor) {
+        super(Opcodes.ASM9, classVisitor);
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        this.className = name;
+        super.visit(version, access, name, signature, superName, interfaces);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        if (name.equals(CLEAR_METHOD) && descriptor.equals(CLEAR_DESCRIPTOR) && (access & Opcodes.ACC_STATIC) == 0) {
+            clearBenchOpcode = (access & Opcodes.ACC_PRIVATE) != 0 ? Opcodes.INVOKESPECIAL : Opcodes.INVOKEVIRTUAL;
+        }
+
+        if (name.equals(TARGET_METHOD) && (access & Opcodes.ACC_STATIC) == 0 && setBenchNode == null) {
+            verbose("Found method: " + className + "." + name + descriptor);
+            setBenchNode = new MethodNode(Opcodes.ASM9, access, name, descriptor, signature, exceptions);
+            return setBenchNode;
+        }
+
+        return super.visitMethod(access, name, descriptor, signature, exceptions);
+    }
+
+    @Override
+    public void visitEnd() {
+        if (setBenchNode != null) {
+            MethodVisitor mv = super.visitMethod(setBenchNode.access, setBenchNode.name, setBenchNode.desc,
+                    setBenchNode.signature, setBenchNode.exceptions.toArray(new String[0]));
+            setBench = new SetBenchMethodVisitor(mv, className, clearBenchOpcode);
+            setBenchNode.accept(setBench);
+        }
+        super.visitEnd();
+    }
+
+    /**
+     * Check if the "already set" throw was found and replaced.
+     */
+    public boolean isTransformed() {
+        return setBench != null && setBench.isPatched();
+    }
+}
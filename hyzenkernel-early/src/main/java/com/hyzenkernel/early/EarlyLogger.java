@@ -2,6 +2,8 @@ package com.hyzenkernel.early;
 
 import com.hyzenkernel.early.config.EarlyConfigManager;
 
+import java.io.PrintStream;
+
 /**
  * Centralized logging for the HyzenKernel Early Plugin with verbose gating.
  * 
@@ -14,10 +16,54 @@ import com.hyzenkernel.early.config.EarlyConfigManager;
  * - Config: config.early.logging.verbose = true
  * - ENV: HYFIXES_VERBOSE=true
  * - JVM: -Dhyzenkernel.verbose=true
+ *
+ * Output is asynchronous by default (config.early.logging.async): messages go through
+ * {@link LogRateLimiter} and a lock-free ring buffer drained by a daemon thread
+ * ({@link AsyncLogSink}), so a log storm during a lag spike never blocks the thread that
+ * triggered it on the System.out lock.
  */
 public class EarlyLogger {
     
     private static final String PREFIX = "[HyzenKernel-Early] ";
+
+    private static final class Async {
+        static final LogRateLimiter LIMITER = new LogRateLimiter();
+        static final AsyncLogSink SINK = new AsyncLogSink(PREFIX, LIMITER);
+    }
+
+    private static void out(String message) {
+        write(message, null, false, true);
+    }
+
+    private static void err(String message, Throwable t) {
+        write(message, t, true, true);
+    }
+
+    private static void write(String message, Throwable t, boolean stderr, boolean rateLimited) {
+        if (!EarlyConfigManager.getInstance().isAsyncLogging()) {
+            PrintStream stream = stderr ? System.err : System.out;
+            stream.println(PREFIX + message);
+            if (t != null) {
+                t.printStackTrace();
+            }
+            return;
+        }
+
+        if (rateLimited && !Async.LIMITER.tryAcquire(message)) {
+            Async.SINK.wake();  // the suppressed count needs its summary
+            return;
+        }
+        Async.SINK.offer(new AsyncLogSink.LogEntry(message, t, stderr));
+    }
+
+    /**
+     * Write out everything still queued (used by short-lived tools such as {@link PrePatcher}).
+     */
+    public static void flush() {
+        if (EarlyConfigManager.getInstance().isAsyncLogging()) {
+            Async.SINK.flush();
+        }
+    }
     
     /**
      * Always print - used for:
@@ -27,7 +73,7 @@ public class EarlyLogger {
      * - Critical success/failure summaries
      */
     public static void info(String message) {
-        System.out.println(PREFIX + message);
+        out(message);
     }
     
     /**
@@ -40,7 +86,7 @@ public class EarlyLogger {
      */
     public static void verbose(String message) {
         if (EarlyConfigManager.getInstance().isVerbose()) {
-            System.out.println(PREFIX + message);
+            out(message);
         }
     }
     
@@ -48,22 +94,22 @@ public class EarlyLogger {
      * Always print errors to stderr.
      */
     public static void error(String message) {
-        System.err.println(PREFIX + message);
+        err(message, null);
     }
     
     /**
      * Always print errors with exception stack trace.
      */
     public static void error(String message, Throwable t) {
-        System.err.println(PREFIX + message);
-        t.printStackTrace();
+        err(message, t);
     }
     
     /**
      * Print a separator line (always visible).
      */
     public static void separator() {
-        System.out.println(PREFIX + "================================================");
+        // Separators frame every transformation at boot - never rate limited
+        write("================================================", null, false, false);
     }
     
     /**
@@ -71,7 +117,7 @@ public class EarlyLogger {
      */
     public static void verboseSeparator() {
         if (EarlyConfigManager.getInstance().isVerbose()) {
-            System.out.println(PREFIX + "------------------------------------------------");
+            write("------------------------------------------------", null, false, false);
         }
     }
 }
@@ -0,0 +1,45 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Emits calls to {@link FixCounters} from method visitors.
+ *
+ * Every call leaves the operand stack as it found it.
+ */
+final class FixCounterCalls {
+
+    private static final String OWNER = "com/hyzenkernel/early/FixCounters";
+
+    private FixCounterCalls() {
+    }
+
+    /**
+     * FixCounters.hit(fixId);
+     */
+    static void emitHit(MethodVisitor mv, String fixId) {
+        mv.visitLdcInsn(fixId);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, OWNER, "hit", "(Ljava/lang/String;)V", false);
+    }
+
+    /**
+     * FixCounters.hit(fixId, message);
+     */
+    static void emitHit(MethodVisitor mv, String fixId, String message) {
+        mv.visitLdcInsn(fixId);
+        mv.visitLdcInsn(message);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, OWNER, "hit", "(Ljava/lang/String;Ljava/lang/String;)V", false);
+    }
+
+    /**
+     * FixCounters.hit(fixId, message, &lt;local detailSlot&gt;);
+     */
+    static void emitHit(MethodVisitor mv, String fixId, String message, int detailSlot) {
+        mv.visitLdcInsn(fixId);
+        mv.visitLdcInsn(message);
+        mv.visitVarInsn(Opcodes.ALOAD, detailSlot);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, OWNER, "hit",
+                "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/Object;)V", false);
+    }
+}
@@ -0,0 +1,91 @@
+package com.hyzenkernel.early;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free hit counters for code injected into Hytale classes.
+ *
+ * Patched methods call {@link #hit} from their fix branches instead of System.out.println,
+ * so a fix firing on the world thread costs a map lookup and a LongAdder increment - no
+ * PrintStream lock and no string concatenation. At most one message per fix is printed per
+ * {@link #SAMPLE_INTERVAL_NANOS}, with the number of hits since the last printed one.
+ *
+ * Fix IDs are "&lt;transformers config key&gt;.&lt;event&gt;". The runtime plugin reads
+ * {@link #snapshot()} through reflection for /interactionstatus.
+ *
+ * Bytecode for the calls is emitted by {@link FixCounterCalls}.
+ */
+public final class FixCounters {
+
+    static final long SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    private static final class Counter {
+        final LongAdder hits = new LongAdder();
+        final AtomicLong nextSampleNanos = new AtomicLong(System.nanoTime());
+        final AtomicLong hitsAtLastSample = new AtomicLong();
+    }
+
+    private FixCounters() {
+    }
+
+    private static Counter counter(String fixId) {
+        Counter counter = COUNTERS.get(fixId);
+        return counter != null ? counter : COUNTERS.computeIfAbsent(fixId, k -> new Counter());
+    }
+
+    /**
+     * Count a fix without logging.
+     */
+    public static void hit(String fixId) {
+        counter(fixId).hits.increment();
+    }
+
+    /**
+     * Count a fix and print the message if this fix hasn't logged within the sample interval.
+     */
+    public static void hit(String fixId, String message) {
+        hit(fixId, message, null);
+    }
+
+    /**
+     * Like {@link #hit(String, String)}, but {@code detail} is only turned into a string
+     * (and appended to the message) when the message is actually printed.
+     */
+    public static void hit(String fixId, String message, Object detail) {
+        Counter counter = counter(fixId);
+        counter.hits.increment();
+
+        long now = System.nanoTime();
+        long next = counter.nextSampleNanos.get();
+        if (now - next < 0 || !counter.nextSampleNanos.compareAndSet(next, now + SAMPLE_INTERVAL_NANOS)) {
+            return;
+        }
+
+        long total = counter.hits.sum();
+        long sinceLast = total - counter.hitsAtLastSample.getAndSet(total);
+        StringBuilder sb = new StringBuilder(message);
+        if (detail != null) {
+            sb.append(detail);
+        }
+        if (sinceLast > 1) {
+            sb.append(" (x").append(sinceLast).append(" since last report)");
+        }
+        EarlyLogger.info(sb.toString());
+    }
+
+    /**
+     * Hit count per fix ID, sorted by ID.
+     */
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> result = new TreeMap<>();
+        COUNTERS.forEach((id, counter) -> result.put(id, counter.hits.sum()));
+        return result;
+    }
+}
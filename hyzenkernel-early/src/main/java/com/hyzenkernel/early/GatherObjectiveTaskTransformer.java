@@ -0,0 +1,52 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.ClassVisitor;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * HyzenKernel Early Plugin - GatherObjectiveTask Bytecode Transformer
+ *
+ * Fixes the quest crash when a gather objective's callback runs for an entity that no
+ * longer exists:
+ *   java.lang.NullPointerException: Cannot invoke "com.hypixel.hytale.component.Ref.validate()" because "ref" is null
+ *   at com.hypixel.hytale.component.Store.__internal_getComponent(Store.java:1222)
+ *   at com.hypixel.hytale.builtin.adventure.objectives.task.GatherObjectiveTask.lambda$setup0$1(GatherObjectiveTask.java:65)
+ *
+ * The fix guards the getComponent(ref, type) calls in the setup0 lambdas: a null or
+ * invalid ref makes the lambda return early, so that update is skipped and the task
+ * stays as it was.
+ *
+ * This replaces the runtime GatherObjectiveTaskSanitizer, which scanned every player's
+ * objectives every tick looking for null refs.
+ */
+public class GatherObjectiveTaskTransformer implements ClassFix {
+
+    private static final String TARGET_CLASS = "com.hypixel.hytale.builtin.adventure.objectives.task.GatherObjectiveTask";
+
+    @Override
+    public String targetClass() {
+        return TARGET_CLASS;
+    }
+
+    @Override
+    public String name() {
+        return "GatherObjectiveTask";
+    }
+
+    @Override
+    public String configKey() {
+        return "gatherObjectiveTask";
+    }
+
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
+        verbose("Fixing null ref crash in GatherObjectiveTask setup lambdas");
+        return new GatherObjectiveTaskVisitor(next);
+    }
+
+    @Override
+    public boolean isApplied(ClassVisitor visitor) {
+        return ((GatherObjectiveTaskVisitor) visitor).isTransformed();
+    }
+}
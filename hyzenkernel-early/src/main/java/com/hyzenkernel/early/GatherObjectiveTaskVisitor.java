@@ -0,0 +1,60 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * ASM ClassVisitor for GatherObjectiveTask.
+ * Wraps the lambda$setup0$ methods with {@link GatherSetupLambdaMethodVisitor}.
+ */
+public class GatherObjectiveTaskVisitor extends ClassVisitor {
+
+    // From stack trace: GatherObjectiveTask.lambda$setup0$1(GatherObjectiveTask.java:65)
+    private static final String LAMBDA_METHOD_PREFIX = "lambda$setup0$";
+
+    private String className;
+    private final List<GatherSetupLambdaMethodVisitor> lambdas = new ArrayList<>();
+
+    public GatherObjectiveTaskVisitor(ClassVisitor cv) {
+        super(Opcodes.ASM9, cv);
+    }
+
+    @Override
+    public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+        this.className = name;
+        super.visit(version, access, name, signature, superName, interfaces);
+    }
+
+    @Override
+    public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+        MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
+
+        // There can be several setup0 lambdas; only those calling getComponent(ref, type) change
+        if (name.startsWith(LAMBDA_METHOD_PREFIX)) {
+            verbose("Found lambda method: " + className + "." + name + descriptor);
+            GatherSetupLambdaMethodVisitor lambda = new GatherSetupLambdaMethodVisitor(mv, name, descriptor);
+            lambdas.add(lambda);
+            return lambda;
+        }
+
+        return mv;
+    }
+
+    /**
+     * Check if at least one getComponent call was guarded.
+     */
+    public boolean isTransformed() {
+        for (GatherSetupLambdaMethodVisitor lambda : lambdas) {
+            if (lambda.getGuardedCalls() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
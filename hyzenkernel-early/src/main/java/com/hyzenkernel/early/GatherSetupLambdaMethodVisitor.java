@@ -0,0 +1,112 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * ASM MethodVisitor that guards getComponent(ref, type) calls in a GatherObjectiveTask
+ * setup0 lambda against null and invalid refs.
+ *
+ * The original call:
+ *   Component c = store.getComponent(ref, type);   // NPE in Store if ref is null
+ *
+ * The transformed call:
+ *   if (ref == null || !ref.isValid()) {
+ *       FixCounters.hit("gatherObjectiveTask.invalidRef", "...");
+ *       return;                                      // or 0 / false / null
+ *   }
+ *   Component c = store.getComponent(ref, type);
+ *
+ * The check works on the operand stack just before the call, so it doesn't matter
+ * which local or field the ref came from. The receiver and arguments still on the stack
+ * are discarded by the early return.
+ */
+public class GatherSetupLambdaMethodVisitor extends MethodVisitor {
+
+    private static final String GET_COMPONENT_METHOD = "getComponent";
+    private static final String REF_CLASS = "com/hypixel/hytale/component/Ref";
+    private static final String GET_COMPONENT_DESC_PREFIX =
+            "(L" + REF_CLASS + ";Lcom/hypixel/hytale/component/ComponentType;)";
+
+    private final String methodName;
+    private final Type returnType;
+    private int guardedCalls = 0;
+
+    public GatherSetupLambdaMethodVisitor(MethodVisitor mv, String methodName, String descriptor) {
+        super(Opcodes.ASM9, mv);
+        this.methodName = methodName;
+        this.returnType = Type.getReturnType(descriptor);
+    }
+
+    public int getGuardedCalls() {
+        return guardedCalls;
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+        if (opcode == Opcodes.INVOKESPECIAL || opcode == Opcodes.INVOKESTATIC
+                || !name.equals(GET_COMPONENT_METHOD) || !descriptor.startsWith(GET_COMPONENT_DESC_PREFIX)) {
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+            return;
+        }
+
+        Label nullRef = new Label();
+        Label invalidRef = new Label();
+        Label call = new Label();
+
+        // Stack: store, ref, type
+        mv.visitInsn(Opcodes.DUP2);
+        mv.visitInsn(Opcodes.POP);
+        mv.visitInsn(Opcodes.DUP);
+        // Stack: store, ref, type, ref, ref
+        mv.visitJumpInsn(Opcodes.IFNULL, nullRef);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, REF_CLASS, "isValid", "()Z", false);
+        mv.visitJumpInsn(Opcodes.IFEQ, invalidRef);
+        mv.visitJumpInsn(Opcodes.GOTO, call);
+
+        // Stack: store, ref, type, ref
+        mv.visitLabel(nullRef);
+        mv.visitInsn(Opcodes.POP);
+        // Stack: store, ref, type
+        mv.visitLabel(invalidRef);
+        FixCounterCalls.emitHit(mv, "gatherObjectiveTask.invalidRef",
+                "Skipped GatherObjectiveTask update for a null/invalid entity ref");
+        emitDefaultReturn();
+
+        mv.visitLabel(call);
+        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+
+        guardedCalls++;
+        verbose("  Guarded " + owner + "." + name + " call in " + methodName);
+    }
+
+    private void emitDefaultReturn() {
+        switch (returnType.getSort()) {
+            case Type.VOID -> mv.visitInsn(Opcodes.RETURN);
+            case Type.BOOLEAN, Type.CHAR, Type.BYTE, Type.SHORT, Type.INT -> {
+                mv.visitInsn(Opcodes.ICONST_0);
+                mv.visitInsn(Opcodes.IRETURN);
+            }
+            case Type.LONG -> {
+                mv.visitInsn(Opcodes.LCONST_0);
+                mv.visitInsn(Opcodes.LRETURN);
+            }
+            case Type.FLOAT -> {
+                mv.visitInsn(Opcodes.FCONST_0);
+                mv.visitInsn(Opcodes.FRETURN);
+            }
+            case Type.DOUBLE -> {
+                mv.visitInsn(Opcodes.DCONST_0);
+                mv.visitInsn(Opcodes.DRETURN);
+            }
+            default -> {
+                mv.visitInsn(Opcodes.ACONST_NULL);
+                mv.visitInsn(Opcodes.ARETURN);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * ClassWriter whose frame computation never loads classes.
+ *
+ * ASM's default getCommonSuperClass() calls Class.forName() on both types, which can
+ * load (and initialize) Hytale classes in the middle of a transform - slow, able to
+ * recurse back into the transformer, and it skews class-initialization order at boot.
+ * This writer answers the same question from {@link TypeHierarchy}, which only reads
+ * class file headers. ASM's default is kept purely as a fallback for types whose bytes
+ * can't be found.
+ */
+public class HierarchyClassWriter extends ClassWriter {
+
+    private static final String OBJECT = "java/lang/Object";
+
+    public HierarchyClassWriter(ClassReader classReader, int flags) {
+        super(classReader, flags);
+    }
+
+    @Override
+    protected String getCommonSuperClass(String type1, String type2) {
+        TypeHierarchy hierarchy = TypeHierarchy.INSTANCE;
+
+        Boolean oneFromTwo = hierarchy.isAssignableFrom(type1, type2);
+        Boolean twoFromOne = hierarchy.isAssignableFrom(type2, type1);
+        if (oneFromTwo == null || twoFromOne == null) {
+            verbose("Type hierarchy incomplete for " + type1 + " / " + type2 + " - falling back to class loading");
+            return super.getCommonSuperClass(type1, type2);
+        }
+        if (oneFromTwo) {
+            return type1;
+        }
+        if (twoFromOne) {
+            return type2;
+        }
+
+        TypeHierarchy.TypeInfo info1 = hierarchy.get(type1);
+        TypeHierarchy.TypeInfo info2 = hierarchy.get(type2);
+        if (info1.isInterface() || info2.isInterface()) {
+            return OBJECT;
+        }
+
+        // Walk type1's superclass chain until we reach something type2 is assignable to
+        String candidate = type1;
+        while (true) {
+            TypeHierarchy.TypeInfo info = hierarchy.get(candidate);
+            if (info == null || info.superName() == null) {
+                return OBJECT;
+            }
+            candidate = info.superName();
+            Boolean assignable = hierarchy.isAssignableFrom(candidate, type2);
+            if (assignable == null) {
+                return super.getCommonSuperClass(type1, type2);
+            }
+            if (assignable) {
+                return candidate;
+            }
+        }
+    }
+}
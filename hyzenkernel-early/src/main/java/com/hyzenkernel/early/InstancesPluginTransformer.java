@@ -1,10 +1,6 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
-import org.objectweb.asm.ClassWriter;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
 
@@ -14,48 +10,28 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  * Rewrites spawnInstance(String, World, Transform) to reuse a shared instance
  * per instanceId (portal optimization).
  */
-public class InstancesPluginTransformer implements ClassTransformer {
+public class InstancesPluginTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.builtin.instances.InstancesPlugin";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("staticSharedInstances")) {
-            info("InstancesPluginTransformer DISABLED by config");
-            return classBytes;
-        }
-
-        separator();
-        info("Transforming InstancesPlugin...");
+    public String name() {
+        return "InstancesPlugin";
+    }
+
+    @Override
+    public String configKey() {
+        return "staticSharedInstances";
+    }
+
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
         verbose("Rewriting spawnInstance() to reuse shared portal instances");
-        separator();
-
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new InstancesPluginVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("InstancesPlugin transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
-        } catch (Exception e) {
-            error("ERROR: Failed to transform InstancesPlugin!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+        return new InstancesPluginVisitor(next);
     }
 }
@@ -1,5 +1,6 @@
 package com.hyzenkernel.early;
 
+import com.hyzenkernel.early.config.EarlyConfigManager;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -12,6 +13,13 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  * This visitor intercepts problematic methods and applies fixes:
  * 1. putInteractionSyncData - buffer overflow when data arrives out of order
  * 2. updateSyncPosition - throws IllegalArgumentException on sync gaps
+ * 3. All methods but constructors - report clientState / serverState changes to
+ *    {@link InteractionDirtySet}, and waitingForClientFinished / clientState writes to
+ *    {@link ChainLifecycleStats}
+ *
+ * It also adds a private int {@link SyncBufferStats#HIGH_WATER_FIELD} field that the
+ * patched putInteractionSyncData uses to track the chain's largest sync buffer, and a
+ * public Object {@link ChainLifecycleStats#FIELD} field holding the chain's lifecycle timer.
  */
 public class InteractionChainVisitor extends ClassVisitor {
 
@@ -35,10 +43,18 @@ public class InteractionChainVisitor extends ClassVisitor {
     public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
         MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
 
+        // clientState / serverState changes mark the owning entity for InteractionManagerSanitizer
+        // client wait/state writes feed the chain's waiting time into ChainLifecycleStats
+        if (!name.startsWith("<")) {
+            mv = new ChainDirtyMarkerMethodVisitor(mv, name, false);
+            mv = new ChainLifecycleMethodVisitor(mv, access, name, descriptor, false);
+        }
+
         if (name.equals(PUT_SYNC_DATA_METHOD)) {
             verbose("Found method: " + name + descriptor);
             verbose("Applying buffer overflow fix...");
-            return new PutSyncDataMethodVisitor(mv, className);
+            int maxEntries = EarlyConfigManager.getInstance().getSyncBufferConfig().maxEntries;
+            return new PutSyncDataMethodVisitor(mv, className, maxEntries);
         }
 
         if (name.equals(UPDATE_SYNC_POSITION_METHOD)) {
@@ -57,4 +73,13 @@ public class InteractionChainVisitor extends ClassVisitor {
 
         return mv;
     }
+
+    @Override
+    public void visitEnd() {
+        cv.visitField(Opcodes.ACC_PRIVATE, SyncBufferStats.HIGH_WATER_FIELD, "I", null, null).visitEnd();
+        // Public so ChainLifecycleStats can reach it with a plain VarHandle lookup
+        cv.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_TRANSIENT, ChainLifecycleStats.FIELD,
+                "Ljava/lang/Object;", null, null).visitEnd();
+        super.visitEnd();
+    }
 }
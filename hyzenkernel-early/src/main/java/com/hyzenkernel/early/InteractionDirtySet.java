@@ -0,0 +1,219 @@
+package com.hyzenkernel.early;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Entities whose InteractionManager changed since the runtime InteractionManagerSanitizer
+ * last looked at them, fed by the bytecode that {@link ChainDirtyMarkerMethodVisitor} injects.
+ *
+ * A chain marks its owning entity dirty when it's put into an InteractionManager chains map
+ * or its clientState / serverState changes. The owning entity is InteractionContext.owningEntity (a Ref);
+ * one concurrent bitset per Store, indexed by Ref.getIndex(). The sanitizer claims (tests
+ * and clears) an entity's bit each tick and only scans chains of dirty entities.
+ *
+ * Chains without a resolvable owner (null context - exactly what the sanitizer removes)
+ * can't be attributed to an entity, so they bump {@link #fullSweepGeneration()} instead
+ * and the sanitizer scans everything once.
+ *
+ * Stores are held weakly: an unloaded world's bitset goes away with its Store.
+ */
+public final class InteractionDirtySet {
+
+    static final String OWNER = "com/hyzenkernel/early/InteractionDirtySet";
+
+    private static final Map<Object, Bits> byStore = Collections.synchronizedMap(new WeakHashMap<>());
+    // World threads keep claiming from the same Store - skip the synchronized map for them
+    private static final ThreadLocal<Bits> lastBits = new ThreadLocal<>();
+
+    private static final AtomicLong fullSweepGeneration = new AtomicLong();
+    private static final AtomicLong marks = new AtomicLong();
+    private static final AtomicLong unresolved = new AtomicLong();
+    private static volatile boolean active = false;
+
+    private static final ClassValue<MethodHandle[]> REF_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            return refAccessors(type);
+        }
+    };
+
+    private InteractionDirtySet() {
+    }
+
+    // ============================================
+    // Called from injected bytecode
+    // ============================================
+
+    /**
+     * The chain was added to an InteractionManager or its client/server state changed.
+     */
+    public static void markChain(Object chain) {
+        if (!ChainOwners.isChain(chain)) {
+            return;
+        }
+        active = true;
+        Object ref = ChainOwners.owner(chain);
+        MethodHandle[] accessors = ref != null ? REF_ACCESSORS.get(ref.getClass()) : null;
+        if (accessors != null) {
+            try {
+                Object store = (Object) accessors[0].invokeExact(ref);
+                int index = (int) accessors[1].invokeExact(ref);
+                if (store != null && index >= 0) {
+                    mark(store, index);
+                    marks.incrementAndGet();
+                    return;
+                }
+            } catch (Throwable ignored) {
+                // Fall through to a full sweep
+            }
+        }
+        unresolved.incrementAndGet();
+        fullSweepGeneration.incrementAndGet();
+    }
+
+    // ============================================
+    // Sanitizer API (used by the runtime plugin via reflection)
+    // ============================================
+
+    /**
+     * Whether the injected hooks have fired at least once. Until then (early fix disabled,
+     * or no chain created yet) callers must not rely on the dirty bits.
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Mark an entity dirty (e.g. to revisit it because it still has chains waiting on the client).
+     */
+    public static void mark(Object store, int index) {
+        bits(store).set(index);
+    }
+
+    /**
+     * Test and clear an entity's dirty bit.
+     */
+    public static boolean claim(Object store, int index) {
+        return bits(store).claim(index);
+    }
+
+    /**
+     * Bumped whenever a chain couldn't be attributed to an entity; a change means "scan everyone".
+     */
+    public static long fullSweepGeneration() {
+        return fullSweepGeneration.get();
+    }
+
+    /**
+     * [marks, unresolved marks (full sweeps requested), stores tracked]
+     */
+    public static long[] totals() {
+        return new long[]{marks.get(), unresolved.get(), byStore.size()};
+    }
+
+    // ============================================
+    // Internals
+    // ============================================
+
+    private static Bits bits(Object store) {
+        Bits cached = lastBits.get();
+        if (cached != null && cached.store.get() == store) {
+            return cached;
+        }
+        Bits bits;
+        synchronized (byStore) {
+            bits = byStore.computeIfAbsent(store, Bits::new);
+        }
+        lastBits.set(bits);
+        return bits;
+    }
+
+    /**
+     * Ref.getStore() / Ref.getIndex() adapted to Object(Object) and int(Object), or null.
+     */
+    private static MethodHandle[] refAccessors(Class<?> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle getStore = lookup.unreflect(type.getMethod("getStore"))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            MethodHandle getIndex = lookup.unreflect(type.getMethod("getIndex"))
+                    .asType(MethodType.methodType(int.class, Object.class));
+            return new MethodHandle[]{getStore, getIndex};
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Growable concurrent bitset. A set racing with a grow is repeated on the new array,
+     * so marks are never lost; a claim racing with a grow may leave a stale bit set, which
+     * only costs one extra scan.
+     */
+    private static final class Bits {
+
+        final WeakReference<Object> store;
+        volatile AtomicLongArray words = new AtomicLongArray(16);
+
+        Bits(Object store) {
+            this.store = new WeakReference<>(store);
+        }
+
+        void set(int index) {
+            int word = index >>> 6;
+            long bit = 1L << index;
+            AtomicLongArray current = words;
+            while (true) {
+                if (word >= current.length()) {
+                    current = grow(word + 1);
+                }
+                long w = current.get(word);
+                while ((w & bit) == 0 && !current.compareAndSet(word, w, w | bit)) {
+                    w = current.get(word);
+                }
+                AtomicLongArray latest = words;
+                if (latest == current) {
+                    return;
+                }
+                current = latest;
+            }
+        }
+
+        boolean claim(int index) {
+            int word = index >>> 6;
+            AtomicLongArray current = words;
+            if (word >= current.length()) {
+                return false;
+            }
+            long bit = 1L << index;
+            long w = current.get(word);
+            while ((w & bit) != 0) {
+                if (current.compareAndSet(word, w, w & ~bit)) {
+                    return true;
+                }
+                w = current.get(word);
+            }
+            return false;
+        }
+
+        private synchronized AtomicLongArray grow(int minWords) {
+            AtomicLongArray current = words;
+            if (current.length() >= minWords) {
+                return current;
+            }
+            AtomicLongArray grown = new AtomicLongArray(Math.max(minWords, current.length() * 2));
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            words = grown;
+            return grown;
+        }
+    }
+}
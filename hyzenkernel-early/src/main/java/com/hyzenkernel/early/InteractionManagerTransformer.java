@@ -1,9 +1,5 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
@@ -22,55 +18,41 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  * The InteractionManager logs massive amounts of data at SEVERE level when there's
  * a client/server desync ("Client finished chain earlier than server!"). These logs
  * dump full InteractionContext objects which can produce hundreds of lines per occurrence.
- * We downgrade these logs from SEVERE to FINE (debug) level.
+ * We count them instead (interactionManager.clientFinishedChain) and only build and
+ * log the message (at FINE) when FINE is enabled for the InteractionManager logger.
+ *
+ * Instrumentation (no behaviour change):
+ * - chain additions and client/server state changes mark the owning entity in {@link InteractionDirtySet},
+ *   so InteractionManagerSanitizer only scans entities whose chains changed
+ * - chain start, time waiting for client data, cancellation/timeout and removal are
+ *   recorded per root interaction in {@link ChainLifecycleStats}
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/40">Issue #40</a>
  */
-public class InteractionManagerTransformer implements ClassTransformer {
+public class InteractionManagerTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.entity.InteractionManager";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
+    public String name() {
+        return "InteractionManager";
+    }
 
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("interactionManager")) {
-            info("InteractionManagerTransformer DISABLED by config");
-            return classBytes;
-        }
+    @Override
+    public String configKey() {
+        return "interactionManager";
+    }
 
-        separator();
-        info("Transforming InteractionManager class...");
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
         verbose("  - Fixing serverTick() client timeout bug (Issue #40)");
         verbose("  - Suppressing 'Client finished chain' log spam");
-        separator();
-
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new InteractionManagerVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("InteractionManager transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
-
-        } catch (Exception e) {
-            error("ERROR: Failed to transform InteractionManager!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+        verbose("  - Recording chain changes and lifecycle metrics");
+        return new InteractionManagerVisitor(next);
     }
 }
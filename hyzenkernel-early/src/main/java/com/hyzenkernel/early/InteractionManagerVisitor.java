@@ -11,7 +11,10 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *
  * This visitor intercepts methods and applies fixes:
  * - serverTick - throws RuntimeException when client is too slow (Issue #40)
- * - All methods - downgrades "Client finished chain" log spam from SEVERE to FINE
+ * - All methods - counts "Client finished chain" log spam instead of formatting it (FINE only)
+ * - All methods but constructors - report chain additions and client/server state changes to
+ *   {@link InteractionDirtySet}, and chain start/cancel/end (map or iterator removal) to
+ *   {@link ChainLifecycleStats}
  */
 public class InteractionManagerVisitor extends ClassVisitor {
 
@@ -33,9 +36,15 @@ public class InteractionManagerVisitor extends ClassVisitor {
     public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
         MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
 
-        // Apply log suppression to all methods (downgrades "Client finished chain" spam)
+        // Apply log suppression to all methods ("Client finished chain" spam)
         mv = new LogSuppressorMethodVisitor(mv);
 
+        // Chain additions / state changes mark the owning entity for InteractionManagerSanitizer
+        if (!name.startsWith("<")) {
+            mv = new ChainDirtyMarkerMethodVisitor(mv, name, true);
+            mv = new ChainLifecycleMethodVisitor(mv, access, name, descriptor, true);
+        }
+
         if (name.equals(SERVER_TICK_METHOD)) {
             verbose("Found method: " + name + descriptor);
             verbose("Applying client timeout fix (Issue #40)...");
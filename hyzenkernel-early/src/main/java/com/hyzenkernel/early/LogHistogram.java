@@ -0,0 +1,80 @@
+package com.hyzenkernel.early;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Lock-free histogram with power-of-two buckets for non-negative values.
+ *
+ * Bucket 0 holds 0, bucket b (b >= 1) holds [2^(b-1), 2^b - 1]. Recording is a single
+ * AtomicLongArray increment plus a max update, so it is safe to call from injected
+ * bytecode on any thread. Percentiles are resolved to the upper bound of the bucket
+ * they fall in (capped at the observed max) - precise enough for "how bad is it"
+ * questions, at a fixed 64 buckets per histogram.
+ */
+public final class LogHistogram {
+
+    static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long value) {
+        if (value < 0) {
+            return;
+        }
+        buckets.incrementAndGet(bucketOf(value));
+        max.accumulate(value);
+    }
+
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Value at quantile {@code q} (0..1), or 0 if nothing was recorded.
+     */
+    public long percentile(double q) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * [count, p50, p99, max]
+     */
+    public long[] summary() {
+        return new long[]{count(), percentile(0.50), percentile(0.99), max()};
+    }
+
+    static int bucketOf(long value) {
+        return 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    static long upperBound(int bucket) {
+        return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,125 @@
+package com.hyzenkernel.early;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-message token buckets for {@link EarlyLogger}.
+ *
+ * Messages are grouped by a key - the text up to the first digit, capped at
+ * {@link #KEY_LENGTH} characters - so "Retry 1 of 5" and "Retry 2 of 5" share a bucket.
+ * Each bucket allows a burst of {@link #BURST} messages and refills at
+ * {@link #REFILL_PER_SECOND} per second; anything beyond that is counted and later
+ * reported by the drain thread as "N similar messages suppressed".
+ */
+final class LogRateLimiter {
+
+    static final int KEY_LENGTH = 48;
+    static final int BURST = 50;
+    static final int REFILL_PER_SECOND = 5;
+    private static final int MAX_KEYS = 1024;
+    private static final long NANOS_PER_TOKEN = TimeUnit.SECONDS.toNanos(1) / REFILL_PER_SECOND;
+
+    private static final class Bucket {
+        private double tokens = BURST;
+        private long lastRefill = System.nanoTime();
+        final AtomicLong suppressed = new AtomicLong();
+
+        synchronized boolean tryAcquire(long now) {
+            tokens = Math.min(BURST, tokens + (double) (now - lastRefill) / NANOS_PER_TOKEN);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    // Suppressed counts of buckets dropped by the MAX_KEYS reset, until the next report
+    private final Map<String, Long> evicted = new ConcurrentHashMap<>();
+
+    /**
+     * Whether a message may be logged now. Suppressed messages are counted per key.
+     */
+    boolean tryAcquire(String message) {
+        String key = keyOf(message);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= MAX_KEYS) {
+                // Unbounded distinct messages - start over rather than grow forever,
+                // keeping the pending counts for the next report
+                evictAll();
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+        }
+
+        if (bucket.tryAcquire(System.nanoTime())) {
+            return true;
+        }
+        bucket.suppressed.incrementAndGet();
+        return false;
+    }
+
+    private void evictAll() {
+        buckets.forEach((key, bucket) -> {
+            long count = bucket.suppressed.getAndSet(0);
+            if (count > 0) {
+                evicted.merge(key, count, Long::sum);
+            }
+        });
+        buckets.clear();
+    }
+
+    /**
+     * Report and reset suppressed counts (called from the drain thread).
+     */
+    void drainSuppressed(BiConsumer<String, Long> reporter) {
+        Map<String, Long> counts = new HashMap<>();
+        for (String key : evicted.keySet()) {
+            Long count = evicted.remove(key);
+            if (count != null) {
+                counts.merge(key, count, Long::sum);
+            }
+        }
+        buckets.forEach((key, bucket) -> {
+            long count = bucket.suppressed.getAndSet(0);
+            if (count > 0) {
+                counts.merge(key, count, Long::sum);
+            }
+        });
+        counts.forEach(reporter);
+    }
+
+    /**
+     * Whether any suppressed count is waiting to be reported.
+     */
+    boolean hasSuppressed() {
+        if (!evicted.isEmpty()) {
+            return true;
+        }
+        for (Bucket bucket : buckets.values()) {
+            if (bucket.suppressed.get() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String keyOf(String message) {
+        int end = Math.min(message.length(), KEY_LENGTH);
+        for (int i = 0; i < end; i++) {
+            if (Character.isDigit(message.charAt(i))) {
+                end = i;
+                break;
+            }
+        }
+        return message.substring(0, end);
+    }
+}
@@ -0,0 +1,75 @@
+package com.hyzenkernel.early;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runtime side of {@link LogSuppressorMethodVisitor}: decides whether the suppressed
+ * "Client finished chain" messages are worth building at all.
+ *
+ * HytaleLogger is backed by java.util.logging and names its loggers after the class,
+ * so FINE on "com.hypixel.hytale.server.core.entity.InteractionManager" (or a parent)
+ * brings the full messages back for debugging. Otherwise the injected code only counts
+ * the event and never runs the InteractionContext toString() chain.
+ *
+ * With details enabled, HytaleLogger (Flogger API) calls are not made on their original
+ * at(Level.SEVERE) receiver but re-routed here: the injected code passes the arguments to
+ * {@link #arg} and the message to {@link #logFine}, which logs at FINE.
+ */
+public final class LogSuppression {
+
+    static final String OWNER = "com/hyzenkernel/early/LogSuppression";
+
+    private static final Logger INTERACTION_MANAGER_LOGGER =
+            Logger.getLogger("com.hypixel.hytale.server.core.entity.InteractionManager");
+
+    // Arguments of the log call being re-routed, last one first
+    private static final ThreadLocal<List<Object>> pendingArgs = ThreadLocal.withInitial(ArrayList::new);
+
+    private LogSuppression() {
+    }
+
+    /**
+     * Whether suppressed messages should still be formatted and logged (at FINE).
+     */
+    public static boolean detailsEnabled() {
+        return INTERACTION_MANAGER_LOGGER.isLoggable(Level.FINE);
+    }
+
+    /**
+     * Collect one argument of the re-routed log call; arguments arrive last one first.
+     */
+    public static void arg(Object value) {
+        pendingArgs.get().add(value);
+    }
+
+    /**
+     * Format {@code message} with the collected arguments (printf-style, as the Flogger API
+     * does) and log it at FINE.
+     */
+    public static void logFine(String message) {
+        List<Object> collected = pendingArgs.get();
+        Object[] args = new Object[collected.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = collected.get(args.length - 1 - i);
+        }
+        collected.clear();
+        if (args.length == 1 && args[0] instanceof Object[]) {
+            args = (Object[]) args[0];  // log(String, Object...)
+        }
+
+        String text = message;
+        if (args.length > 0) {
+            try {
+                text = String.format(message, args);
+            } catch (IllegalFormatException e) {
+                text = message + " " + Arrays.toString(args);
+            }
+        }
+        INTERACTION_MANAGER_LOGGER.log(Level.FINE, text);
+    }
+}
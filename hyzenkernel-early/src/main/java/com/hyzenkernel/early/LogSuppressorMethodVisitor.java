@@ -1,26 +1,44 @@
 package com.hyzenkernel.early;
 
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
 
 /**
- * ASM MethodVisitor that downgrades verbose "Client finished chain" log spam
- * from SEVERE to FINE level.
+ * ASM MethodVisitor that suppresses the verbose "Client finished chain" log spam
+ * without paying for its formatting.
  *
  * The InteractionManager logs massive amounts of data when there's a client/server
  * desync on interaction chains. These logs dump full InteractionContext objects
- * which can produce hundreds of lines per occurrence.
+ * which can produce hundreds of lines per occurrence - and the toString() work to
+ * build them runs on the world thread even when the line is downgraded.
  *
- * This visitor intercepts Logger.severe() calls where the format string starts
- * with "Client finished" and replaces them with Logger.fine() calls instead.
+ * Call sites whose message starts with "Client finished" are rewritten:
+ *
+ * 1. String concatenation (invokedynamic makeConcatWithConstants):
+ *      msg = LogSuppression.detailsEnabled() ? &lt;original concat&gt; : "Client finished chain ..."
+ *    so the arguments' toString() only runs when FINE is enabled for InteractionManager.
+ *
+ * 2. The log call itself (count it as interactionManager.clientFinishedChain):
+ *    - java.util.logging Logger.severe/warning(String) -> Logger.fine(String)
+ *    - any other void log(String, ...) (HytaleLogger / Flogger API, formats lazily):
+ *        if (LogSuppression.detailsEnabled()) LogSuppression.logFine(msg, args...); // else dropped
+ *      The receiver came from at(Level.SEVERE), so calling it would log the details at
+ *      SEVERE again; instead the arguments are handed (boxed, last first) to
+ *      LogSuppression.arg(), and LogSuppression.logFine(msg) formats them and logs at FINE.
  */
 public class LogSuppressorMethodVisitor extends MethodVisitor {
 
     private static final String LOGGER_CLASS = "java/util/logging/Logger";
-    private String pendingLdcString = null;
-    private boolean suppressNextSevere = false;
+    private static final String MESSAGE_PREFIX = "Client finished";
+    private static final String FIX_ID = "interactionManager.clientFinishedChain";
+
+    // A "Client finished" message was pushed; the next log call is the one to rewrite
+    private boolean suppressNextLog = false;
 
     public LogSuppressorMethodVisitor(MethodVisitor mv) {
         super(Opcodes.ASM9, mv);
@@ -30,57 +48,171 @@ public class LogSuppressorMethodVisitor extends MethodVisitor {
     public void visitLdcInsn(Object value) {
         // Track string constants that might be log messages
         if (value instanceof String) {
-            String str = (String) value;
-            if (str.startsWith("Client finished")) {
-                pendingLdcString = str;
-                suppressNextSevere = true;
-            } else {
-                pendingLdcString = null;
-                suppressNextSevere = false;
-            }
+            suppressNextLog = ((String) value).startsWith(MESSAGE_PREFIX);
         }
         super.visitLdcInsn(value);
     }
 
+    @Override
+    public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+        String recipe = name.equals("makeConcatWithConstants") && bootstrapMethodArguments.length > 0
+                && bootstrapMethodArguments[0] instanceof String ? (String) bootstrapMethodArguments[0] : null;
+        if (recipe == null || !recipe.startsWith(MESSAGE_PREFIX)) {
+            super.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle, bootstrapMethodArguments);
+            return;
+        }
+
+        verbose("  Making 'Client finished...' message formatting lazy");
+        Label concat = new Label();
+        Label done = new Label();
+
+        // if (LogSuppression.detailsEnabled()) goto concat
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, LogSuppression.OWNER, "detailsEnabled", "()Z", false);
+        mv.visitJumpInsn(Opcodes.IFNE, concat);
+
+        // Drop the concat arguments, use the constant parts of the recipe instead
+        popArguments(descriptor);
+        mv.visitLdcInsn(constantText(recipe));
+        mv.visitJumpInsn(Opcodes.GOTO, done);
+
+        mv.visitLabel(concat);
+        super.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle, bootstrapMethodArguments);
+        mv.visitLabel(done);
+
+        suppressNextLog = true;
+    }
+
     @Override
     public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
-        // Check if this is a Logger.severe() call after a "Client finished" string
-        if (suppressNextSevere && owner.equals(LOGGER_CLASS) && name.equals("severe")) {
-            // Replace severe() with fine() - same signature
+        if (!suppressNextLog) {
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+            return;
+        }
+
+        // java.util.logging: severe()/warning() -> fine(), same signature
+        if (owner.equals(LOGGER_CLASS) && (name.equals("severe") || name.equals("warning"))) {
             verbose("  Downgrading 'Client finished...' log from SEVERE to FINE");
+            FixCounterCalls.emitHit(mv, FIX_ID);
             super.visitMethodInsn(opcode, owner, "fine", descriptor, isInterface);
-            suppressNextSevere = false;
-            pendingLdcString = null;
+            suppressNextLog = false;
+            return;
+        }
+
+        // Logging API: void log(String, ...) - drop it, or log it at FINE when details are enabled
+        if (isLogSink(opcode, name, descriptor)) {
+            verbose("  Routing 'Client finished...' log call to LogSuppression.logFine()");
+            FixCounterCalls.emitHit(mv, FIX_ID);
+            Label log = new Label();
+            Label done = new Label();
+
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, LogSuppression.OWNER, "detailsEnabled", "()Z", false);
+            mv.visitJumpInsn(Opcodes.IFNE, log);
+            popArguments(descriptor);
+            mv.visitInsn(Opcodes.POP);  // receiver
+            mv.visitJumpInsn(Opcodes.GOTO, done);
+
+            mv.visitLabel(log);
+            passArgumentsToFineLog(descriptor);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, LogSuppression.OWNER, "logFine", "(Ljava/lang/String;)V", false);
+            mv.visitInsn(Opcodes.POP);  // receiver
+            mv.visitLabel(done);
+
+            suppressNextLog = false;
             return;
         }
 
-        // Reset tracking on any method call
-        suppressNextSevere = false;
-        pendingLdcString = null;
+        // Anything else (e.g. boxing the format arguments) - keep waiting for the log call
         super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
     }
 
     @Override
     public void visitInsn(int opcode) {
         // Reset tracking on certain instructions that indicate the LDC isn't for logging
-        if (opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) {
-            suppressNextSevere = false;
-            pendingLdcString = null;
+        if ((opcode >= Opcodes.IRETURN && opcode <= Opcodes.RETURN) || opcode == Opcodes.ATHROW) {
+            suppressNextLog = false;
         }
         super.visitInsn(opcode);
     }
 
     @Override
-    public void visitVarInsn(int opcode, int var) {
-        // Don't reset on ALOAD/ASTORE as they're often used between LDC and invoke
-        super.visitVarInsn(opcode, var);
-    }
-
-    @Override
-    public void visitJumpInsn(int opcode, org.objectweb.asm.Label label) {
+    public void visitJumpInsn(int opcode, Label label) {
         // Reset on jumps
-        suppressNextSevere = false;
-        pendingLdcString = null;
+        suppressNextLog = false;
         super.visitJumpInsn(opcode, label);
     }
+
+    private static boolean isLogSink(int opcode, String name, String descriptor) {
+        if (opcode == Opcodes.INVOKESTATIC || !name.equals("log")) {
+            return false;
+        }
+        Type[] args = Type.getArgumentTypes(descriptor);
+        return Type.getReturnType(descriptor) == Type.VOID_TYPE
+                && args.length > 0 && args[0].getDescriptor().equals("Ljava/lang/String;");
+    }
+
+    /**
+     * [receiver, message, args...] -> [receiver, message]: every argument after the message
+     * goes to LogSuppression.arg() (last one first), boxed; an Object[] varargs array is
+     * passed as is.
+     */
+    private void passArgumentsToFineLog(String descriptor) {
+        Type[] args = Type.getArgumentTypes(descriptor);
+        for (int i = args.length - 1; i >= 1; i--) {
+            box(args[i]);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, LogSuppression.OWNER, "arg", "(Ljava/lang/Object;)V", false);
+        }
+    }
+
+    private void box(Type type) {
+        switch (type.getSort()) {
+            case Type.BOOLEAN:
+                box("java/lang/Boolean", "Z");
+                break;
+            case Type.CHAR:
+                box("java/lang/Character", "C");
+                break;
+            case Type.BYTE:
+            case Type.SHORT:
+            case Type.INT:
+                box("java/lang/Integer", "I");
+                break;
+            case Type.LONG:
+                box("java/lang/Long", "J");
+                break;
+            case Type.FLOAT:
+                box("java/lang/Float", "F");
+                break;
+            case Type.DOUBLE:
+                box("java/lang/Double", "D");
+                break;
+            default:
+                break;  // already an Object
+        }
+    }
+
+    private void box(String boxClass, String primitive) {
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, boxClass, "valueOf", "(" + primitive + ")L" + boxClass + ";", false);
+    }
+
+    /**
+     * Pop a call's arguments (last one first).
+     */
+    private void popArguments(String descriptor) {
+        Type[] args = Type.getArgumentTypes(descriptor);
+        for (int i = args.length - 1; i >= 0; i--) {
+            mv.visitInsn(args[i].getSize() == 2 ? Opcodes.POP2 : Opcodes.POP);
+        }
+    }
+
+    /**
+     * The recipe without its argument (\1) and constant (\2) placeholders.
+     */
+    static String constantText(String recipe) {
+        StringBuilder sb = new StringBuilder(recipe.length() + 16);
+        for (int i = 0; i < recipe.length(); i++) {
+            char c = recipe.charAt(i);
+            sb.append(c == '\u0001' || c == '\u0002' ? "?" : String.valueOf(c));
+        }
+        return sb.append(" (details suppressed)").toString();
+    }
 }
@@ -85,9 +85,7 @@ public class MarkerRemoveMethodVisitor extends MethodVisitor {
             target.visitJumpInsn(Opcodes.IFNONNULL, continueLabel);
 
             // npcReferences is null - log warning and return early
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyzenKernel-Early] Skipping null npcReferences in onEntityRemove() - spawn marker had no NPC refs");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(target, "spawnMarkerSystems.nullNpcReferences", "Skipping null npcReferences in onEntityRemove() - spawn marker had no NPC refs");
 
             // Return early - nothing to iterate over
             target.visitInsn(Opcodes.RETURN);
@@ -187,7 +185,7 @@ public class MarkerRemoveMethodVisitor extends MethodVisitor {
 
     @Override
     public void visitMaxs(int maxStack, int maxLocals) {
-        // Increase max stack for our println call and null check
+        // Increase max stack for our FixCounters call and null check
         target.visitMaxs(maxStack + 3, maxLocals);
     }
 
@@ -9,6 +9,10 @@ import org.objectweb.asm.Opcodes;
  *
  * Original formula: (avg_ping * 2.0) + 3000L
  * New formula:      (avg_ping * pingMultiplier) + baseTimeoutMs
+ *
+ * Adaptive mode (interactionTimeout.adaptive) keeps that formula only as the fallback
+ * while the connection's {@link PingWindow} fills up; after that the threshold follows
+ * the percentile and jitter of the connection's raw pings (see PingWindow).
  */
 public class OperationTimeoutMethodVisitor extends MethodVisitor {
 
@@ -16,6 +20,7 @@ public class OperationTimeoutMethodVisitor extends MethodVisitor {
     private final MethodVisitor target;
     private final long baseTimeoutMs;
     private final double pingMultiplier;
+    private final boolean adaptive;
 
     // Class/field references - CORRECTED paths from decompiled HytaleServer.jar
     private static final String PONG_TYPE = "com/hypixel/hytale/protocol/packets/connection/PongType";
@@ -24,12 +29,13 @@ public class OperationTimeoutMethodVisitor extends MethodVisitor {
     private static final String TIME_UNIT = "java/util/concurrent/TimeUnit";
 
     public OperationTimeoutMethodVisitor(MethodVisitor methodVisitor, String className,
-                                          long baseTimeoutMs, double pingMultiplier) {
+                                          long baseTimeoutMs, double pingMultiplier, boolean adaptive) {
         super(Opcodes.ASM9, null);  // null parent - we generate entirely new bytecode
         this.target = methodVisitor;
         this.className = className;
         this.baseTimeoutMs = baseTimeoutMs;
         this.pingMultiplier = pingMultiplier;
+        this.adaptive = adaptive;
     }
 
     @Override
@@ -52,19 +58,77 @@ public class OperationTimeoutMethodVisitor extends MethodVisitor {
 
         target.visitCode();
 
-        // double average = this.getPingInfo(PongType.Tick).getPingMetricSet().getAverage(0);
+        // HistoricMetric metric = this.getPingInfo(PongType.Tick).getPingMetricSet();
+        // double average = metric.getAverage(0);
         target.visitVarInsn(Opcodes.ALOAD, 0);  // this
         target.visitFieldInsn(Opcodes.GETSTATIC, PONG_TYPE, "Tick", "L" + PONG_TYPE + ";");
         target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, className, "getPingInfo",
                 "(L" + PONG_TYPE + ";)L" + PING_INFO + ";", false);
         target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, PING_INFO, "getPingMetricSet",
                 "()L" + HISTORIC_METRIC + ";", false);
+        target.visitInsn(Opcodes.DUP);
+        target.visitVarInsn(Opcodes.ASTORE, 4);  // metric
         target.visitInsn(Opcodes.ICONST_0);  // 0 for getAverage parameter
         target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, HISTORIC_METRIC, "getAverage", "(I)D", false);
         target.visitVarInsn(Opcodes.DSTORE, 1);  // store average in locals 1-2
 
-        // return PingInfo.TIME_UNIT.toMillis(Math.round(average * pingMultiplier)) + baseTimeoutMs;
+        if (!adaptive) {
+            // return PingInfo.TIME_UNIT.toMillis(Math.round(average * pingMultiplier)) + baseTimeoutMs;
+            emitAverageFormula();
+            target.visitInsn(Opcodes.LRETURN);
+            target.visitMaxs(6, 5);
+            target.visitEnd();
+            return;
+        }
+
+        /*
+         * Adaptive:
+         *   PingWindow window = this.hyzenkernel$pingWindow;
+         *   if (window == null) { window = new PingWindow(); this.hyzenkernel$pingWindow = window; }
+         *   return window.threshold(metric, PingInfo.TIME_UNIT, <average formula above>);
+         *
+         * Local vars: 0=this, 1-2=average, 3=window, 4=metric
+         * (Lazy init races are harmless - a lost window only costs a few samples.)
+         */
+        Label haveWindow = new Label();
+        String windowDesc = "L" + PingWindow.OWNER + ";";
+
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, PingWindow.FIELD, windowDesc);
+        target.visitVarInsn(Opcodes.ASTORE, 3);
+        target.visitVarInsn(Opcodes.ALOAD, 3);
+        target.visitJumpInsn(Opcodes.IFNONNULL, haveWindow);
+
+        target.visitTypeInsn(Opcodes.NEW, PingWindow.OWNER);
+        target.visitInsn(Opcodes.DUP);
+        target.visitMethodInsn(Opcodes.INVOKESPECIAL, PingWindow.OWNER, "<init>", "()V", false);
+        target.visitVarInsn(Opcodes.ASTORE, 3);
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitVarInsn(Opcodes.ALOAD, 3);
+        target.visitFieldInsn(Opcodes.PUTFIELD, className, PingWindow.FIELD, windowDesc);
+
+        target.visitLabel(haveWindow);
+        target.visitVarInsn(Opcodes.ALOAD, 3);
+
+        // metric, PingInfo.TIME_UNIT
+        target.visitVarInsn(Opcodes.ALOAD, 4);
+        target.visitFieldInsn(Opcodes.GETSTATIC, PING_INFO, "TIME_UNIT", "L" + TIME_UNIT + ";");
+
+        // fallback
+        emitAverageFormula();
+
+        target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, PingWindow.OWNER, "threshold",
+                "(Ljava/lang/Object;L" + TIME_UNIT + ";J)J", false);
+        target.visitInsn(Opcodes.LRETURN);
+
+        target.visitMaxs(8, 5);
+        target.visitEnd();
+    }
 
+    /**
+     * Pushes PingInfo.TIME_UNIT.toMillis(Math.round(average * pingMultiplier)) + baseTimeoutMs
+     */
+    private void emitAverageFormula() {
         // Get PingInfo.TIME_UNIT
         target.visitFieldInsn(Opcodes.GETSTATIC, PING_INFO, "TIME_UNIT", "L" + TIME_UNIT + ";");
 
@@ -80,12 +144,6 @@ public class OperationTimeoutMethodVisitor extends MethodVisitor {
         // + baseTimeoutMs
         target.visitLdcInsn(baseTimeoutMs);     // push baseTimeoutMs (configurable!)
         target.visitInsn(Opcodes.LADD);
-
-        // return
-        target.visitInsn(Opcodes.LRETURN);
-
-        target.visitMaxs(6, 3);
-        target.visitEnd();
     }
 
     // Override all visit methods to ignore original bytecode
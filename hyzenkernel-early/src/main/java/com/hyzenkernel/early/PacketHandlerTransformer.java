@@ -1,9 +1,6 @@
 package com.hyzenkernel.early;
 
 import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
@@ -26,57 +23,39 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  * Default config doubles the timeout allowance, giving laggy players
  * more time to respond without causing any client/server desync.
  *
+ * With interactionTimeout.adaptive (default) that formula only covers a connection's
+ * first pongs; after that the timeout is derived per connection from the percentile and
+ * jitter of its raw pings plus headroomMs, clamped to [minTimeoutMs, maxTimeoutMs]
+ * (see PingWindow).
+ *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/25">GitHub Issue #25</a>
  */
-public class PacketHandlerTransformer implements ClassTransformer {
+public class PacketHandlerTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.io.PacketHandler";
 
     @Override
-    public int priority() {
-        // High priority - we want this transformation to happen early
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the PacketHandler class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
+    public String name() {
+        return "PacketHandler";
+    }
 
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("interactionTimeout")) {
-            info("PacketHandlerTransformer DISABLED by config");
-            return classBytes;
-        }
+    @Override
+    public String configKey() {
+        return "interactionTimeout";
+    }
 
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
         var config = EarlyConfigManager.getInstance().getInteractionTimeoutConfig();
-        separator();
-        info("Transforming PacketHandler class...");
         verbose("Fixing interaction timeout (hatchet/tree bug)");
         verbose("Config: baseTimeoutMs=" + config.baseTimeoutMs +
-                           ", pingMultiplier=" + config.pingMultiplier);
-        separator();
-
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new PacketHandlerVisitor(writer, config.baseTimeoutMs, config.pingMultiplier);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("PacketHandler transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
-
-        } catch (Exception e) {
-            error("ERROR: Failed to transform PacketHandler!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+                           ", pingMultiplier=" + config.pingMultiplier +
+                           ", adaptive=" + config.adaptive);
+        return new PacketHandlerVisitor(next, config.baseTimeoutMs, config.pingMultiplier, config.adaptive);
     }
 }
@@ -19,6 +19,10 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  * Our fix replaces the hardcoded values with configurable ones:
  * (avg_ping * pingMultiplier) + baseTimeoutMs
  *
+ * With interactionTimeout.adaptive the threshold follows each connection's ping
+ * percentile and jitter instead (see {@link PingWindow}); the visitor then also adds
+ * the private {@link PingWindow#FIELD} field that holds the connection's window.
+ *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/25">GitHub Issue #25</a>
  */
 public class PacketHandlerVisitor extends ClassVisitor {
@@ -30,6 +34,8 @@ public class PacketHandlerVisitor extends ClassVisitor {
     private String className;
     private final long baseTimeoutMs;
     private final double pingMultiplier;
+    private final boolean adaptive;
+    private boolean patched = false;
 
     /**
      * Creates a new PacketHandlerVisitor.
@@ -37,11 +43,13 @@ public class PacketHandlerVisitor extends ClassVisitor {
      * @param classVisitor the downstream visitor in the chain
      * @param baseTimeoutMs base timeout in milliseconds added to ping calculation (default: 6000)
      * @param pingMultiplier multiplier applied to average ping (default: 3.0)
+     * @param adaptive derive the timeout from the connection's ping percentile and jitter (default: true)
      */
-    public PacketHandlerVisitor(ClassVisitor classVisitor, long baseTimeoutMs, double pingMultiplier) {
+    public PacketHandlerVisitor(ClassVisitor classVisitor, long baseTimeoutMs, double pingMultiplier, boolean adaptive) {
         super(Opcodes.ASM9, classVisitor);
         this.baseTimeoutMs = baseTimeoutMs;
         this.pingMultiplier = pingMultiplier;
+        this.adaptive = adaptive;
     }
 
     @Override
@@ -56,10 +64,19 @@ public class PacketHandlerVisitor extends ClassVisitor {
 
         if (name.equals(TARGET_METHOD) && descriptor.equals(TARGET_DESCRIPTOR)) {
             verbose("Found method: " + name + descriptor);
-            verbose("Applying configurable timeout fix...");
-            return new OperationTimeoutMethodVisitor(mv, className, baseTimeoutMs, pingMultiplier);
+            verbose("Applying configurable timeout fix" + (adaptive ? " (adaptive)..." : "..."));
+            patched = true;
+            return new OperationTimeoutMethodVisitor(mv, className, baseTimeoutMs, pingMultiplier, adaptive);
         }
 
         return mv;
     }
+
+    @Override
+    public void visitEnd() {
+        if (patched && adaptive) {
+            cv.visitField(Opcodes.ACC_PRIVATE, PingWindow.FIELD, "L" + PingWindow.OWNER + ";", null, null).visitEnd();
+        }
+        super.visitEnd();
+    }
 }
@@ -37,6 +37,9 @@ public class PickRandomChunkMethodVisitor extends MethodVisitor {
             // Drop the exception instance
             mv.visitInsn(Opcodes.POP);
 
+            // FixCounters.hit("worldSpawningSystem.invalidRef");
+            FixCounterCalls.emitHit(mv, "worldSpawningSystem.invalidRef");
+
             // EarlyLogger.verbose("WorldSpawningSystem.pickRandomChunk invalid ref - spawn skipped");
             mv.visitLdcInsn("WorldSpawningSystem.pickRandomChunk invalid ref - spawn skipped");
             mv.visitMethodInsn(
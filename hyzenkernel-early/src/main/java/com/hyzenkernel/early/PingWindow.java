@@ -0,0 +1,133 @@
+package com.hyzenkernel.early;
+
+import com.hyzenkernel.early.config.EarlyConfigManager;
+import com.hyzenkernel.early.config.EarlyPluginConfig;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * Per-connection rolling window of tick ping samples, used by the bytecode that
+ * {@link OperationTimeoutMethodVisitor} injects into PacketHandler.getOperationTimeoutThreshold().
+ *
+ * Each PacketHandler gets its own window in an injected {@link #FIELD} field. Samples are
+ * raw pings - the last value of the PingInfo tick metric set (HistoricMetric.getLastValue()),
+ * recorded when it changes and checked at most every {@link #SAMPLE_INTERVAL_MS}ms - so
+ * the window covers the last {@link #WINDOW_SIZE} pongs. The metric's averages would
+ * smooth away exactly the spikes the jitter term is meant to see.
+ *
+ * Threshold:
+ *   pingPercentile(samples) + jitterMultiplier * MAD(samples) + headroomMs
+ * clamped to [minTimeoutMs, maxTimeoutMs]. MAD is the median absolute deviation - unlike
+ * the standard deviation a single spike doesn't blow it up, but a bursty connection does.
+ *
+ * Stable connections end up at minTimeoutMs, bursty ones get headroom proportional to
+ * their jitter. Until {@link #MIN_SAMPLES} samples exist - or if the metric has no
+ * getLastValue() - the caller's fallback (the average-based formula) is used.
+ */
+public final class PingWindow {
+
+    /** Field added to PacketHandler by {@link PacketHandlerVisitor}. */
+    static final String FIELD = "hyzenkernel$pingWindow";
+
+    static final String OWNER = "com/hyzenkernel/early/PingWindow";
+
+    static final int WINDOW_SIZE = 64;
+    static final int MIN_SAMPLES = 8;
+    static final long SAMPLE_INTERVAL_MS = 250;
+
+    private static final long SAMPLE_INTERVAL_NANOS = SAMPLE_INTERVAL_MS * 1_000_000L;
+
+    private static final EarlyPluginConfig.InteractionTimeoutConfig config =
+            EarlyConfigManager.getInstance().getInteractionTimeoutConfig();
+
+    // HistoricMetric.getLastValue() as (Object)long, or null if the class has none
+    private static final ClassValue<MethodHandle> LAST_VALUE = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findVirtual(type, "getLastValue", MethodType.methodType(long.class))
+                        .asType(MethodType.methodType(long.class, Object.class));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                error("PingWindow: " + type.getName() + ".getLastValue() not found - adaptive timeout falls back to the average formula");
+                return null;
+            }
+        }
+    };
+
+    private final long[] samples = new long[WINDOW_SIZE];
+    private int next;
+    private int count;
+    private long lastSampleNanos;
+    private long lastRaw = Long.MIN_VALUE;
+
+    private boolean dirty;
+    private long threshold;
+
+    /**
+     * Record the latest ping of {@code pingMetric} (in {@code unit}) if it is new and a
+     * sample is due, and return the timeout threshold in milliseconds, or {@code fallbackMs}
+     * while the window is still filling up.
+     */
+    public synchronized long threshold(Object pingMetric, TimeUnit unit, long fallbackMs) {
+        long now = System.nanoTime();
+        if (count == 0 || now - lastSampleNanos >= SAMPLE_INTERVAL_NANOS) {
+            lastSampleNanos = now;
+            MethodHandle lastValue = LAST_VALUE.get(pingMetric.getClass());
+            if (lastValue == null) {
+                return fallbackMs;
+            }
+            long raw;
+            try {
+                raw = (long) lastValue.invokeExact(pingMetric);
+            } catch (Throwable t) {
+                return fallbackMs;
+            }
+            // The same pong is seen until the next one arrives
+            if (raw != lastRaw) {
+                lastRaw = raw;
+                samples[next] = Math.max(unit.toMillis(raw), 0);
+                next = (next + 1) % WINDOW_SIZE;
+                count = Math.min(count + 1, WINDOW_SIZE);
+                dirty = true;
+            }
+        }
+        if (count < MIN_SAMPLES) {
+            return fallbackMs;
+        }
+        if (dirty) {
+            threshold = compute(Arrays.copyOf(samples, count));
+            dirty = false;
+        }
+        return threshold;
+    }
+
+    static long compute(long[] window) {
+        Arrays.sort(window);
+        long percentile = window[indexOf(config.pingPercentile, window.length)];
+        long median = window[window.length / 2];
+
+        long[] deviations = new long[window.length];
+        for (int i = 0; i < window.length; i++) {
+            deviations[i] = Math.abs(window[i] - median);
+        }
+        Arrays.sort(deviations);
+        long mad = deviations[deviations.length / 2];
+
+        long timeout = percentile
+                + Math.round(mad * config.jitterMultiplier)
+                + config.headroomMs;
+        return Math.max(config.minTimeoutMs, Math.min(timeout, config.maxTimeoutMs));
+    }
+
+    private static int indexOf(double quantile, int length) {
+        int index = (int) Math.ceil(quantile * length) - 1;
+        return Math.max(0, Math.min(index, length - 1));
+    }
+}
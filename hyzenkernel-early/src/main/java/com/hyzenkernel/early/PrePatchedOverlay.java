@@ -0,0 +1,275 @@
+package com.hyzenkernel.early;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * Runtime view of an overlay jar produced by {@link PrePatcher}.
+ *
+ * When hyzenkernel-overlay.jar is placed ahead of HytaleServer.jar on the classpath,
+ * the server loads already-patched classes. The overlay carries a metadata file with
+ * the SHA-256 of every class it contains; the router hashes the incoming bytes of each
+ * target class and, if they match, passes them through untouched instead of patching
+ * them a second time.
+ *
+ * The overlay also records the early plugin version, the config and the SHA-256 of the
+ * HytaleServer.jar it was built from. If any of them no longer matches, the overlay is
+ * ignored: its classes are swapped for the server jar's own bytes in {@link #originalBytes}
+ * and patched as usual (patching the overlay classes again would apply every fix twice,
+ * and passing them through would silently drop config changes). The running server jar
+ * is found through a server class resource that doesn't come from the overlay. Its hash
+ * is cached in {@link #SERVER_JAR_HASH_FILE} by path, size and mtime, so a boot with an
+ * unchanged jar doesn't read all of it again.
+ *
+ * Only if the server jar can't be located are stale overlay classes passed through, with
+ * a warning - there are no original bytes to fall back to.
+ */
+public class PrePatchedOverlay {
+
+    static final String METADATA_RESOURCE = "META-INF/hyzenkernel/overlay.properties";
+
+    static final String KEY_VERSION = "pluginVersion";
+    static final String KEY_CONFIG = "configHash";
+    static final String KEY_SERVER_JAR = "serverJarHash";
+    static final String CLASS_PREFIX = "class.";
+
+    // Any server class works; InteractionChain is patched, so it is certain to exist
+    private static final String SERVER_CLASS_RESOURCE = "com/hypixel/hytale/server/core/entity/InteractionChain.class";
+
+    private static final Path SERVER_JAR_HASH_FILE = Paths.get("mods/hyzenkernel", "server-jar-hash.properties");
+
+    private final Map<String, String> classHashes;
+    private final boolean matchesEnvironment;
+    // Set if the overlay doesn't match this server: overlay classes are replaced from this jar
+    private final Path ignoredFor;
+    private JarFile serverJar;
+    private boolean staleWarningLogged = false;
+
+    private PrePatchedOverlay(Map<String, String> classHashes, boolean matchesEnvironment, Path ignoredFor) {
+        this.classHashes = classHashes;
+        this.matchesEnvironment = matchesEnvironment;
+        this.ignoredFor = ignoredFor;
+    }
+
+    /**
+     * Look for overlay metadata on the system classpath. Returns null if no overlay is present.
+     */
+    public static PrePatchedOverlay load() {
+        URL resource = ClassLoader.getSystemResource(METADATA_RESOURCE);
+        if (resource == null) {
+            return null;
+        }
+
+        Properties props = new Properties();
+        try (InputStream in = resource.openStream()) {
+            props.load(in);
+        } catch (IOException e) {
+            error("WARNING: Could not read pre-patched overlay metadata: " + e.getMessage());
+            return null;
+        }
+
+        Map<String, String> classHashes = new HashMap<>();
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith(CLASS_PREFIX)) {
+                classHashes.put(key.substring(CLASS_PREFIX.length()), props.getProperty(key));
+            }
+        }
+
+        boolean versionMatches = TransformCache.pluginVersion().equals(props.getProperty(KEY_VERSION));
+        boolean configMatches = configHash().equals(props.getProperty(KEY_CONFIG));
+
+        info("Pre-patched overlay detected (" + classHashes.size() + " classes, built for v"
+                + props.getProperty(KEY_VERSION) + ")");
+
+        Path overlayJar = jarOf(resource);
+        Path serverJar = findServerJar(overlayJar);
+        if (serverJar == null) {
+            error("WARNING: Could not locate HytaleServer.jar - the pre-patched overlay can't be checked against it");
+            if (!versionMatches || !configMatches) {
+                error("WARNING: Pre-patched overlay does not match this "
+                        + (versionMatches ? "config.json" : "early plugin version")
+                        + " - rebuild it with ./gradlew prePatch");
+            }
+            return new PrePatchedOverlay(classHashes, versionMatches && configMatches, null);
+        }
+
+        String serverHash = jarHash(serverJar);
+        if (serverHash != null && !serverHash.equals(props.getProperty(KEY_SERVER_JAR))) {
+            error("ERROR: Pre-patched overlay was built from a different HytaleServer.jar than " + serverJar
+                    + " - ignoring it. Remove it or rebuild it with ./gradlew prePatch");
+            return new PrePatchedOverlay(classHashes, false, serverJar);
+        }
+        if (!versionMatches || !configMatches) {
+            error("WARNING: Pre-patched overlay does not match this "
+                    + (versionMatches ? "config.json" : "early plugin version")
+                    + " - ignoring it and patching at boot. Rebuild it with ./gradlew prePatch");
+            return new PrePatchedOverlay(classHashes, false, serverJar);
+        }
+
+        return new PrePatchedOverlay(classHashes, true, null);
+    }
+
+    /**
+     * The first jar on the system classpath providing a server class, other than the overlay.
+     */
+    private static Path findServerJar(Path overlayJar) {
+        try {
+            Enumeration<URL> candidates = ClassLoader.getSystemResources(SERVER_CLASS_RESOURCE);
+            while (candidates.hasMoreElements()) {
+                Path jar = jarOf(candidates.nextElement());
+                if (jar != null && !jar.equals(overlayJar)) {
+                    return jar;
+                }
+            }
+        } catch (IOException e) {
+            verbose("Could not look up the server jar: " + e.getMessage());
+        }
+        return null;
+    }
+
+    private static Path jarOf(URL resource) {
+        try {
+            if ("jar".equals(resource.getProtocol())) {
+                URL jar = ((JarURLConnection) resource.openConnection()).getJarFileURL();
+                return Paths.get(jar.toURI()).toAbsolutePath().normalize();
+            }
+        } catch (Exception e) {
+            verbose("Could not resolve jar of " + resource + ": " + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * SHA-256 of {@code jar}, from {@link #SERVER_JAR_HASH_FILE} if the jar's path, size and
+     * mtime are the ones recorded there.
+     */
+    private static String jarHash(Path jar) {
+        String stamp;
+        try {
+            stamp = jar + "|" + Files.size(jar) + "|" + Files.getLastModifiedTime(jar).toMillis();
+        } catch (IOException e) {
+            error("WARNING: Could not read " + jar + ": " + e.getMessage());
+            return null;
+        }
+
+        Properties cached = new Properties();
+        if (Files.isRegularFile(SERVER_JAR_HASH_FILE)) {
+            try (InputStream in = Files.newInputStream(SERVER_JAR_HASH_FILE)) {
+                cached.load(in);
+            } catch (IOException e) {
+                verbose("Could not read " + SERVER_JAR_HASH_FILE + ": " + e.getMessage());
+            }
+        }
+        if (stamp.equals(cached.getProperty("jar")) && cached.getProperty("sha256") != null) {
+            return cached.getProperty("sha256");
+        }
+
+        String hash = hashFile(jar);
+        if (hash != null) {
+            Properties updated = new Properties();
+            updated.setProperty("jar", stamp);
+            updated.setProperty("sha256", hash);
+            try {
+                Files.createDirectories(SERVER_JAR_HASH_FILE.getParent());
+                try (OutputStream out = Files.newOutputStream(SERVER_JAR_HASH_FILE)) {
+                    updated.store(out, "HytaleServer.jar hash for the pre-patched overlay check");
+                }
+            } catch (IOException e) {
+                verbose("Could not write " + SERVER_JAR_HASH_FILE + ": " + e.getMessage());
+            }
+        }
+        return hash;
+    }
+
+    private static String hashFile(Path jar) {
+        MessageDigest digest = TransformCache.sha256();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(jar)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            error("WARNING: Could not hash " + jar + ": " + e.getMessage());
+            return null;
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Hash of the effective config, as stored in the overlay metadata.
+     */
+    static String configHash() {
+        return sha256Hex(TransformCache.configFingerprint().getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sha256Hex(byte[] bytes) {
+        return HexFormat.of().formatHex(TransformCache.sha256().digest(bytes));
+    }
+
+    /**
+     * Whether these are the exact patched bytes the overlay shipped for this class.
+     */
+    public boolean isPrePatched(String className, byte[] classBytes) {
+        if (ignoredFor != null) {
+            return false;
+        }
+        String expected = classHashes.get(className);
+        if (expected == null || !expected.equals(sha256Hex(classBytes))) {
+            return false;
+        }
+
+        if (!matchesEnvironment && !staleWarningLogged) {
+            staleWarningLogged = true;
+            error("WARNING: Using stale pre-patched classes - config/version changes are NOT applied until the overlay is rebuilt");
+        }
+        return true;
+    }
+
+    /**
+     * If the overlay is ignored (it doesn't match this server jar, plugin version or config)
+     * and these are its bytes for the class, the server jar's own bytes for it; otherwise
+     * {@code classBytes}.
+     */
+    public byte[] originalBytes(String className, byte[] classBytes) {
+        if (ignoredFor == null || !sha256Hex(classBytes).equals(classHashes.get(className))) {
+            return classBytes;
+        }
+        try {
+            JarFile jar = serverJar();
+            JarEntry entry = jar.getJarEntry(className.replace('.', '/') + ".class");
+            if (entry != null) {
+                try (InputStream in = jar.getInputStream(entry)) {
+                    return in.readAllBytes();
+                }
+            }
+        } catch (IOException e) {
+            error("WARNING: Could not read " + className + " from " + ignoredFor + ": " + e.getMessage());
+        }
+        return classBytes;
+    }
+
+    private synchronized JarFile serverJar() throws IOException {
+        if (serverJar == null) {
+            serverJar = new JarFile(ignoredFor.toFile());
+        }
+        return serverJar;
+    }
+}
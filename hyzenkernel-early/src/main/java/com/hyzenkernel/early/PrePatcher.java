@@ -0,0 +1,122 @@
+package com.hyzenkernel.early;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * Offline pre-patcher - run by the hyzenkernel-early "prePatch" Gradle task.
+ *
+ * Applies every fix to libs/HytaleServer.jar ahead of time and writes:
+ * - hyzenkernel-overlay.jar: only the patched classes, plus overlay metadata
+ *   (see {@link PrePatchedOverlay}) so the early plugin recognises them at runtime
+ * - classlist: every class in the overlay and the server jar, used by the
+ *   "prePatchCds" task to dump a class-data-sharing archive
+ *
+ * Usage: PrePatcher &lt;HytaleServer.jar&gt; &lt;output dir&gt; &lt;early plugin version&gt;
+ *
+ * Config is read from mods/hyzenkernel/config.json relative to the working directory,
+ * exactly like the early plugin does at boot, so point the task at the server directory
+ * (-PserverDir=...) to bake in that server's transformer settings.
+ */
+public class PrePatcher {
+
+    public static final String OVERLAY_JAR = "hyzenkernel-overlay.jar";
+    public static final String CLASS_LIST = "classlist";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: PrePatcher <HytaleServer.jar> <output dir> <early plugin version>");
+            System.exit(2);
+        }
+
+        Path serverJar = Paths.get(args[0]);
+        Path outputDir = Paths.get(args[1]);
+        String version = args[2];
+
+        Files.createDirectories(outputDir);
+        Path overlayJar = outputDir.resolve(OVERLAY_JAR);
+
+        // applyFixes() bypasses the boot-time class cache and any existing overlay
+        TransformerRouter router = new TransformerRouter();
+
+        Properties metadata = new Properties();
+        metadata.setProperty(PrePatchedOverlay.KEY_VERSION, version);
+        metadata.setProperty(PrePatchedOverlay.KEY_CONFIG, PrePatchedOverlay.configHash());
+        metadata.setProperty(PrePatchedOverlay.KEY_SERVER_JAR, PrePatchedOverlay.sha256Hex(Files.readAllBytes(serverJar)));
+
+        List<String> patchedClasses = new ArrayList<>();
+        List<String> classList = new ArrayList<>();
+
+        try (JarFile jar = new JarFile(serverJar.toFile());
+             JarOutputStream out = new JarOutputStream(Files.newOutputStream(overlayJar))) {
+
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (!entryName.endsWith(".class") || entryName.startsWith("META-INF/")
+                        || entryName.endsWith("module-info.class")) {
+                    continue;
+                }
+
+                String internalName = entryName.substring(0, entryName.length() - ".class".length());
+                classList.add(internalName);
+
+                String className = internalName.replace('/', '.');
+                if (!router.hasFixesFor(className)) {
+                    continue;
+                }
+
+                byte[] original;
+                try (InputStream in = jar.getInputStream(entry)) {
+                    original = in.readAllBytes();
+                }
+
+                byte[] patched = router.applyFixes(className, original);
+                if (patched == original) {
+                    continue;
+                }
+
+                out.putNextEntry(new JarEntry(entryName));
+                out.write(patched);
+                out.closeEntry();
+
+                metadata.setProperty(PrePatchedOverlay.CLASS_PREFIX + className, PrePatchedOverlay.sha256Hex(patched));
+                patchedClasses.add(className);
+            }
+
+            out.putNextEntry(new JarEntry(PrePatchedOverlay.METADATA_RESOURCE));
+            metadata.store(out, "HyzenKernel pre-patched overlay - generated by ./gradlew prePatch");
+            out.closeEntry();
+        }
+
+        try (OutputStream out = Files.newOutputStream(outputDir.resolve(CLASS_LIST))) {
+            for (String name : classList) {
+                out.write((name + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        separator();
+        info("Pre-patched " + patchedClasses.size() + " classes into " + overlayJar);
+        for (String className : patchedClasses) {
+            verbose("  " + className);
+        }
+        info("Start the server with " + OVERLAY_JAR + " ahead of HytaleServer.jar on the classpath");
+        separator();
+        EarlyLogger.flush();
+    }
+}
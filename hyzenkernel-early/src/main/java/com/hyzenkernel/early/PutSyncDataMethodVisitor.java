@@ -19,13 +19,31 @@ import org.objectweb.asm.Opcodes;
  *   if (adjustedIndex < 0) {
  *       // EXPAND BUFFER instead of dropping
  *       expansion = -adjustedIndex
- *       for (i = 0; i < expansion; i++) {
- *           tempSyncData.add(0, null)  // prepend nulls
- *       }
+ *       SyncGapStats.recordBackward(this, expansion)
+ *       if (!SyncBufferStats.fits(tempSyncData.size(), expansion, maxEntries)) goto overflow
+ *       tempSyncData.addAll(0, Collections.nCopies(expansion, null))  // prepend nulls
  *       tempSyncDataOffset = index  // reset offset
  *       adjustedIndex = 0
  *   }
- *   normal processing...
+ *   normal processing (set / add, add also checked against maxEntries)...
+ *   a put past the end is dropped as before: SyncGapStats.recordForward(this, adjustedIndex - size)
+ *   if (tempSyncData.size() > this.hyzenkernel$syncHighWater) {
+ *       this.hyzenkernel$syncHighWater = tempSyncData.size()
+ *       SyncBufferStats.recordHighWater(this, tempSyncData.size())
+ *   }
+ *   return
+ *
+ *   overflow:
+ *   SyncBufferStats.recordOverflow(this, tempSyncData.size())
+ *   this.flagDesync()        // the server's own path for abandoning a desynced chain
+ *   tempSyncData.clear()
+ *
+ * The gap is filled with a single bulk insert: ArrayList.addAll(0, ...) shifts the
+ * existing entries once, where add(0, null) per missing slot shifted them once per slot
+ * (O(gap x size) on the world thread for every out-of-order packet).
+ *
+ * maxEntries comes from syncBuffer.maxEntries in config.json and is baked into the
+ * bytecode; 0 disables the cap.
  */
 public class PutSyncDataMethodVisitor extends MethodVisitor {
 
@@ -36,13 +54,15 @@ public class PutSyncDataMethodVisitor extends MethodVisitor {
     private static final String TEMP_SYNC_DATA_FIELD = "tempSyncData";
     private static final String TEMP_SYNC_DATA_DESC = "Ljava/util/List;";
     private static final String TEMP_SYNC_DATA_OFFSET_FIELD = "tempSyncDataOffset";
-    private static final String LOGGER_FIELD = "LOGGER";
 
-    public PutSyncDataMethodVisitor(MethodVisitor methodVisitor, String className) {
+    private final int maxEntries;
+
+    public PutSyncDataMethodVisitor(MethodVisitor methodVisitor, String className, int maxEntries) {
         // Pass null to parent - we'll generate our own bytecode entirely
         super(Opcodes.ASM9, null);
         this.target = methodVisitor;
         this.className = className;
+        this.maxEntries = maxEntries > 0 ? maxEntries : Integer.MAX_VALUE;
     }
 
     @Override
@@ -56,9 +76,9 @@ public class PutSyncDataMethodVisitor extends MethodVisitor {
         Label setData = new Label();
         Label addData = new Label();
         Label logGap = new Label();
+        Label trackHighWater = new Label();
+        Label overflow = new Label();
         Label endMethod = new Label();
-        Label loopStart = new Label();
-        Label loopEnd = new Label();
 
         // --- Calculate adjustedIndex ---
         // int adjustedIndex = index - tempSyncDataOffset;
@@ -83,27 +103,23 @@ public class PutSyncDataMethodVisitor extends MethodVisitor {
         target.visitInsn(Opcodes.INEG);  // negate
         target.visitVarInsn(Opcodes.ISTORE, 4);  // store expansion in local 4
 
-        // for (int i = 0; i < expansion; i++) { tempSyncData.add(0, null); }
-        target.visitInsn(Opcodes.ICONST_0);
-        target.visitVarInsn(Opcodes.ISTORE, 5);  // i = 0
+        // SyncGapStats.recordBackward(this, expansion);
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitVarInsn(Opcodes.ILOAD, 4);
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, SyncGapStats.OWNER, "recordBackward", "(Ljava/lang/Object;I)V", false);
 
-        target.visitLabel(loopStart);
-        target.visitVarInsn(Opcodes.ILOAD, 5);   // load i
-        target.visitVarInsn(Opcodes.ILOAD, 4);   // load expansion
-        target.visitJumpInsn(Opcodes.IF_ICMPGE, loopEnd);  // if i >= expansion, exit loop
+        // if (!SyncBufferStats.fits(tempSyncData.size(), expansion, maxEntries)) goto overflow
+        emitFitsCheck(4, overflow);
 
-        // tempSyncData.add(0, null)
+        // tempSyncData.addAll(0, Collections.nCopies(expansion, null));
         target.visitVarInsn(Opcodes.ALOAD, 0);  // this
         target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
         target.visitInsn(Opcodes.ICONST_0);     // index 0
+        target.visitVarInsn(Opcodes.ILOAD, 4);  // expansion
         target.visitInsn(Opcodes.ACONST_NULL);  // null value
-        target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "add", "(ILjava/lang/Object;)V", true);
-
-        // i++
-        target.visitIincInsn(5, 1);
-        target.visitJumpInsn(Opcodes.GOTO, loopStart);
-
-        target.visitLabel(loopEnd);
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, "java/util/Collections", "nCopies", "(ILjava/lang/Object;)Ljava/util/List;", false);
+        target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "addAll", "(ILjava/util/Collection;)Z", true);
+        target.visitInsn(Opcodes.POP);          // discard return value
 
         // Update offset: tempSyncDataOffset = tempSyncDataOffset + adjustedIndex
         // Since adjustedIndex is negative, this shifts the offset down to accommodate the new elements
@@ -136,7 +152,7 @@ public class PutSyncDataMethodVisitor extends MethodVisitor {
         target.visitVarInsn(Opcodes.ALOAD, 2);   // data
         target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "set", "(ILjava/lang/Object;)Ljava/lang/Object;", true);
         target.visitInsn(Opcodes.POP);           // discard return value
-        target.visitJumpInsn(Opcodes.GOTO, endMethod);
+        target.visitJumpInsn(Opcodes.GOTO, trackHighWater);  // an expansion may have grown the buffer
 
         // Check if adjustedIndex == size (for add)
         target.visitLabel(addData);
@@ -146,27 +162,96 @@ public class PutSyncDataMethodVisitor extends MethodVisitor {
         target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "size", "()I", true);
         target.visitJumpInsn(Opcodes.IF_ICMPNE, logGap);  // if not equal, log gap
 
+        // if (!SyncBufferStats.fits(tempSyncData.size(), 1, maxEntries)) goto overflow
+        target.visitInsn(Opcodes.ICONST_1);
+        target.visitVarInsn(Opcodes.ISTORE, 4);
+        emitFitsCheck(4, overflow);
+
         // ADD: tempSyncData.add(data)
         target.visitVarInsn(Opcodes.ALOAD, 0);   // this
         target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
         target.visitVarInsn(Opcodes.ALOAD, 2);   // data
         target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
         target.visitInsn(Opcodes.POP);           // discard return value
-        target.visitJumpInsn(Opcodes.GOTO, endMethod);
+        target.visitJumpInsn(Opcodes.GOTO, trackHighWater);
 
-        // LOG GAP (keep this warning - it's useful)
+        // GAP: data arrived ahead of the buffer end - dropped like vanilla, but measured
+        // SyncGapStats.recordForward(this, adjustedIndex - tempSyncData.size());
         target.visitLabel(logGap);
-        // For simplicity, skip the logging - just return
-        // The gap warning is less critical than the buffer overflow
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitVarInsn(Opcodes.ILOAD, 3);
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
+        target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "size", "()I", true);
+        target.visitInsn(Opcodes.ISUB);
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, SyncGapStats.OWNER, "recordForward", "(Ljava/lang/Object;I)V", false);
+        target.visitJumpInsn(Opcodes.GOTO, endMethod);
+
+        // --- High-water mark ---
+        // int size = tempSyncData.size();  (local 4)
+        target.visitLabel(trackHighWater);
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
+        target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "size", "()I", true);
+        target.visitVarInsn(Opcodes.ISTORE, 4);
+
+        // if (size <= this.hyzenkernel$syncHighWater) return;
+        target.visitVarInsn(Opcodes.ILOAD, 4);
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, SyncBufferStats.HIGH_WATER_FIELD, "I");
+        target.visitJumpInsn(Opcodes.IF_ICMPLE, endMethod);
+
+        // this.hyzenkernel$syncHighWater = size;
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitVarInsn(Opcodes.ILOAD, 4);
+        target.visitFieldInsn(Opcodes.PUTFIELD, className, SyncBufferStats.HIGH_WATER_FIELD, "I");
+
+        // SyncBufferStats.recordHighWater(this, size);
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitVarInsn(Opcodes.ILOAD, 4);
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, SyncBufferStats.OWNER, "recordHighWater", "(Ljava/lang/Object;I)V", false);
+        target.visitJumpInsn(Opcodes.GOTO, endMethod);
+
+        // --- Hard cap exceeded: desync the chain instead of growing ---
+        target.visitLabel(overflow);
+
+        // SyncBufferStats.recordOverflow(this, tempSyncData.size());
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
+        target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "size", "()I", true);
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, SyncBufferStats.OWNER, "recordOverflow", "(Ljava/lang/Object;I)V", false);
+
+        // this.flagDesync();
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, className, "flagDesync", "()V", false);
+
+        // tempSyncData.clear();
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
+        target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "clear", "()V", true);
 
         target.visitLabel(endMethod);
         target.visitInsn(Opcodes.RETURN);
 
         // Set max stack and locals
-        target.visitMaxs(6, 6);  // Increased for our extra locals
+        target.visitMaxs(5, 5);  // Increased for our extra locals
         target.visitEnd();
     }
 
+    /**
+     * if (!SyncBufferStats.fits(tempSyncData.size(), &lt;local growthSlot&gt;, maxEntries)) goto overflow
+     */
+    private void emitFitsCheck(int growthSlot, Label overflow) {
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
+        target.visitMethodInsn(Opcodes.INVOKEINTERFACE, "java/util/List", "size", "()I", true);
+        target.visitVarInsn(Opcodes.ILOAD, growthSlot);
+        target.visitLdcInsn(maxEntries);
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, SyncBufferStats.OWNER, "fits", "(III)Z", false);
+        target.visitJumpInsn(Opcodes.IFEQ, overflow);
+    }
+
     // Override all other visit methods to do nothing (we're replacing the entire method)
     @Override
     public void visitInsn(int opcode) {
@@ -1,7 +1,6 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
+import org.objectweb.asm.ClassVisitor;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
 
@@ -10,30 +9,31 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *
  * Reserved for legacy behavior. Currently no-ops to preserve vanilla portal removal timing.
  */
-public class RemovalSystemTransformer implements ClassTransformer {
+public class RemovalSystemTransformer implements ClassFix {
 
     private static final String TARGET_CLASS =
             "com.hypixel.hytale.builtin.instances.removal.RemovalSystem";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
+    public String name() {
+        return "RemovalSystem";
+    }
 
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("staticSharedInstances")) {
-            info("RemovalSystemTransformer DISABLED by config");
-            return classBytes;
-        }
+    @Override
+    public String configKey() {
+        return "staticSharedInstances";
+    }
 
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
         // Preserve vanilla removal behavior for portal instances.
         // Shared-world reuse is handled elsewhere; we don't want to block normal closure timers.
         info("RemovalSystemTransformer SKIPPED to preserve vanilla portal removal behavior");
-        return classBytes;
+        return next;
     }
 }
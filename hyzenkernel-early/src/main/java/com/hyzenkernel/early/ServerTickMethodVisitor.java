@@ -1,19 +1,36 @@
 package com.hyzenkernel.early;
 
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
 
 /**
- * ASM MethodVisitor that wraps InteractionManager.serverTick() in a try-catch
- * to handle RuntimeException when clients are too slow to send clientData.
+ * ASM MethodVisitor that turns the client timeout in InteractionManager.serverTick()
+ * into a chain cancellation instead of a kick.
  *
  * The original method throws RuntimeException with message "Client took too long
  * to send clientData" when the timeout is exceeded. This kicks the player.
  *
- * Fix: Wrap the ENTIRE method body in try-catch. Catch RuntimeException, check
- * if it's the timeout message, properly cancel the chain and return null.
- * Re-throw if it's a different exception.
+ * Fix, part 1 - the throw site: the server's own timeout check decides to throw, so
+ * the throw itself is rewritten. When the method does
+ *   throw new RuntimeException(... "Client took too long" ...);
+ * the constructor call is dropped (the allocated-but-never-initialized object and its
+ * message are popped) and the ATHROW becomes a jump to the cancellation below. No
+ * exception is constructed, so no stack trace is filled in and no message is scanned -
+ * during a lag storm this runs for every timed-out chain on the world thread.
+ *
+ * Fix, part 2 - safety net: the ENTIRE method body is still wrapped in try-catch for
+ * RuntimeException. If the throw site wasn't recognised (changed server build) the
+ * handler checks for the timeout message like before; anything else is re-thrown.
+ *
+ * Both paths end in:
+ *   ChainLifecycleStats.timedOut(chain);
+ *   try { this.cancelChains(chain); } catch (Throwable ignored) {}
+ *   return null;
  *
  * IMPORTANT: We use cancelChains(chain) instead of just removing from the map.
  * This properly notifies the client that the chain was cancelled, preventing
@@ -30,11 +47,21 @@ public class ServerTickMethodVisitor extends MethodVisitor {
     private static final int RETURN_VALUE_LOCAL = 15;
     private static final int EXCEPTION_LOCAL = 16;
 
+    private static final String TIMEOUT_MESSAGE = "Client took too long";
+    private static final String RUNTIME_EXCEPTION = "java/lang/RuntimeException";
+
     private final String className;
     private final Label tryStart = new Label();
     private final Label tryEnd = new Label();
     private final Label catchHandler = new Label();
     private final Label normalExit = new Label();
+    private final Label cancelTimedOutChain = new Label();
+
+    // Throw-site rewrite state
+    private boolean inRuntimeExceptionNew = false;  // between NEW RuntimeException and its <init>
+    private boolean timeoutMessageSeen = false;     // the message being built is the timeout message
+    private boolean replaceNextThrow = false;       // <init> was dropped, the next ATHROW is the site
+    private int rewrittenSites = 0;
 
     public ServerTickMethodVisitor(MethodVisitor mv, String className) {
         super(Opcodes.ASM9, mv);
@@ -53,8 +80,65 @@ public class ServerTickMethodVisitor extends MethodVisitor {
         mv.visitLabel(tryStart);
     }
 
+    @Override
+    public void visitTypeInsn(int opcode, String type) {
+        if (opcode == Opcodes.NEW && type.equals(RUNTIME_EXCEPTION)) {
+            inRuntimeExceptionNew = true;
+            timeoutMessageSeen = false;
+        }
+        super.visitTypeInsn(opcode, type);
+    }
+
+    @Override
+    public void visitLdcInsn(Object value) {
+        if (inRuntimeExceptionNew && value instanceof String && ((String) value).contains(TIMEOUT_MESSAGE)) {
+            timeoutMessageSeen = true;
+        }
+        super.visitLdcInsn(value);
+    }
+
+    @Override
+    public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+        // String concatenation: the constant parts are in the recipe
+        if (inRuntimeExceptionNew) {
+            for (Object arg : bootstrapMethodArguments) {
+                if (arg instanceof String && ((String) arg).contains(TIMEOUT_MESSAGE)) {
+                    timeoutMessageSeen = true;
+                }
+            }
+        }
+        super.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle, bootstrapMethodArguments);
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+        if (inRuntimeExceptionNew && opcode == Opcodes.INVOKESPECIAL
+                && owner.equals(RUNTIME_EXCEPTION) && name.equals("<init>")) {
+            inRuntimeExceptionNew = false;
+            if (timeoutMessageSeen) {
+                // Drop the constructor: pop its arguments and the two uninitialized refs (NEW, DUP)
+                for (Type arg : Type.getArgumentTypes(descriptor)) {
+                    mv.visitInsn(arg.getSize() == 2 ? Opcodes.POP2 : Opcodes.POP);
+                }
+                mv.visitInsn(Opcodes.POP);
+                mv.visitInsn(Opcodes.POP);
+                replaceNextThrow = true;
+                return;
+            }
+        }
+        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+    }
+
     @Override
     public void visitInsn(int opcode) {
+        if (opcode == Opcodes.ATHROW && replaceNextThrow) {
+            replaceNextThrow = false;
+            rewrittenSites++;
+            FixCounterCalls.emitHit(mv, "interactionManager.clientTimeout");
+            mv.visitJumpInsn(Opcodes.GOTO, cancelTimedOutChain);
+            return;
+        }
+
         // Intercept ALL ARETURN instructions and redirect them to normalExit
         if (opcode == Opcodes.ARETURN) {
             // Store the return value temporarily and jump to normal exit
@@ -108,11 +192,20 @@ public class ServerTickMethodVisitor extends MethodVisitor {
         mv.visitVarInsn(Opcodes.ALOAD, EXCEPTION_LOCAL);
         mv.visitInsn(Opcodes.ATHROW);
 
-        // It's the timeout exception - properly cancel the chain instead of kicking player
-        // Issue #51: Must use cancelChains() to properly notify client, not just remove from map!
+        // It's the timeout exception - the throw site wasn't rewritten, but still cancel the chain
         mv.visitLabel(isTimeoutException);
+        FixCounterCalls.emitHit(mv, "interactionManager.clientTimeoutCaught");
 
         // === PROPERLY CANCEL THE CHAIN ===
+        // Issue #51: Must use cancelChains() to properly notify client, not just remove from map!
+        // Reached from the rewritten throw site(s) and from the handler above; both with an empty stack.
+        // Placed after tryEnd so the outer RuntimeException handler doesn't cover it.
+        mv.visitLabel(cancelTimedOutChain);
+
+        // ChainLifecycleStats.timedOut(chain) - the outcome sticks through cancelChains() and removal
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, ChainLifecycleStats.OWNER, "timedOut", "(Ljava/lang/Object;)V", false);
+
         // Method params: this=0 (InteractionManager), entityRef=1, chain=2, currentTick=3-4
         // Call: this.cancelChains(chain) - this notifies the client and cleans up properly
 
@@ -150,6 +243,12 @@ public class ServerTickMethodVisitor extends MethodVisitor {
         mv.visitInsn(Opcodes.ACONST_NULL);
         mv.visitInsn(Opcodes.ARETURN);
 
+        if (rewrittenSites > 0) {
+            verbose("Rewrote " + rewrittenSites + " client timeout throw site(s) to cancel the chain directly");
+        } else {
+            verbose("Client timeout throw site not found - relying on the RuntimeException handler");
+        }
+
         // Increase stack and locals to accommodate our additions
         super.visitMaxs(Math.max(maxStack, 4), Math.max(maxLocals, 17));
     }
@@ -0,0 +1,224 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * ASM MethodVisitor that turns the "already set" throw in CraftingManager.setBench()
+ * into clearing the stale bench, when the bench is known to be stale.
+ *
+ * The original guard:
+ *   if (this.blockType != null) {
+ *       throw new IllegalArgumentException("Bench blockType is already set! Must be cleared (close UI).");
+ *   }
+ *
+ * compiles to ALOAD 0; GETFIELD blockType; IFNULL ok; NEW IllegalArgumentException; ...;
+ * ATHROW; ok:. The transformed code is:
+ *   if (this.blockType != null) {
+ *       if (!BenchWindows.isStale(this)) {
+ *           throw new IllegalArgumentException(...);   // unchanged
+ *       }
+ *       FixCounters.hit("craftingManager.staleBench", "...");
+ *       this.clearBench();          // or this.blockType = null; without clearBench()
+ *   }
+ *   ok:
+ *   BenchWindows.bind(this);
+ *
+ * and setBench() carries on with a cleared bench. clearBench() is what closing the bench
+ * UI calls ("Must be cleared (close UI)"), so the stale bench is torn down the same way;
+ * only if CraftingManager has no clearBench()V is the checked field nulled instead, and the
+ * remaining bench fields are overwritten by setBench().
+ *
+ * CraftingManager can't see the player's windows, so the "no bench window open" check goes
+ * through {@link BenchWindows}: bind() records the bench window whose onOpen0() is setting
+ * the bench, and isStale() is true only once that window's onClose0() has started. If the
+ * previous window is still open, clearing would let its later close clear the new bench, so
+ * the throw stays; it also stays when the owner is unknown (BenchWindow not patched,
+ * setBench() called outside onOpen0()). Those throws are counted as craftingManager.benchStillOpen.
+ *
+ * The throw is only replaced when the exception message contains "already set", so other
+ * checks in setBench() keep throwing.
+ */
+public class SetBenchMethodVisitor extends MethodVisitor {
+
+    private static final String IAE = "java/lang/IllegalArgumentException";
+    private static final String ALREADY_SET = "already set";
+
+    private final String className;
+    // Opcode to call clearBench()V with, or 0 to null the checked field instead
+    private final int clearBenchOpcode;
+
+    // ALOAD 0 -> GETFIELD this.field -> IFNULL ok -> NEW IAE, tracked instruction by instruction;
+    // once inside the guarded throw, everything up to its ATHROW passes through
+    private boolean sawLoadThis = false;
+    private String fieldName;
+    private String fieldDescriptor;
+    private Label okLabel;
+    private boolean inGuardedThrow = false;
+    private boolean sawAlreadySet = false;
+
+    // The "not set" branch of the patched guard, where bind() goes
+    private Label bindAt;
+    private boolean patched = false;
+
+    public SetBenchMethodVisitor(MethodVisitor mv, String className, int clearBenchOpcode) {
+        super(Opcodes.ASM9, mv);
+        this.className = className;
+        this.clearBenchOpcode = clearBenchOpcode;
+    }
+
+    public boolean isPatched() {
+        return patched;
+    }
+
+    @Override
+    public void visitVarInsn(int opcode, int var) {
+        if (inGuardedThrow) {
+            super.visitVarInsn(opcode, var);
+            return;
+        }
+        reset();
+        sawLoadThis = opcode == Opcodes.ALOAD && var == 0;
+        super.visitVarInsn(opcode, var);
+    }
+
+    @Override
+    public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+        if (inGuardedThrow) {
+            super.visitFieldInsn(opcode, owner, name, descriptor);
+            return;
+        }
+        boolean thisField = sawLoadThis && opcode == Opcodes.GETFIELD && owner.equals(className);
+        reset();
+        if (thisField) {
+            fieldName = name;
+            fieldDescriptor = descriptor;
+        }
+        super.visitFieldInsn(opcode, owner, name, descriptor);
+    }
+
+    @Override
+    public void visitJumpInsn(int opcode, Label label) {
+        if (inGuardedThrow) {
+            super.visitJumpInsn(opcode, label);
+            return;
+        }
+        String field = fieldName;
+        String descriptor = fieldDescriptor;
+        reset();
+        if (opcode == Opcodes.IFNULL && field != null) {
+            fieldName = field;
+            fieldDescriptor = descriptor;
+            okLabel = label;
+        }
+        super.visitJumpInsn(opcode, label);
+    }
+
+    @Override
+    public void visitTypeInsn(int opcode, String type) {
+        if (okLabel != null && !inGuardedThrow && opcode == Opcodes.NEW && type.equals(IAE)) {
+            // NEW directly after the IFNULL - the throw is guarded by "field != null"
+            inGuardedThrow = true;
+        } else if (!inGuardedThrow) {
+            reset();
+        }
+        super.visitTypeInsn(opcode, type);
+    }
+
+    @Override
+    public void visitLdcInsn(Object value) {
+        if (inGuardedThrow && value instanceof String && ((String) value).contains(ALREADY_SET)) {
+            sawAlreadySet = true;
+        }
+        super.visitLdcInsn(value);
+    }
+
+    @Override
+    public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle, Object... bootstrapMethodArguments) {
+        if (inGuardedThrow && name.equals("makeConcatWithConstants")) {
+            for (Object arg : bootstrapMethodArguments) {
+                if (arg instanceof String && ((String) arg).contains(ALREADY_SET)) {
+                    sawAlreadySet = true;
+                    break;
+                }
+            }
+        }
+        super.visitInvokeDynamicInsn(name, descriptor, bootstrapMethodHandle, bootstrapMethodArguments);
+    }
+
+    @Override
+    public void visitInsn(int opcode) {
+        if (opcode == Opcodes.ATHROW && inGuardedThrow && sawAlreadySet) {
+            // Keep the throw unless the bench's window is known to be closed
+            Label stale = new Label();
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, BenchWindows.OWNER, "isStale", "(Ljava/lang/Object;)Z", false);
+            mv.visitJumpInsn(Opcodes.IFNE, stale);
+            FixCounterCalls.emitHit(mv, "craftingManager.benchStillOpen");
+            mv.visitInsn(Opcodes.ATHROW);
+
+            // Drop the exception, clear the stale bench and continue at the "not set" branch
+            mv.visitLabel(stale);
+            mv.visitInsn(Opcodes.POP);
+            FixCounterCalls.emitHit(mv, "craftingManager.staleBench",
+                    "Cleared stale CraftingManager bench in setBench() (bench already set)");
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            if (clearBenchOpcode != 0) {
+                mv.visitMethodInsn(clearBenchOpcode, className, "clearBench", "()V", false);
+            } else {
+                mv.visitInsn(Opcodes.ACONST_NULL);
+                mv.visitFieldInsn(Opcodes.PUTFIELD, className, fieldName, fieldDescriptor);
+            }
+            mv.visitJumpInsn(Opcodes.GOTO, okLabel);
+            verbose("  Guarded 'already set' throw on " + fieldName + " with "
+                    + (clearBenchOpcode != 0 ? "clearBench()" : "clearing the field") + " for stale benches");
+            bindAt = okLabel;
+            patched = true;
+            reset();
+            return;
+        }
+        if (!inGuardedThrow) {
+            reset();
+        }
+        super.visitInsn(opcode);
+    }
+
+    @Override
+    public void visitLabel(Label label) {
+        super.visitLabel(label);
+        if (label == bindAt) {
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, BenchWindows.OWNER, "bind", "(Ljava/lang/Object;)V", false);
+            bindAt = null;
+        }
+    }
+
+    @Override
+    public void visitIntInsn(int opcode, int operand) {
+        if (!inGuardedThrow) {
+            reset();
+        }
+        super.visitIntInsn(opcode, operand);
+    }
+
+    @Override
+    public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+        if (!inGuardedThrow) {
+            reset();
+        }
+        super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+    }
+
+    private void reset() {
+        sawLoadThis = false;
+        fieldName = null;
+        fieldDescriptor = null;
+        okLabel = null;
+        inGuardedThrow = false;
+        sawAlreadySet = false;
+    }
+}
@@ -1,10 +1,6 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
-import org.objectweb.asm.ClassWriter;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
 
@@ -21,46 +17,25 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/52">Issue #52</a>
  */
-public class SetMemoriesCapacityTransformer implements ClassTransformer {
+public class SetMemoriesCapacityTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.builtin.adventure.memories.interactions.SetMemoriesCapacityInteraction";
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the target class
-        if (!TARGET_CLASS.equals(className)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled
-        // Note: Using a general "memoriesInteraction" config key
-        // For now, always enable this fix since it prevents player kicks
-
-        separator();
-        info("Transforming SetMemoriesCapacityInteraction class...");
-        verbose("  Target: " + TARGET_CLASS);
-        verbose("  Original size: " + classBytes.length + " bytes");
-
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            // COMPUTE_FRAMES is required because we inject bytecode with jump instructions
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new SetMemoriesCapacityVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
+    public String targetClass() {
+        return TARGET_CLASS;
+    }
 
-            byte[] transformed = writer.toByteArray();
-            verbose("  Transformed size: " + transformed.length + " bytes");
-            info("SetMemoriesCapacityInteraction transformation COMPLETE!");
-            separator();
+    @Override
+    public String name() {
+        return "SetMemoriesCapacityInteraction";
+    }
 
-            return transformed;
+    // No configKey(): always enabled since it prevents player kicks
 
-        } catch (Exception e) {
-            error("ERROR: Failed to transform SetMemoriesCapacityInteraction!");
-            error("  Exception: " + e.getMessage());
-            e.printStackTrace();
-            return classBytes;
-        }
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
+        verbose("  Target: " + TARGET_CLASS);
+        return new SetMemoriesCapacityVisitor(next);
     }
 }
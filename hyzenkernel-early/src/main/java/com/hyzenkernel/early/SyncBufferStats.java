@@ -0,0 +1,202 @@
+package com.hyzenkernel.early;
+
+import com.hyzenkernel.early.config.EarlyConfigManager;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Sync buffer (InteractionChain.tempSyncData) bookkeeping, called from the bytecode that
+ * {@link PutSyncDataMethodVisitor} and {@link UpdateSyncPositionMethodVisitor} inject.
+ *
+ * - compaction: entries below tempSyncDataOffset are dropped when updateSyncPosition()
+ *   moves the offset past them
+ * - hard cap: a put that would grow the buffer beyond syncBuffer.maxEntries desyncs the
+ *   chain instead (see {@link #fits})
+ * - high-water marks: every chain tracks its largest buffer in an injected
+ *   {@link #HIGH_WATER_FIELD} field; new per-chain highs are aggregated here by root
+ *   interaction so the runtime plugin can show which interactions blow up the buffer
+ *
+ * The public read API only uses JDK types (the runtime plugin reads it via reflection).
+ */
+public final class SyncBufferStats {
+
+    /** Field added to InteractionChain by {@link InteractionChainVisitor}. */
+    static final String HIGH_WATER_FIELD = "hyzenkernel$syncHighWater";
+
+    static final String OWNER = "com/hyzenkernel/early/SyncBufferStats";
+
+    private static final LongAccumulator maxHighWater = new LongAccumulator(Math::max, 0);
+    private static final LongAdder compactions = new LongAdder();
+    private static final LongAdder entriesCompacted = new LongAdder();
+    private static final LongAdder overflows = new LongAdder();
+    private static final Map<String, LongAccumulator> highWaterByInteraction = new ConcurrentHashMap<>();
+
+    private static final int reportThreshold =
+            EarlyConfigManager.getInstance().getSyncBufferConfig().reportHighWaterAbove;
+
+    private static final ClassValue<Function<Object, String>> KEY_EXTRACTORS = new ClassValue<>() {
+        @Override
+        protected Function<Object, String> computeValue(Class<?> type) {
+            return keyExtractor(type);
+        }
+    };
+
+    private SyncBufferStats() {
+    }
+
+    // ============================================
+    // Called from injected bytecode
+    // ============================================
+
+    /**
+     * Whether a buffer of {@code size} entries may grow by {@code growth} without exceeding
+     * {@code cap}. A negative growth (overflowed index arithmetic from a malformed packet)
+     * never fits.
+     */
+    public static boolean fits(int size, int growth, int cap) {
+        return growth >= 0 && growth <= cap - size;
+    }
+
+    /**
+     * Drop the entries that updateSyncPosition() just moved the offset past.
+     */
+    public static void compact(List<?> buffer, int consumed) {
+        int count = Math.min(consumed, buffer.size());
+        if (count <= 0) {
+            return;
+        }
+        if (count == buffer.size()) {
+            buffer.clear();
+        } else {
+            // One shift of the remaining entries
+            buffer.subList(0, count).clear();
+        }
+        compactions.increment();
+        entriesCompacted.add(count);
+    }
+
+    /**
+     * A chain's buffer reached a new high-water mark.
+     */
+    public static void recordHighWater(Object chain, int size) {
+        maxHighWater.accumulate(size);
+        if (size >= reportThreshold) {
+            highWaterByInteraction
+                    .computeIfAbsent(keyOf(chain), k -> new LongAccumulator(Math::max, 0))
+                    .accumulate(size);
+        }
+    }
+
+    /**
+     * A put would have grown the buffer past the cap; the chain is about to be desynced.
+     */
+    public static void recordOverflow(Object chain, int size) {
+        overflows.increment();
+        recordHighWater(chain, size);
+        FixCounters.hit("interactionChain.syncBufferOverflow",
+                "Sync buffer cap reached - desyncing interaction chain: ", keyOf(chain));
+    }
+
+    // ============================================
+    // Read API (used by the runtime plugin via reflection)
+    // ============================================
+
+    /**
+     * [max high-water, compactions, entries compacted, overflows]
+     */
+    public static long[] totals() {
+        return new long[]{maxHighWater.get(), compactions.sum(), entriesCompacted.sum(), overflows.sum()};
+    }
+
+    /**
+     * Largest buffer seen per root interaction, for buffers of at least the report threshold.
+     */
+    public static Map<String, Long> highWaterByInteraction() {
+        Map<String, Long> result = new TreeMap<>();
+        highWaterByInteraction.forEach((key, max) -> result.put(key, max.get()));
+        return result;
+    }
+
+    /**
+     * High-water mark of a single chain, or -1 if it wasn't patched.
+     */
+    public static int highWaterOf(Object chain) {
+        try {
+            Field field = chain.getClass().getDeclaredField(HIGH_WATER_FIELD);
+            field.setAccessible(true);
+            return field.getInt(chain);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    // ============================================
+    // Chain -> interaction name
+    // ============================================
+
+    static String keyOf(Object chain) {
+        try {
+            return KEY_EXTRACTORS.get(chain.getClass()).apply(chain);
+        } catch (RuntimeException e) {
+            return chain.getClass().getSimpleName();
+        }
+    }
+
+    private static Function<Object, String> keyExtractor(Class<?> type) {
+        Field root = findField(type, "initialRootInteraction");
+        if (root != null) {
+            Method getId = findMethod(root.getType(), "getId");
+            return chain -> {
+                try {
+                    Object value = root.get(chain);
+                    if (value != null && getId != null) {
+                        return String.valueOf(getId.invoke(value));
+                    }
+                    return String.valueOf(value);
+                } catch (ReflectiveOperationException e) {
+                    return type.getSimpleName();
+                }
+            };
+        }
+
+        Field interactionType = findField(type, "type");
+        if (interactionType != null) {
+            return chain -> {
+                try {
+                    return String.valueOf(interactionType.get(chain));
+                } catch (ReflectiveOperationException e) {
+                    return type.getSimpleName();
+                }
+            };
+        }
+
+        String name = type.getSimpleName();
+        return chain -> name;
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.hyzenkernel.early;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sync gap histograms, fed by the bytecode that {@link PutSyncDataMethodVisitor} and
+ * {@link UpdateSyncPositionMethodVisitor} inject.
+ *
+ * The patched methods tolerate what vanilla rejects, so without this the only signal
+ * about desync severity is gone. Gap sizes are recorded as:
+ * - forward:  updateSyncPosition() skipping indices (vanilla throws), or a put landing
+ *             past the end of the buffer (vanilla logs "sent out of order")
+ * - backward: a put below tempSyncDataOffset that the patch expands the buffer for
+ *             (vanilla logs "Attempted to store sync data")
+ *
+ * Histograms are kept globally per direction and per player. The player key is the
+ * chain's InteractionContext.owningEntity Ref; the runtime plugin resolves it to a
+ * username, so only JDK types and Hytale's own Ref cross the plugin boundary.
+ */
+public final class SyncGapStats {
+
+    static final String OWNER = "com/hyzenkernel/early/SyncGapStats";
+
+    /** Per-player histograms; entries for refs that are no longer valid are pruned. */
+    private static final int MAX_PLAYERS = 1024;
+
+    private static final LogHistogram forward = new LogHistogram();
+    private static final LogHistogram backward = new LogHistogram();
+    private static final Map<Object, LogHistogram> byPlayer = new ConcurrentHashMap<>();
+    // Chains without a resolvable owner (or past MAX_PLAYERS) only count in the globals
+    private static final LogHistogram UNKNOWN_PLAYER = new LogHistogram();
+
+    private static final ClassValue<Method> IS_VALID = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                return type.getMethod("isValid");
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+    };
+
+    private SyncGapStats() {
+    }
+
+    // ============================================
+    // Called from injected bytecode
+    // ============================================
+
+    /**
+     * Indices skipped going forward. Non-positive gaps (the in-order case) are ignored.
+     */
+    public static void recordForward(Object chain, int gap) {
+        if (gap > 0) {
+            forward.record(gap);
+            playerHistogram(chain).record(gap);
+        }
+    }
+
+    /**
+     * Indices the buffer had to grow by at the front.
+     */
+    public static void recordBackward(Object chain, int gap) {
+        if (gap > 0) {
+            backward.record(gap);
+            playerHistogram(chain).record(gap);
+        }
+    }
+
+    // ============================================
+    // Read API (used by the runtime plugin via reflection)
+    // Every long[] is LogHistogram.summary(): [count, p50, p99, max]
+    // ============================================
+
+    public static long[] forwardSummary() {
+        return forward.summary();
+    }
+
+    public static long[] backwardSummary() {
+        return backward.summary();
+    }
+
+    /**
+     * Summary per owning entity Ref. Refs that are no longer valid are dropped here.
+     */
+    public static Map<Object, long[]> playerSummaries() {
+        pruneInvalid();
+        Map<Object, long[]> result = new HashMap<>();
+        byPlayer.forEach((ref, histogram) -> result.put(ref, histogram.summary()));
+        return result;
+    }
+
+    // ============================================
+    // Per-player histograms
+    // ============================================
+
+    private static LogHistogram playerHistogram(Object chain) {
+        Object owner = ChainOwners.owner(chain);
+        if (owner == null) {
+            return UNKNOWN_PLAYER;
+        }
+        LogHistogram histogram = byPlayer.get(owner);
+        if (histogram != null) {
+            return histogram;
+        }
+        if (byPlayer.size() >= MAX_PLAYERS) {
+            pruneInvalid();
+            if (byPlayer.size() >= MAX_PLAYERS) {
+                return UNKNOWN_PLAYER;
+            }
+        }
+        return byPlayer.computeIfAbsent(owner, k -> new LogHistogram());
+    }
+
+    private static void pruneInvalid() {
+        byPlayer.keySet().removeIf(ref -> !isValid(ref));
+    }
+
+    private static boolean isValid(Object ref) {
+        Method isValid = IS_VALID.get(ref.getClass());
+        if (isValid == null) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(isValid.invoke(ref));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -15,7 +15,7 @@ import org.objectweb.asm.Opcodes;
  *   try {
  *       tempThread.stop();
  *   } catch (UnsupportedOperationException e) {
- *       System.err.println("[HyzenKernel] Thread.stop() not supported, using interrupt()");
+ *       FixCounters.hit("tickingThread.stopUnsupported", "Thread.stop() not supported, using interrupt()");
  *       tempThread.interrupt();
  *   }
  */
@@ -84,9 +84,7 @@ public class ThreadStopMethodVisitor extends MethodVisitor {
             mv.visitInsn(Opcodes.POP);
 
             // Log warning
-            mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "err", "Ljava/io/PrintStream;");
-            mv.visitLdcInsn("[HyzenKernel] Thread.stop() not supported on Java 21+, using interrupt() instead");
-            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(mv, "tickingThread.stopUnsupported", "Thread.stop() not supported on Java 21+, using interrupt() instead");
 
             // Load thread from local variable and call interrupt()
             mv.visitVarInsn(Opcodes.ALOAD, threadLocalVar);
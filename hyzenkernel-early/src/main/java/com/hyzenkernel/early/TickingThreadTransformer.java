@@ -1,9 +1,5 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
@@ -17,46 +13,33 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/32">GitHub Issue #32</a>
  */
-public class TickingThreadTransformer implements ClassTransformer {
+public class TickingThreadTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.util.thread.TickingThread";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("tickingThread")) {
-            info("TickingThreadTransformer DISABLED by config");
-            return classBytes;
-        }
-
-        try {
-            info("Transforming: " + TARGET_CLASS);
-            verbose("Fixing Thread.stop() UnsupportedOperationException (Issue #32)");
-
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-
-            TickingThreadVisitor visitor = new TickingThreadVisitor(writer);
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            if (visitor.isTransformed()) {
-                info("TickingThread transformation COMPLETE!");
-                return writer.toByteArray();
-            } else {
-                error("WARNING: TickingThread transformation did not apply!");
-                return classBytes;
-            }
-        } catch (Exception e) {
-            error("Error transforming TickingThread: " + e.getMessage(), e);
-            return classBytes;
-        }
+    public String name() {
+        return "TickingThread";
+    }
+
+    @Override
+    public String configKey() {
+        return "tickingThread";
+    }
+
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
+        verbose("Fixing Thread.stop() UnsupportedOperationException (Issue #32)");
+        return new TickingThreadVisitor(next);
+    }
+
+    @Override
+    public boolean isApplied(ClassVisitor visitor) {
+        return ((TickingThreadVisitor) visitor).isTransformed();
     }
 }
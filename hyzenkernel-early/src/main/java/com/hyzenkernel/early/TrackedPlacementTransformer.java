@@ -1,9 +1,5 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ClassVisitor;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
@@ -30,10 +26,25 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/11">GitHub Issue #11</a>
  */
-public class TrackedPlacementTransformer implements ClassTransformer {
+public class TrackedPlacementTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.modules.interaction.blocktrack.TrackedPlacement$OnAddRemove";
 
+    @Override
+    public String targetClass() {
+        return TARGET_CLASS;
+    }
+
+    @Override
+    public String name() {
+        return "TrackedPlacement$OnAddRemove";
+    }
+
+    @Override
+    public String configKey() {
+        return "trackedPlacement";
+    }
+
     @Override
     public int priority() {
         // Standard priority
@@ -41,42 +52,9 @@ public class TrackedPlacementTransformer implements ClassTransformer {
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the TrackedPlacement$OnAddRemove inner class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled via config
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("trackedPlacement")) {
-            info("TrackedPlacementTransformer DISABLED by config");
-            return classBytes;
-        }
-
-        separator();
-        info("Transforming TrackedPlacement$OnAddRemove class...");
+    public ClassVisitor createVisitor(ClassVisitor next) {
         verbose("Fixing BlockCounter decrement null check bug");
         verbose("Issue: https://github.com/DuvyDev/HyzenKernel/issues/11");
-        separator();
-
-        try {
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-            ClassVisitor visitor = new TrackedPlacementVisitor(writer);
-
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            byte[] transformedBytes = writer.toByteArray();
-            info("TrackedPlacement$OnAddRemove transformation COMPLETE!");
-            verbose("Original size: " + classBytes.length + " bytes");
-            verbose("Transformed size: " + transformedBytes.length + " bytes");
-
-            return transformedBytes;
-
-        } catch (Exception e) {
-            error("ERROR: Failed to transform TrackedPlacement$OnAddRemove!");
-            error("Returning original bytecode to prevent crash.", e);
-            return classBytes;
-        }
+        return new TrackedPlacementVisitor(next);
     }
 }
@@ -22,17 +22,17 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *   if (reason != RemoveReason.REMOVE) return;
  *   TrackedPlacement tracked = commandBuffer.getComponent(ref, COMPONENT_TYPE);
  *   if (tracked == null) {
- *       System.out.println("[HyzenKernel-Early] WARNING: TrackedPlacement null on remove");
+ *       FixCounters.hit("trackedPlacement.nullComponent", "WARNING: TrackedPlacement null on remove");
  *       return;
  *   }
  *   String blockName = tracked.blockName;
  *   if (blockName == null || blockName.isEmpty()) {
- *       System.out.println("[HyzenKernel-Early] WARNING: blockName null/empty on remove");
+ *       FixCounters.hit("trackedPlacement.nullBlockName", "WARNING: blockName null/empty on remove");
  *       return;
  *   }
  *   BlockCounter counter = commandBuffer.getResource(BLOCK_COUNTER_RESOURCE_TYPE);
  *   counter.untrackBlock(blockName);
- *   System.out.println("[HyzenKernel-Early] Decremented counter for: " + blockName);
+ *   FixCounters.hit("trackedPlacement.decremented", "BlockCounter decremented for: ", blockName);
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/11">GitHub Issue #11</a>
  */
@@ -188,20 +188,10 @@ public class TrackedPlacementVisitor extends ClassVisitor {
                 false);
 
             // ========================================
-            // Log success (for debugging)
+            // FixCounters.hit("trackedPlacement.decremented", "BlockCounter decremented for: ", blockName);
+            // (blockName is only concatenated when the sampled message is printed)
             // ========================================
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-
-            // Create the log message using StringBuilder
-            target.visitTypeInsn(Opcodes.NEW, "java/lang/StringBuilder");
-            target.visitInsn(Opcodes.DUP);
-            target.visitLdcInsn("[HyzenKernel-Early] BlockCounter decremented for: ");
-            target.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/StringBuilder", "<init>", "(Ljava/lang/String;)V", false);
-            target.visitVarInsn(Opcodes.ALOAD, 6);
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/lang/StringBuilder", "toString", "()Ljava/lang/String;", false);
-
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(target, "trackedPlacement.decremented", "BlockCounter decremented for: ", 6);
 
             // Jump to return
             target.visitJumpInsn(Opcodes.GOTO, returnLabel);
@@ -210,18 +200,14 @@ public class TrackedPlacementVisitor extends ClassVisitor {
             // trackedNullLabel: Log warning and return
             // ========================================
             target.visitLabel(trackedNullLabel);
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyzenKernel-Early] WARNING: TrackedPlacement component was null on entity remove - BlockCounter not decremented");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(target, "trackedPlacement.nullComponent", "WARNING: TrackedPlacement component was null on entity remove - BlockCounter not decremented");
             target.visitJumpInsn(Opcodes.GOTO, returnLabel);
 
             // ========================================
             // blockNameNullLabel: Log warning and return
             // ========================================
             target.visitLabel(blockNameNullLabel);
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyzenKernel-Early] WARNING: TrackedPlacement.blockName was null/empty on entity remove - BlockCounter not decremented");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(target, "trackedPlacement.nullBlockName", "WARNING: TrackedPlacement.blockName was null/empty on entity remove - BlockCounter not decremented");
 
             // ========================================
             // returnLabel: return;
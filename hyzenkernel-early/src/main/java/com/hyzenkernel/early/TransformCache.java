@@ -0,0 +1,199 @@
+package com.hyzenkernel.early;
+
+import com.google.gson.ExclusionStrategy;
+import com.google.gson.FieldAttributes;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.hyzenkernel.early.config.EarlyConfigManager;
+import com.hyzenkernel.early.config.EarlyPluginConfig;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.CRC32;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * Content-addressed on-disk cache of transformed class bytes.
+ *
+ * Every boot the router would otherwise redo the full ASM read/rewrite/COMPUTE_FRAMES
+ * work for each patched class, even when HytaleServer.jar and config.json are unchanged.
+ * Entries live in mods/hyzenkernel/class-cache/ and are keyed by a SHA-256 of:
+ * - the input class bytes
+ * - the early plugin version (plus the jar's size/mtime, so dev rebuilds invalidate too)
+ * - the effective EarlyPluginConfig (the "early" section is excluded - logging and cache
+ *   settings don't change bytecode)
+ *
+ * A changed server jar, plugin build or config simply produces new keys; old entries are
+ * never read again. Each entry carries a CRC32 of its payload so a truncated or corrupted
+ * file is treated as a miss instead of being handed to the JVM.
+ */
+public class TransformCache {
+
+    private static final Path CACHE_DIR = Paths.get("mods/hyzenkernel", "class-cache");
+    private static final int ENTRY_MAGIC = 0x484B4331; // "HKC1"
+    private static final int HEADER_SIZE = 8;
+
+    private final byte[] environmentKey;
+    private boolean writeFailed = false;
+
+    public TransformCache() {
+        this.environmentKey = computeEnvironmentKey();
+    }
+
+    /**
+     * Whether the cache is enabled in config (early.classCache).
+     */
+    public static boolean isEnabled() {
+        return EarlyConfigManager.getInstance().getConfig().early.classCache;
+    }
+
+    /**
+     * Compute the cache key for a class.
+     */
+    public String key(String className, byte[] classBytes) {
+        MessageDigest digest = sha256();
+        digest.update(environmentKey);
+        digest.update(className.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(classBytes);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Look up cached transformed bytes, or null on a miss.
+     */
+    public byte[] get(String key) {
+        Path file = CACHE_DIR.resolve(key + ".class");
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try {
+            byte[] entry = Files.readAllBytes(file);
+            if (entry.length <= HEADER_SIZE) {
+                return null;
+            }
+            ByteBuffer header = ByteBuffer.wrap(entry, 0, HEADER_SIZE);
+            if (header.getInt() != ENTRY_MAGIC) {
+                return null;
+            }
+            int expectedCrc = header.getInt();
+
+            CRC32 crc = new CRC32();
+            crc.update(entry, HEADER_SIZE, entry.length - HEADER_SIZE);
+            if ((int) crc.getValue() != expectedCrc) {
+                error("WARNING: Corrupted class cache entry " + file.getFileName() + " - ignoring");
+                return null;
+            }
+
+            byte[] classBytes = new byte[entry.length - HEADER_SIZE];
+            System.arraycopy(entry, HEADER_SIZE, classBytes, 0, classBytes.length);
+            return classBytes;
+        } catch (IOException e) {
+            verbose("Class cache read failed for " + key + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store transformed bytes. Written to a temp file and moved into place so a crash
+     * mid-write never leaves a partial entry behind.
+     */
+    public void put(String key, byte[] transformedBytes) {
+        if (writeFailed) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(CACHE_DIR);
+
+            CRC32 crc = new CRC32();
+            crc.update(transformedBytes);
+            ByteBuffer entry = ByteBuffer.allocate(HEADER_SIZE + transformedBytes.length);
+            entry.putInt(ENTRY_MAGIC);
+            entry.putInt((int) crc.getValue());
+            entry.put(transformedBytes);
+
+            Path tmp = Files.createTempFile(CACHE_DIR, key, ".tmp");
+            Files.write(tmp, entry.array());
+            Files.move(tmp, CACHE_DIR.resolve(key + ".class"),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Read-only install dir etc. - don't retry for every class
+            writeFailed = true;
+            error("WARNING: Could not write class cache to " + CACHE_DIR + ": " + e.getMessage());
+        }
+    }
+
+    private static byte[] computeEnvironmentKey() {
+        MessageDigest digest = sha256();
+        digest.update(buildFingerprint().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(configFingerprint().getBytes(StandardCharsets.UTF_8));
+        return digest.digest();
+    }
+
+    /**
+     * Early plugin version plus the size and mtime of the jar we were loaded from.
+     */
+    private static String buildFingerprint() {
+        StringBuilder sb = new StringBuilder(pluginVersion());
+        try {
+            URL location = TransformCache.class.getProtectionDomain().getCodeSource().getLocation();
+            Path jar = Paths.get(location.toURI());
+            if (Files.isRegularFile(jar)) {
+                sb.append('|').append(Files.size(jar)).append('|').append(Files.getLastModifiedTime(jar).toMillis());
+            }
+        } catch (Exception e) {
+            verbose("Could not fingerprint early plugin jar: " + e.getMessage());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Early plugin version from the jar manifest, or "dev" when running from a classes dir.
+     */
+    static String pluginVersion() {
+        String version = TransformCache.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+
+    /**
+     * Effective config as JSON, without the early plugin's own logging/cache section.
+     */
+    static String configFingerprint() {
+        Gson gson = new GsonBuilder()
+                .serializeNulls()
+                .setExclusionStrategies(new ExclusionStrategy() {
+                    @Override
+                    public boolean shouldSkipField(FieldAttributes f) {
+                        return f.getDeclaredClass() == EarlyPluginConfig.EarlyConfig.class;
+                    }
+
+                    @Override
+                    public boolean shouldSkipClass(Class<?> clazz) {
+                        return false;
+                    }
+                })
+                .create();
+        return gson.toJson(EarlyConfigManager.getInstance().getConfig());
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
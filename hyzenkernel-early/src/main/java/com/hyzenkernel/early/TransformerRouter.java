@@ -0,0 +1,287 @@
+package com.hyzenkernel.early;
+
+import com.hyzenkernel.early.config.EarlyConfigManager;
+import com.hypixel.hytale.plugin.early.ClassTransformer;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hyzenkernel.early.EarlyLogger.*;
+
+/**
+ * HyzenKernel Early Plugin - Single-pass transformer router
+ *
+ * The server calls every registered ClassTransformer for every class it loads
+ * (tens of thousands at boot). Instead of registering each fix separately and
+ * letting each one compare the class name, this router is the only registered
+ * transformer:
+ * - Classes without fixes are skipped with a single HashMap lookup
+ * - Classes with fixes are parsed once, all of their fix visitors are chained
+ *   over the same ClassReader/ClassWriter, and the class is written once
+ *
+ * If the combined pass fails, each fix is retried on its own so one broken fix
+ * can't take the others for the same class down with it.
+ *
+ * Results are stored in the {@link TransformCache}, so an unchanged server jar and
+ * config skip the ASM work entirely on the next boot. Classes that already come from
+ * a {@link PrePatcher} overlay jar are recognised by hash and passed through untouched
+ * (or, if the overlay was built from another server jar, replaced by the originals).
+ */
+public class TransformerRouter implements ClassTransformer {
+
+    private final Map<String, ClassFix[]> fixesByClass;
+    private final PrePatchedOverlay overlay;
+    private TransformCache cache;
+
+    public TransformerRouter() {
+        List<ClassFix> fixes = allFixes();
+        fixes.forEach(TransformerStats::register);
+        this.fixesByClass = buildIndex(fixes);
+        this.overlay = PrePatchedOverlay.load();
+        verbose("TransformerRouter indexed " + fixesByClass.size() + " target classes");
+    }
+
+    /**
+     * Every fix shipped with the early plugin.
+     */
+    static List<ClassFix> allFixes() {
+        return List.of(
+                new InteractionChainTransformer(),
+                new InteractionManagerTransformer(),
+                new WorldTransformer(),
+                new SpawnReferenceSystemsTransformer(),
+                new BlockComponentChunkTransformer(),
+                new SpawnMarkerSystemsTransformer(),
+                new TrackedPlacementTransformer(),
+                new CommandBufferTransformer(),
+                new WorldMapTrackerTransformer(),
+                new ArchetypeChunkTransformer(),
+                new PacketHandlerTransformer(),
+                new UUIDSystemTransformer(),
+                new TickingThreadTransformer(),
+                new UniverseTransformer(),
+                new LivingEntityTransformer(),
+                new CraftingManagerTransformer(),
+                new BenchWindowTransformer(),
+                new GatherObjectiveTaskTransformer(),
+                new SetMemoriesCapacityTransformer(),
+                new WorldSpawningSystemTransformer(),
+                new PrefabLoaderTransformer(),
+                new InstancesPluginTransformer(),
+                new ChunkSavingSystemsTransformer(),
+                new WorldConfigSpawnProviderTransformer(),
+                new RemovalSystemTransformer(),
+                new PortalDeviceSummonPageTransformer()
+        );
+    }
+
+    private static Map<String, ClassFix[]> buildIndex(List<ClassFix> fixes) {
+        Map<String, List<ClassFix>> grouped = new HashMap<>();
+        for (ClassFix fix : fixes) {
+            grouped.computeIfAbsent(fix.targetClass(), k -> new ArrayList<>()).add(fix);
+        }
+
+        Map<String, ClassFix[]> index = new HashMap<>(grouped.size() * 2);
+        for (Map.Entry<String, List<ClassFix>> entry : grouped.entrySet()) {
+            List<ClassFix> list = entry.getValue();
+            list.sort(Comparator.comparingInt(ClassFix::priority).reversed());
+            index.put(entry.getKey(), list.toArray(new ClassFix[0]));
+        }
+        return index;
+    }
+
+    @Override
+    public int priority() {
+        return 100;
+    }
+
+    @Override
+    public byte[] transform(String className, String packageName, byte[] classBytes) {
+        TransformerStats.recordClassSeen();
+        ClassFix[] fixes = fixesByClass.get(className);
+        if (fixes == null) {
+            return classBytes;
+        }
+
+        long start = System.nanoTime();
+        try {
+            return route(className, classBytes, fixes);
+        } finally {
+            TransformerStats.recordRouted(fixes, System.nanoTime() - start);
+        }
+    }
+
+    private byte[] route(String className, byte[] classBytes, ClassFix[] fixes) {
+        if (overlay != null) {
+            if (overlay.isPrePatched(className, classBytes)) {
+                info(fixes[0].name() + " already pre-patched by overlay jar");
+                TransformerStats.recordOverlayHit(fixes);
+                return classBytes;
+            }
+            classBytes = overlay.originalBytes(className, classBytes);
+        }
+
+        if (!TransformCache.isEnabled()) {
+            return applyFixes(className, classBytes, fixes);
+        }
+
+        TransformCache cache = getCache();
+        String cacheKey = cache.key(className, classBytes);
+        byte[] cached = cache.get(cacheKey);
+        if (cached != null) {
+            info(fixes[0].name() + " transformation loaded from class cache");
+            TransformerStats.recordCacheHit(fixes, classBytes.length, cached.length);
+            return cached;
+        }
+
+        byte[] transformedBytes = applyFixes(className, classBytes, fixes);
+        if (transformedBytes != classBytes) {
+            cache.put(cacheKey, transformedBytes);
+        }
+        return transformedBytes;
+    }
+
+    private synchronized TransformCache getCache() {
+        if (cache == null) {
+            cache = new TransformCache();
+        }
+        return cache;
+    }
+
+    /**
+     * Whether any fix targets this class.
+     */
+    boolean hasFixesFor(String className) {
+        return fixesByClass.containsKey(className);
+    }
+
+    /**
+     * Apply all fixes for a class, bypassing the class cache and overlay (used by {@link PrePatcher}).
+     */
+    byte[] applyFixes(String className, byte[] classBytes) {
+        ClassFix[] fixes = fixesByClass.get(className);
+        return fixes != null ? applyFixes(className, classBytes, fixes) : classBytes;
+    }
+
+    private byte[] applyFixes(String className, byte[] classBytes, ClassFix[] fixes) {
+        List<ClassFix> enabled = new ArrayList<>(fixes.length);
+        for (ClassFix fix : fixes) {
+            String key = fix.configKey();
+            if (key != null && !EarlyConfigManager.getInstance().isTransformerEnabled(key)) {
+                info(fix.getClass().getSimpleName() + " DISABLED by config");
+                continue;
+            }
+            enabled.add(fix);
+        }
+        if (enabled.isEmpty()) {
+            return classBytes;
+        }
+
+        try {
+            return rewrite(classBytes, enabled);
+        } catch (Exception e) {
+            if (enabled.size() == 1) {
+                error("ERROR: Failed to transform " + enabled.get(0).name() + "!");
+                error("Returning original bytecode to prevent crash.", e);
+                return classBytes;
+            }
+
+            error("ERROR: Combined transformation of " + className + " failed, retrying each fix separately", e);
+            byte[] current = classBytes;
+            for (ClassFix fix : enabled) {
+                try {
+                    current = rewrite(current, List.of(fix));
+                } catch (Exception inner) {
+                    error("ERROR: Failed to transform " + fix.name() + "!");
+                    error("Skipping this fix to prevent crash.", inner);
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Run all given fixes over a single ClassReader/ClassWriter pass.
+     * Returns the input bytes unchanged if no fix applied.
+     */
+    private byte[] rewrite(byte[] classBytes, List<ClassFix> fixes) {
+        long start = System.nanoTime();
+        ClassReader reader = new ClassReader(classBytes);
+        // Passing the reader lets ASM copy untouched methods verbatim instead of re-encoding them;
+        // HierarchyClassWriter computes frames from class file headers instead of Class.forName()
+        ClassWriter writer = new HierarchyClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+
+        // Build the chain inside-out so the highest priority fix is outermost and sees the original bytecode first
+        ClassVisitor[] visitors = new ClassVisitor[fixes.size()];
+        ClassVisitor chain = writer;
+        boolean anyVisitor = false;
+        for (int i = fixes.size() - 1; i >= 0; i--) {
+            ClassFix fix = fixes.get(i);
+            separator();
+            info("Transforming " + fix.name() + "...");
+            ClassVisitor next = fix.createVisitor(chain);
+            if (next != chain) {
+                // A fix that hands back the chain unchanged has nothing to patch
+                visitors[i] = next;
+                anyVisitor = true;
+            }
+            chain = next;
+        }
+        separator();
+
+        if (!anyVisitor) {
+            return classBytes;
+        }
+
+        reader.accept(chain, ClassReader.EXPAND_FRAMES);
+
+        boolean[] applied = new boolean[fixes.size()];
+        boolean anyApplied = false;
+        for (int i = 0; i < fixes.size(); i++) {
+            ClassFix fix = fixes.get(i);
+            if (visitors[i] == null) {
+                continue;
+            }
+            if (!fix.isApplied(visitors[i])) {
+                error("WARNING: " + fix.name() + " transformation did not apply!");
+                continue;
+            }
+            applied[i] = true;
+            anyApplied = true;
+            info(fix.name() + " transformation COMPLETE!");
+        }
+
+        if (!anyApplied) {
+            return classBytes;
+        }
+
+        byte[] transformedBytes = writer.toByteArray();
+
+        // Fixes sharing this pass split its cost evenly, and the applied ones the class's bytes
+        long share = (System.nanoTime() - start) / fixes.size();
+        int appliedCount = 0;
+        for (boolean a : applied) {
+            if (a) {
+                appliedCount++;
+            }
+        }
+        for (int i = 0, n = 0; i < fixes.size(); i++) {
+            if (applied[i]) {
+                TransformerStats.recordRewrite(fixes.get(i), share,
+                        TransformerStats.split(classBytes.length, appliedCount, n),
+                        TransformerStats.split(transformedBytes.length, appliedCount, n));
+                n++;
+            }
+        }
+
+        verbose("Original size: " + classBytes.length + " bytes");
+        verbose("Transformed size: " + transformedBytes.length + " bytes");
+        return transformedBytes;
+    }
+}
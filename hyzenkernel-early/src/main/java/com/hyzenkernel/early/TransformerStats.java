@@ -0,0 +1,149 @@
+package com.hyzenkernel.early;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Startup-cost telemetry for every early plugin fix.
+ *
+ * Filled in by {@link TransformerRouter} while the server boots and read by the
+ * runtime plugin (/transformerstats) through reflection, so the public API only
+ * uses JDK types: {@link #snapshot()} returns one long[] per fix, indexed by the
+ * COL_* constants.
+ *
+ * Fixes that share a ClassReader/ClassWriter pass split that pass's time evenly, and
+ * the class's bytes in / out likewise, so every column adds up across fixes.
+ */
+public final class TransformerStats {
+
+    public static final int COL_INSPECTED = 0;
+    public static final int COL_REWRITTEN = 1;
+    public static final int COL_CACHE_HITS = 2;
+    public static final int COL_OVERLAY_HITS = 3;
+    public static final int COL_ASM_NANOS = 4;
+    public static final int COL_TOTAL_NANOS = 5;
+    public static final int COL_BYTES_IN = 6;
+    public static final int COL_BYTES_OUT = 7;
+    public static final int COLUMN_COUNT = 8;
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final Map<String, String> CONFIG_KEYS = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> ORDER = new ConcurrentHashMap<>();
+    private static final LongAdder classesSeen = new LongAdder();
+
+    private static final class Entry {
+        final LongAdder[] columns = new LongAdder[COLUMN_COUNT];
+
+        Entry() {
+            for (int i = 0; i < COLUMN_COUNT; i++) {
+                columns[i] = new LongAdder();
+            }
+        }
+
+        void add(int column, long value) {
+            columns[column].add(value);
+        }
+    }
+
+    private TransformerStats() {
+    }
+
+    static void register(ClassFix fix) {
+        String name = fix.getClass().getSimpleName();
+        ENTRIES.computeIfAbsent(name, k -> new Entry());
+        ORDER.putIfAbsent(name, ORDER.size());
+        CONFIG_KEYS.put(name, fix.configKey() != null ? fix.configKey() : "-");
+    }
+
+    private static Entry entry(ClassFix fix) {
+        return ENTRIES.computeIfAbsent(fix.getClass().getSimpleName(), k -> new Entry());
+    }
+
+    static void recordClassSeen() {
+        classesSeen.increment();
+    }
+
+    /**
+     * A class with fixes went through the router (hit, miss or disabled).
+     */
+    static void recordRouted(ClassFix[] fixes, long totalNanos) {
+        long share = totalNanos / fixes.length;
+        for (ClassFix fix : fixes) {
+            Entry e = entry(fix);
+            e.add(COL_INSPECTED, 1);
+            e.add(COL_TOTAL_NANOS, share);
+        }
+    }
+
+    static void recordCacheHit(ClassFix[] fixes, int bytesIn, int bytesOut) {
+        for (int i = 0; i < fixes.length; i++) {
+            Entry e = entry(fixes[i]);
+            e.add(COL_CACHE_HITS, 1);
+            e.add(COL_BYTES_IN, split(bytesIn, fixes.length, i));
+            e.add(COL_BYTES_OUT, split(bytesOut, fixes.length, i));
+        }
+    }
+
+    static void recordOverlayHit(ClassFix[] fixes) {
+        for (ClassFix fix : fixes) {
+            entry(fix).add(COL_OVERLAY_HITS, 1);
+        }
+    }
+
+    /**
+     * The index-th of {@code count} shares of {@code total}; the shares add up to total.
+     */
+    static long split(long total, int count, int index) {
+        return total / count + (index < total % count ? 1 : 0);
+    }
+
+    /**
+     * One fix's share of a rewrite - the caller splits the pass's time and bytes.
+     */
+    static void recordRewrite(ClassFix fix, long asmNanos, long bytesIn, long bytesOut) {
+        Entry e = entry(fix);
+        e.add(COL_REWRITTEN, 1);
+        e.add(COL_ASM_NANOS, asmNanos);
+        e.add(COL_BYTES_IN, bytesIn);
+        e.add(COL_BYTES_OUT, bytesOut);
+    }
+
+    // ============================================
+    // Read API (used by the runtime plugin via reflection)
+    // ============================================
+
+    /**
+     * Per-fix counters keyed by fix class name, in registration order.
+     */
+    public static Map<String, long[]> snapshot() {
+        Map<String, long[]> result = new LinkedHashMap<>();
+        ENTRIES.entrySet().stream()
+                .sorted((a, b) -> Integer.compare(
+                        ORDER.getOrDefault(a.getKey(), Integer.MAX_VALUE),
+                        ORDER.getOrDefault(b.getKey(), Integer.MAX_VALUE)))
+                .forEach(e -> {
+                    long[] row = new long[COLUMN_COUNT];
+                    for (int i = 0; i < COLUMN_COUNT; i++) {
+                        row[i] = e.getValue().columns[i].sum();
+                    }
+                    result.put(e.getKey(), row);
+                });
+        return result;
+    }
+
+    /**
+     * Config key (EarlyPluginConfig.TransformersConfig field) per fix class name, "-" if none.
+     */
+    public static Map<String, String> configKeys() {
+        return new LinkedHashMap<>(CONFIG_KEYS);
+    }
+
+    /**
+     * Total number of classes the router was asked about.
+     */
+    public static long classesSeen() {
+        return classesSeen.sum();
+    }
+}
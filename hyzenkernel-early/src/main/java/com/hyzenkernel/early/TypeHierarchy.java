@@ -0,0 +1,102 @@
+package com.hyzenkernel.early;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lazily built index of the class hierarchy, read straight from class file bytes.
+ *
+ * Used by {@link HierarchyClassWriter} to answer getCommonSuperClass() during
+ * COMPUTE_FRAMES without Class.forName(). Only the class header (super class,
+ * interfaces, access flags) is parsed, and each type is read at most once per boot.
+ * Nothing is ever defined or initialized, so transforming a class can't trigger
+ * loading - or recursive transformation - of another one.
+ */
+final class TypeHierarchy {
+
+    static final TypeHierarchy INSTANCE = new TypeHierarchy();
+
+    private static final TypeInfo MISSING = new TypeInfo(null, new String[0], false);
+
+    private final ConcurrentHashMap<String, TypeInfo> types = new ConcurrentHashMap<>();
+
+    record TypeInfo(String superName, String[] interfaces, boolean isInterface) {
+    }
+
+    private TypeHierarchy() {
+    }
+
+    /**
+     * Header info for an internal class name, or null if its bytes can't be found.
+     */
+    TypeInfo get(String internalName) {
+        TypeInfo info = types.computeIfAbsent(internalName, TypeHierarchy::read);
+        return info == MISSING ? null : info;
+    }
+
+    /**
+     * Equivalent of Class.isAssignableFrom(): can a value of type {@code from} be
+     * stored in a variable of type {@code to}? Returns null if part of the hierarchy
+     * is unknown, so callers can fall back.
+     */
+    Boolean isAssignableFrom(String to, String from) {
+        if (to.equals(from) || to.equals("java/lang/Object")) {
+            return true;
+        }
+
+        TypeInfo info = get(from);
+        if (info == null) {
+            return null;
+        }
+
+        if (info.superName() != null) {
+            Boolean viaSuper = isAssignableFrom(to, info.superName());
+            if (viaSuper == null || viaSuper) {
+                return viaSuper;
+            }
+        }
+        for (String iface : info.interfaces()) {
+            Boolean viaInterface = isAssignableFrom(to, iface);
+            if (viaInterface == null || viaInterface) {
+                return viaInterface;
+            }
+        }
+        return false;
+    }
+
+    private static TypeInfo read(String internalName) {
+        String resource = internalName + ".class";
+        try (InputStream in = openResource(resource)) {
+            if (in == null) {
+                return MISSING;
+            }
+            ClassReader reader = new ClassReader(in);
+            return new TypeInfo(
+                    reader.getSuperName(),
+                    reader.getInterfaces(),
+                    (reader.getAccess() & Opcodes.ACC_INTERFACE) != 0
+            );
+        } catch (IOException | RuntimeException e) {
+            return MISSING;
+        }
+    }
+
+    private static InputStream openResource(String resource) {
+        ClassLoader own = TypeHierarchy.class.getClassLoader();
+        InputStream in = own != null ? own.getResourceAsStream(resource) : null;
+        if (in == null) {
+            in = ClassLoader.getSystemResourceAsStream(resource);
+        }
+        if (in == null) {
+            ClassLoader context = Thread.currentThread().getContextClassLoader();
+            if (context != null) {
+                in = context.getResourceAsStream(resource);
+            }
+        }
+        return in;
+    }
+}
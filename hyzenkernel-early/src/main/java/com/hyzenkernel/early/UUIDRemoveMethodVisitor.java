@@ -15,7 +15,7 @@ import org.objectweb.asm.Opcodes;
  *
  * We inject a null check before the getUuid() call:
  *   if (uuidComponent == null) {
- *       System.err.println("[HyzenKernel] Warning: uuidComponent is null for entity removal");
+ *       FixCounters.hit("uuidSystem.nullUuidComponent", "Warning: uuidComponent is null for entity removal");
  *       return;  // Safe early return
  *   }
  */
@@ -61,10 +61,8 @@ public class UUIDRemoveMethodVisitor extends MethodVisitor {
             // Pop the null reference (we DUP'd it)
             mv.visitInsn(Opcodes.POP);
 
-            // Log warning: System.err.println("[HyzenKernel] uuidComponent null in onEntityRemove")
-            mv.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "err", "Ljava/io/PrintStream;");
-            mv.visitLdcInsn("[HyzenKernel] Warning: uuidComponent is null during entity removal - skipping UUID cleanup");
-            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            // FixCounters.hit("uuidSystem.nullUuidComponent", "Warning: uuidComponent is null ...")
+            FixCounterCalls.emitHit(mv, "uuidSystem.nullUuidComponent", "Warning: uuidComponent is null during entity removal - skipping UUID cleanup");
 
             // Return early (method returns void)
             mv.visitInsn(Opcodes.RETURN);
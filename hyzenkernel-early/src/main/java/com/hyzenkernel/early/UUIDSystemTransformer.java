@@ -1,11 +1,6 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
-
-import static com.hyzenkernel.early.EarlyLogger.*;
+import org.objectweb.asm.ClassVisitor;
 
 /**
  * Transformer for EntityStore$UUIDSystem to fix NPE during chunk unload.
@@ -16,47 +11,32 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/28">GitHub Issue #28</a>
  */
-public class UUIDSystemTransformer implements ClassTransformer {
+public class UUIDSystemTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.universe.world.storage.EntityStore$UUIDSystem";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
+    }
+
+    @Override
+    public String name() {
+        return "UUIDSystem";
+    }
+
+    @Override
+    public String configKey() {
+        return "uuidSystem";
+    }
+
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
+        return new UUIDSystemVisitor(next);
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        // Only transform the target class
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        // Check if transformer is enabled
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("uuidSystem")) {
-            info("UUIDSystemTransformer DISABLED by config");
-            return classBytes;
-        }
-
-        try {
-            info("Transforming: " + TARGET_CLASS);
-
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-
-            UUIDSystemVisitor visitor = new UUIDSystemVisitor(writer);
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            if (visitor.isTransformed()) {
-                info("UUIDSystem transformation COMPLETE!");
-                return writer.toByteArray();
-            } else {
-                error("WARNING: UUIDSystem transformation did not apply!");
-                return classBytes;
-            }
-        } catch (Exception e) {
-            error("Error transforming UUIDSystem: " + e.getMessage(), e);
-            return classBytes;
-        }
+    public boolean isApplied(ClassVisitor visitor) {
+        return ((UUIDSystemVisitor) visitor).isTransformed();
     }
 }
@@ -1,9 +1,6 @@
 package com.hyzenkernel.early;
 
-import com.hyzenkernel.early.config.EarlyConfigManager;
-import com.hypixel.hytale.plugin.early.ClassTransformer;
-import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 
 import static com.hyzenkernel.early.EarlyLogger.*;
 
@@ -18,46 +15,33 @@ import static com.hyzenkernel.early.EarlyLogger.*;
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/34">GitHub Issue #34</a>
  */
-public class UniverseTransformer implements ClassTransformer {
+public class UniverseTransformer implements ClassFix {
 
     private static final String TARGET_CLASS = "com.hypixel.hytale.server.core.universe.Universe";
 
     @Override
-    public int priority() {
-        return 100;
+    public String targetClass() {
+        return TARGET_CLASS;
     }
 
     @Override
-    public byte[] transform(String className, String packageName, byte[] classBytes) {
-        if (!className.equals(TARGET_CLASS)) {
-            return classBytes;
-        }
-
-        if (!EarlyConfigManager.getInstance().isTransformerEnabled("universeRemovePlayer")) {
-            info("UniverseTransformer DISABLED by config");
-            return classBytes;
-        }
-
-        try {
-            info("Transforming: " + TARGET_CLASS);
-            verbose("Fixing removePlayer() memory leak (Issue #34)");
-
-            ClassReader reader = new ClassReader(classBytes);
-            ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-
-            UniverseVisitor visitor = new UniverseVisitor(writer);
-            reader.accept(visitor, ClassReader.EXPAND_FRAMES);
-
-            if (visitor.isTransformed()) {
-                info("Universe transformation COMPLETE!");
-                return writer.toByteArray();
-            } else {
-                error("WARNING: Universe transformation did not apply!");
-                return classBytes;
-            }
-        } catch (Exception e) {
-            error("Error transforming Universe: " + e.getMessage(), e);
-            return classBytes;
-        }
+    public String name() {
+        return "Universe";
+    }
+
+    @Override
+    public String configKey() {
+        return "universeRemovePlayer";
+    }
+
+    @Override
+    public ClassVisitor createVisitor(ClassVisitor next) {
+        verbose("Fixing removePlayer() memory leak (Issue #34)");
+        return new UniverseVisitor(next);
+    }
+
+    @Override
+    public boolean isApplied(ClassVisitor visitor) {
+        return ((UniverseVisitor) visitor).isTransformed();
     }
 }
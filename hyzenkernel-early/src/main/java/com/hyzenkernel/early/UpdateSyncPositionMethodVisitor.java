@@ -17,6 +17,9 @@ import org.objectweb.asm.Opcodes;
  *
  * Fixed method logic:
  *   if (index >= tempSyncDataOffset) {
+ *       SyncGapStats.recordForward(this, index - tempSyncDataOffset);  // 0 = in order, not recorded
+ *       // Drop the entries the offset moves past - without this the buffer only ever grows
+ *       SyncBufferStats.compact(tempSyncData, index + 1 - tempSyncDataOffset);
  *       tempSyncDataOffset = index + 1;  // Handle gaps gracefully
  *   }
  *   // index < offset is silently ignored (already processed)
@@ -26,6 +29,8 @@ public class UpdateSyncPositionMethodVisitor extends MethodVisitor {
     private final String className;
     private final MethodVisitor target;
 
+    private static final String TEMP_SYNC_DATA_FIELD = "tempSyncData";
+    private static final String TEMP_SYNC_DATA_DESC = "Ljava/util/List;";
     private static final String TEMP_SYNC_DATA_OFFSET_FIELD = "tempSyncDataOffset";
 
     public UpdateSyncPositionMethodVisitor(MethodVisitor methodVisitor, String className) {
@@ -54,6 +59,25 @@ public class UpdateSyncPositionMethodVisitor extends MethodVisitor {
         target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_OFFSET_FIELD, "I");
         target.visitJumpInsn(Opcodes.IF_ICMPLT, endMethod);  // if index < offset, skip to end
 
+        // SyncGapStats.recordForward(this, index - tempSyncDataOffset)
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitVarInsn(Opcodes.ILOAD, 1);
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_OFFSET_FIELD, "I");
+        target.visitInsn(Opcodes.ISUB);
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, SyncGapStats.OWNER, "recordForward", "(Ljava/lang/Object;I)V", false);
+
+        // SyncBufferStats.compact(tempSyncData, index + 1 - tempSyncDataOffset)
+        target.visitVarInsn(Opcodes.ALOAD, 0);   // this
+        target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_FIELD, TEMP_SYNC_DATA_DESC);
+        target.visitVarInsn(Opcodes.ILOAD, 1);   // index
+        target.visitInsn(Opcodes.ICONST_1);
+        target.visitInsn(Opcodes.IADD);          // index + 1
+        target.visitVarInsn(Opcodes.ALOAD, 0);
+        target.visitFieldInsn(Opcodes.GETFIELD, className, TEMP_SYNC_DATA_OFFSET_FIELD, "I");
+        target.visitInsn(Opcodes.ISUB);          // - offset
+        target.visitMethodInsn(Opcodes.INVOKESTATIC, SyncBufferStats.OWNER, "compact", "(Ljava/util/List;I)V", false);
+
         // tempSyncDataOffset = index + 1
         target.visitVarInsn(Opcodes.ALOAD, 0);   // this
         target.visitVarInsn(Opcodes.ILOAD, 1);   // index
@@ -65,7 +89,7 @@ public class UpdateSyncPositionMethodVisitor extends MethodVisitor {
         target.visitInsn(Opcodes.RETURN);
 
         // Set max stack and locals
-        target.visitMaxs(3, 2);
+        target.visitMaxs(4, 2);
         target.visitEnd();
     }
 
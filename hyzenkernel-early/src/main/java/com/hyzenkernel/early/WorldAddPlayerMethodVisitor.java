@@ -27,7 +27,7 @@ import org.objectweb.asm.Opcodes;
  *       // Still not null after 100ms - throw original exception
  *       throw new IllegalStateException("Player is already in a world");
  *   continue:
- *       System.out.println("[HyzenKernel-Early] Race condition resolved");
+ *       FixCounters.hit("world.addPlayerRetryResolved", "Race condition resolved");
  *   }
  *
  * @see <a href="https://github.com/DuvyDev/HyzenKernel/issues/7">GitHub Issue #7</a>
@@ -78,9 +78,7 @@ public class WorldAddPlayerMethodVisitor extends MethodVisitor {
             Label retryContinue = new Label();
 
             // Log that we're entering retry mode
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyzenKernel-Early] Player reference not null - waiting for drain (race condition handling)");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(target, "world.addPlayerRetry", "Player reference not null - waiting for drain (race condition handling)");
 
             // Unrolled retry loop - retryCount iterations x retryDelayMs each
             // No try-catch needed - we'll use LockSupport.parkNanos which doesn't throw
@@ -121,9 +119,7 @@ public class WorldAddPlayerMethodVisitor extends MethodVisitor {
             target.visitJumpInsn(Opcodes.IFNULL, retryContinue);
 
             // Still not null after configured wait time - log failure and throw
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyzenKernel-Early] Retry FAILED - player still in world after " + totalWaitMs + "ms, throwing exception");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(target, "world.addPlayerRetryFailed", "Retry FAILED - player still in world after " + totalWaitMs + "ms, throwing exception");
 
             // Recreate and throw the exception
             target.visitTypeInsn(Opcodes.NEW, "java/lang/IllegalStateException");
@@ -142,9 +138,7 @@ public class WorldAddPlayerMethodVisitor extends MethodVisitor {
             target.visitLabel(retryContinue);
 
             // Log success
-            target.visitFieldInsn(Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;");
-            target.visitLdcInsn("[HyzenKernel-Early] Race condition RESOLVED - player reference cleared during retry wait");
-            target.visitMethodInsn(Opcodes.INVOKEVIRTUAL, "java/io/PrintStream", "println", "(Ljava/lang/String;)V", false);
+            FixCounterCalls.emitHit(target, "world.addPlayerRetryResolved", "Race condition RESOLVED - player reference cleared during retry wait");
 
             // Continue with normal method execution
             sawPlayerAlreadyInWorldString = false;
@@ -140,6 +140,8 @@ public class EarlyConfigManager {
             case "tickingthread" -> t.tickingThread;
             case "universeremoveplayer" -> t.universeRemovePlayer;
             case "livingentity" -> t.livingEntity;
+            case "craftingmanager" -> t.craftingManager;
+            case "gatherobjectivetask" -> t.gatherObjectiveTask;
             case "worldspawningsystem" -> t.worldSpawningSystem;
             case "staticsharedinstances" -> t.staticSharedInstances;
             default -> {
@@ -156,6 +158,10 @@ public class EarlyConfigManager {
         return config.early.logging.verbose;
     }
 
+    public boolean isAsyncLogging() {
+        return config.early.logging.async;
+    }
+
     // ============================================
     // World transformer settings
     // ============================================
@@ -175,4 +181,12 @@ public class EarlyConfigManager {
     public EarlyPluginConfig.InteractionTimeoutConfig getInteractionTimeoutConfig() {
         return config.interactionTimeout;
     }
+
+    // ============================================
+    // Interaction sync buffer settings
+    // ============================================
+
+    public EarlyPluginConfig.SyncBufferConfig getSyncBufferConfig() {
+        return config.syncBuffer;
+    }
 }
@@ -20,6 +20,9 @@ public class EarlyPluginConfig {
     // Interaction timeout settings
     public InteractionTimeoutConfig interactionTimeout = new InteractionTimeoutConfig();
 
+    // Interaction sync buffer settings (for early plugin)
+    public SyncBufferConfig syncBuffer = new SyncBufferConfig();
+
     /**
      * Transformer toggle configuration
      */
@@ -39,6 +42,8 @@ public class EarlyPluginConfig {
         public boolean tickingThread = true;
         public boolean universeRemovePlayer = true;
         public boolean livingEntity = true;
+        public boolean craftingManager = true;
+        public boolean gatherObjectiveTask = true;
         public boolean worldSpawningSystem = true;
         public boolean staticSharedInstances = true;
     }
@@ -56,6 +61,9 @@ public class EarlyPluginConfig {
      */
     public static class EarlyConfig {
         public EarlyLoggingConfig logging = new EarlyLoggingConfig();
+
+        /** Cache transformed class bytes in mods/hyzenkernel/class-cache/ across restarts */
+        public boolean classCache = true;
     }
 
     /**
@@ -63,6 +71,9 @@ public class EarlyPluginConfig {
      */
     public static class EarlyLoggingConfig {
         public boolean verbose = false;
+
+        /** Write early plugin logs from a background thread, rate limited per message */
+        public boolean async = true;
     }
 
     /**
@@ -70,10 +81,40 @@ public class EarlyPluginConfig {
      * Controls how long the server waits for client responses during interactions
      */
     public static class InteractionTimeoutConfig {
-        /** Base timeout in milliseconds (added to ping-based calculation) */
+        /** Base timeout in milliseconds (added to the average-based calculation) */
         public long baseTimeoutMs = 6000;
 
         /** Multiplier applied to average ping */
         public double pingMultiplier = 3.0;
+
+        /** Derive the timeout per connection from recent raw pings (percentile + jitter) instead of the average */
+        public boolean adaptive = true;
+
+        /** Ping percentile used by the adaptive timeout (0-1) */
+        public double pingPercentile = 0.95;
+
+        /** Multiplier applied to ping jitter (median absolute deviation) by the adaptive timeout */
+        public double jitterMultiplier = 3.0;
+
+        /** Added to the ping percentile and jitter by the adaptive timeout, in milliseconds */
+        public long headroomMs = 1000;
+
+        /** Adaptive timeout floor in milliseconds */
+        public long minTimeoutMs = 3000;
+
+        /** Adaptive timeout ceiling in milliseconds */
+        public long maxTimeoutMs = 20000;
+    }
+
+    /**
+     * Interaction sync buffer configuration
+     * Bounds InteractionChain.tempSyncData (client sync data waiting to be consumed)
+     */
+    public static class SyncBufferConfig {
+        /** Max buffered entries per chain; a chain that would exceed it is desynced. 0 = no cap */
+        public int maxEntries = 512;
+
+        /** Chains whose buffer reaches this size are reported per interaction in /interactionstatus */
+        public int reportHighWaterAbove = 32;
     }
 }
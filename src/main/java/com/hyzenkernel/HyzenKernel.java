@@ -4,12 +4,11 @@ import com.hyzenkernel.commands.CleanInteractionsCommand;
 import com.hyzenkernel.commands.CleanWarpsCommand;
 import com.hyzenkernel.commands.FixCounterCommand;
 import com.hyzenkernel.commands.InteractionStatusCommand;
+import com.hyzenkernel.commands.TransformerStatsCommand;
 import com.hyzenkernel.commands.WhoCommand;
 import com.hyzenkernel.config.ConfigManager;
-import com.hyzenkernel.listeners.CraftingManagerSanitizer;
 import com.hyzenkernel.listeners.EmptyArchetypeSanitizer;
 import com.hyzenkernel.listeners.InteractionManagerSanitizer;
-import com.hyzenkernel.listeners.GatherObjectiveTaskSanitizer;
 import com.hyzenkernel.listeners.InstancePositionTracker;
 import com.hyzenkernel.listeners.ProcessingBenchSanitizer;
 import com.hyzenkernel.listeners.RespawnBlockSanitizer;
@@ -18,6 +17,7 @@ import com.hyzenkernel.listeners.SharedInstanceBootUnloader;
 import com.hyzenkernel.listeners.SpawnBeaconSanitizer;
 import com.hyzenkernel.listeners.ChunkTrackerSanitizer;
 import com.hyzenkernel.systems.InteractionChainMonitor;
+import com.hyzenkernel.systems.PlayerSanitizerPipeline;
 import com.hyzenkernel.systems.SharedInstancePersistenceSystem;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
@@ -37,26 +37,27 @@ import java.util.logging.Level;
  * - EmptyArchetypeSanitizer: Monitors for entities with invalid state (empty archetypes)
  * - InstancePositionTracker: Prevents kick when exiting instances with missing return world
  * - SharedInstancePersistenceSystem: Keeps shared portal instance terrain persistent
- * - GatherObjectiveTaskSanitizer: Prevents crash from null refs in quest objectives (v1.3.0)
+ * - [MOVED TO EARLY PLUGIN] GatherObjectiveTaskSanitizer: Now fixed via a ref guard in the setup0 lambdas
  * - InteractionChainMonitor: Tracks unfixable Hytale bugs for reporting (v1.3.0)
- * - CraftingManagerSanitizer: Prevents crash from stale bench references (v1.3.1)
+ * - [MOVED TO EARLY PLUGIN] CraftingManagerSanitizer: Now fixed via a setBench() guard
  * - InteractionManagerSanitizer: Prevents NPE crash when opening crafttables (v1.3.1, Issue #1)
  * - SpawnBeaconSanitizer: Prevents crash from null spawn parameters in BeaconSpawnController (v1.3.7, Issue #4)
  * - [MOVED TO EARLY PLUGIN] SpawnMarkerReferenceSanitizer: Now fixed via bytecode transformation (v1.4.0)
  * - ChunkTrackerSanitizer: Prevents crash from invalid PlayerRefs after player disconnect (v1.3.9, Issue #6)
+ *
+ * The per-player checks (InteractionChainMonitor, InteractionManager, ChunkTracker) run as stages of one PlayerSanitizerPipeline system.
  */
 public class HyzenKernel extends JavaPlugin {
 
     private static HyzenKernel instance;
     private InstancePositionTracker instancePositionTracker;
-    private GatherObjectiveTaskSanitizer gatherObjectiveTaskSanitizer;
     private InteractionChainMonitor interactionChainMonitor;
-    private CraftingManagerSanitizer craftingManagerSanitizer;
     private InteractionManagerSanitizer interactionManagerSanitizer;
     private SpawnBeaconSanitizer spawnBeaconSanitizer;
     private ChunkTrackerSanitizer chunkTrackerSanitizer;
     private DefaultWorldRecoverySanitizer defaultWorldRecoverySanitizer;
     private SharedInstanceBootUnloader sharedInstanceBootUnloader;
+    private PlayerSanitizerPipeline playerSanitizerPipeline;
 
     public HyzenKernel(@Nonnull JavaPluginInit init) {
         super(init);
@@ -87,6 +88,7 @@ public class HyzenKernel extends JavaPlugin {
 
     private void registerBugFixes() {
         ConfigManager config = ConfigManager.getInstance();
+        playerSanitizerPipeline = new PlayerSanitizerPipeline(this);
 
         // Fix 1: RespawnBlock null respawnPoints crash
         // Hytale's RespawnBlock$OnRemove.onEntityRemove() crashes if respawnPoints is null
@@ -137,37 +139,27 @@ public class HyzenKernel extends JavaPlugin {
         }
 
         // Fix 6: GatherObjectiveTask null ref crash (v1.3.0)
-        // Validates refs in quest objectives before they can crash
-        if (config.isSanitizerEnabled("gatherObjective")) {
-            gatherObjectiveTaskSanitizer = new GatherObjectiveTaskSanitizer(this);
-            getEntityStoreRegistry().registerSystem(gatherObjectiveTaskSanitizer);
-            getLogger().at(Level.INFO).log("[FIX] GatherObjectiveTaskSanitizer registered - prevents crash from null refs in quest objectives");
-        } else {
-            getLogger().at(Level.INFO).log("[DISABLED] GatherObjectiveTaskSanitizer - disabled via config");
-        }
+        // MOVED TO EARLY PLUGIN - the GatherObjectiveTask setup0 lambdas skip null/invalid refs,
+        // so player objectives are no longer scanned every tick
+        getLogger().at(Level.INFO).log("[MOVED] GatherObjectiveTaskSanitizer - now fixed via early plugin bytecode transformation (ref guard)");
 
         // Fix 7: InteractionChain monitoring (v1.3.0)
         // Tracks unfixable Hytale bugs for reporting to developers
         interactionChainMonitor = new InteractionChainMonitor(this);
-        getEntityStoreRegistry().registerSystem(interactionChainMonitor);
+        playerSanitizerPipeline.addStage(interactionChainMonitor);
         getLogger().at(Level.INFO).log("[MON] InteractionChainMonitor registered - tracks HyzenKernel statistics");
 
         // Fix 8: CraftingManager bench already set crash (v1.3.1)
-        // Clears stale bench references before they cause IllegalArgumentException
-        if (config.isSanitizerEnabled("craftingManager")) {
-            craftingManagerSanitizer = new CraftingManagerSanitizer(this);
-            getEntityStoreRegistry().registerSystem(craftingManagerSanitizer);
-            getLogger().at(Level.INFO).log("[FIX] CraftingManagerSanitizer registered - prevents bench already set crash");
-        } else {
-            getLogger().at(Level.INFO).log("[DISABLED] CraftingManagerSanitizer - disabled via config");
-        }
+        // MOVED TO EARLY PLUGIN - CraftingManager.setBench() clears a bench whose window has
+        // closed instead of throwing, so players are no longer polled every tick for one
+        getLogger().at(Level.INFO).log("[MOVED] CraftingManagerSanitizer - now fixed via early plugin bytecode transformation (setBench guard)");
 
         // Fix 9: InteractionManager NPE crash when opening crafttables (v1.3.1)
         // GitHub Issue: https://github.com/DuvyDev/HyzenKernel/issues/1
         // Validates interaction chains and removes ones with null context before they cause NPE
         if (config.isSanitizerEnabled("interactionManager")) {
             interactionManagerSanitizer = new InteractionManagerSanitizer(this);
-            getEntityStoreRegistry().registerSystem(interactionManagerSanitizer);
+            playerSanitizerPipeline.addStage(interactionManagerSanitizer);
             getLogger().at(Level.INFO).log("[FIX] InteractionManagerSanitizer registered - prevents crafttable interaction crash");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] InteractionManagerSanitizer - disabled via config");
@@ -206,12 +198,21 @@ public class HyzenKernel extends JavaPlugin {
         // Prevents world crash when ChunkTracker has invalid PlayerRefs after player disconnect
         if (config.isSanitizerEnabled("chunkTracker")) {
             chunkTrackerSanitizer = new ChunkTrackerSanitizer(this);
-            getEntityStoreRegistry().registerSystem(chunkTrackerSanitizer);
-            getLogger().at(Level.INFO).log("[FIX] ChunkTrackerSanitizer registered - prevents crash from invalid PlayerRefs after player disconnect");
+            playerSanitizerPipeline.addStage(chunkTrackerSanitizer);
+            chunkTrackerSanitizer.register();
+            getLogger().at(Level.INFO).log("[FIX] ChunkTrackerSanitizer registered - purges invalid PlayerRefs when players leave a world (sampled every " +
+                    ChunkTrackerSanitizer.SAMPLE_INTERVAL_TICKS + " ticks otherwise)");
         } else {
             getLogger().at(Level.INFO).log("[DISABLED] ChunkTrackerSanitizer - disabled via config");
         }
 
+        // Per-player checks (fixes 7, 9 and 12) share one pass over the player chunks
+        getEntityStoreRegistry().registerSystem(playerSanitizerPipeline);
+        getLogger().at(Level.INFO).log("[SYS] PlayerSanitizerPipeline registered - " +
+                playerSanitizerPipeline.getStages().size() + " per-player stage(s) in a single pass, budget " +
+                (playerSanitizerPipeline.getTickBudgetMicros() > 0 ? playerSanitizerPipeline.getTickBudgetMicros() + "us" : "unlimited") +
+                " per tick");
+
         // Register admin commands
         registerCommands();
     }
@@ -221,8 +222,9 @@ public class HyzenKernel extends JavaPlugin {
         getCommandRegistry().registerCommand(new CleanWarpsCommand(this));
         getCommandRegistry().registerCommand(new FixCounterCommand(this));
         getCommandRegistry().registerCommand(new InteractionStatusCommand(this));
+        getCommandRegistry().registerCommand(new TransformerStatsCommand(this));
         getCommandRegistry().registerCommand(new WhoCommand());
-        getLogger().at(Level.INFO).log("[CMD] Registered /cleaninteractions, /cleanwarps, /fixcounter, /interactionstatus, and /who commands");
+        getLogger().at(Level.INFO).log("[CMD] Registered /cleaninteractions, /cleanwarps, /fixcounter, /interactionstatus, /transformerstats, and /who commands");
     }
 
     @Override
@@ -237,10 +239,11 @@ public class HyzenKernel extends JavaPlugin {
 
     private int getFixCount() {
         // Base fixes: RespawnBlockSanitizer, ProcessingBenchSanitizer, EmptyArchetypeSanitizer,
-        // InstancePositionTracker, GatherObjectiveTaskSanitizer, InteractionChainMonitor,
-        // CraftingManagerSanitizer, InteractionManagerSanitizer, SpawnBeaconSanitizer, ChunkTrackerSanitizer
-        // (SpawnMarkerReferenceSanitizer moved to early plugin)
-        int count = 10;
+        // InstancePositionTracker, InteractionChainMonitor, InteractionManagerSanitizer,
+        // SpawnBeaconSanitizer, ChunkTrackerSanitizer
+        // (SpawnMarkerReferenceSanitizer, CraftingManagerSanitizer and GatherObjectiveTaskSanitizer
+        // moved to early plugin)
+        int count = 8;
         return count;
     }
 
@@ -249,10 +252,10 @@ public class HyzenKernel extends JavaPlugin {
     }
 
     /**
-     * Get the GatherObjectiveTaskSanitizer for commands and status.
+     * Get the PlayerSanitizerPipeline (per-player stages) for commands and status.
      */
-    public GatherObjectiveTaskSanitizer getGatherObjectiveTaskSanitizer() {
-        return gatherObjectiveTaskSanitizer;
+    public PlayerSanitizerPipeline getPlayerSanitizerPipeline() {
+        return playerSanitizerPipeline;
     }
 
     /**
@@ -262,13 +265,6 @@ public class HyzenKernel extends JavaPlugin {
         return interactionChainMonitor;
     }
 
-    /**
-     * Get the CraftingManagerSanitizer for commands and status.
-     */
-    public CraftingManagerSanitizer getCraftingManagerSanitizer() {
-        return craftingManagerSanitizer;
-    }
-
     /**
      * Get the InteractionManagerSanitizer for commands and status.
      */
@@ -11,6 +11,7 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.Message;
+import com.hyzenkernel.util.Accessors;
 import com.hyzenkernel.util.ChatColorUtil;
 
 import java.lang.reflect.Field;
@@ -42,16 +43,16 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
 
     private final HyzenKernel plugin;
 
-    // Reflection fields - discovered at runtime
+    // Discovered at runtime via Accessors
     private boolean initialized = false;
     private boolean initFailed = false;
 
     // InteractionManager access
     @SuppressWarnings("rawtypes")
     private ComponentType interactionManagerType = null;
-    private Method getChainsMethod = null;
-    private Field contextField = null;
-    private Field targetEntityRefField = null;
+    private Accessors.Invoker getChains = null;
+    private Accessors.Getter contextGetter = null;
+    private Accessors.Getter targetEntityRefGetter = null;
 
     public CleanInteractionsCommand(HyzenKernel plugin) {
         super("cleaninteractions", "hyzenkernel.command.cleaninteractions.desc");
@@ -609,35 +610,37 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
         try {
             plugin.getLogger().at(Level.INFO).log("[CleanInteractions] Discovering API...");
 
-            // Get InteractionManager component type
-            Class<?> interactionModuleClass = Class.forName("com.hypixel.hytale.server.core.modules.interaction.InteractionModule");
-            Method getModuleMethod = interactionModuleClass.getMethod("get");
-            Object interactionModule = getModuleMethod.invoke(null);
-            Method getComponentTypeMethod = interactionModuleClass.getMethod("getInteractionManagerComponent");
-            interactionManagerType = (ComponentType) getComponentTypeMethod.invoke(interactionModule);
-
-            // Get InteractionManager.getChains()
-            Class<?> interactionManagerClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionManager");
-            getChainsMethod = interactionManagerClass.getMethod("getChains");
+            Class<?> interactionModuleClass = Accessors.findClass("com.hypixel.hytale.server.core.modules.interaction.InteractionModule");
+            Class<?> interactionManagerClass = Accessors.findClass("com.hypixel.hytale.server.core.entity.InteractionManager");
+            Class<?> interactionChainClass = Accessors.findClass("com.hypixel.hytale.server.core.entity.InteractionChain");
+            Class<?> interactionContextClass = Accessors.findClass("com.hypixel.hytale.server.core.entity.InteractionContext");
+            if (interactionModuleClass == null || interactionManagerClass == null
+                    || interactionChainClass == null || interactionContextClass == null) {
+                throw new ClassNotFoundException("InteractionModule / InteractionManager / InteractionChain / InteractionContext");
+            }
 
-            // Get InteractionChain.context
-            Class<?> interactionChainClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionChain");
-            contextField = interactionChainClass.getDeclaredField("context");
-            contextField.setAccessible(true);
+            // Get InteractionManager component type
+            Object interactionModule = Accessors.invokeStatic(interactionModuleClass, "get");
+            Accessors.Invoker getComponentType = Accessors.invoker(interactionModuleClass, "getInteractionManagerComponent");
+            if (interactionModule == null || getComponentType == null) {
+                throw new NoSuchMethodException("InteractionModule.getInteractionManagerComponent()");
+            }
+            interactionManagerType = (ComponentType) getComponentType.invoke(interactionModule);
 
-            // Try to find InteractionContext fields for target entity
-            Class<?> interactionContextClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionContext");
+            // Get InteractionManager.getChains() and InteractionChain.context
+            getChains = Accessors.invoker(interactionManagerClass, "getChains");
+            contextGetter = Accessors.getter(interactionChainClass, "context");
+            if (getChains == null || contextGetter == null) {
+                throw new NoSuchFieldException("InteractionManager.getChains() / InteractionChain.context");
+            }
 
             // Look for target entity ref field
             String[] refFieldNames = {"targetEntity", "targetEntityRef", "target", "targetRef", "interactingWith"};
             for (String fieldName : refFieldNames) {
-                try {
-                    targetEntityRefField = interactionContextClass.getDeclaredField(fieldName);
-                    targetEntityRefField.setAccessible(true);
+                targetEntityRefGetter = Accessors.getter(interactionContextClass, fieldName);
+                if (targetEntityRefGetter != null) {
                     plugin.getLogger().at(Level.INFO).log("[CleanInteractions] Found target entity field: " + fieldName);
                     break;
-                } catch (NoSuchFieldException e) {
-                    // Try next
                 }
             }
 
@@ -664,7 +667,7 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
             Object interactionManager = store.getComponent(playerRef, interactionManagerType);
             if (interactionManager != null) {
                 @SuppressWarnings("unchecked")
-                Map<Integer, Object> chains = (Map<Integer, Object>) getChainsMethod.invoke(interactionManager);
+                Map<Integer, Object> chains = (Map<Integer, Object>) getChains.invoke(interactionManager);
 
                 if (chains != null && !chains.isEmpty()) {
                     List<Integer> toRemove = new ArrayList<>();
@@ -680,7 +683,7 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
                             continue;
                         }
 
-                        Object context = contextField.get(chain);
+                        Object context = contextGetter.get(chain);
                         if (context == null) {
                             orphansFound++;
                             toRemove.add(entry.getKey());
@@ -689,9 +692,9 @@ public class CleanInteractionsCommand extends AbstractPlayerCommand {
                         }
 
                         // Check if target entity ref is valid
-                        if (targetEntityRefField != null) {
+                        if (targetEntityRefGetter != null) {
                             try {
-                                Object targetRef = targetEntityRefField.get(context);
+                                Object targetRef = targetEntityRefGetter.get(context);
                                 if (targetRef instanceof Ref) {
                                     Ref<?> tRef = (Ref<?>) targetRef;
                                     if (!tRef.isValid()) {
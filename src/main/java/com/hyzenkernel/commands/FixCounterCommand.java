@@ -12,9 +12,9 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.Message;
+import com.hyzenkernel.util.Accessors;
 import com.hyzenkernel.util.ChatColorUtil;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Map;
 
@@ -131,12 +131,16 @@ public class FixCounterCommand extends AbstractPlayerCommand {
 
             // Try to get BlockCounter resource using reflection
             // First, get the InteractionModule to get the ResourceType
-            Class<?> interactionModuleClass = Class.forName("com.hypixel.hytale.server.core.modules.interaction.InteractionModule");
-            Method getMethod = interactionModuleClass.getMethod("get");
-            Object interactionModule = getMethod.invoke(null);
-
-            Method getBlockCounterResourceTypeMethod = interactionModuleClass.getMethod("getBlockCounterResourceType");
-            Object resourceType = getBlockCounterResourceTypeMethod.invoke(interactionModule);
+            Class<?> interactionModuleClass = Accessors.findClass("com.hypixel.hytale.server.core.modules.interaction.InteractionModule");
+            if (interactionModuleClass == null) {
+                return null;
+            }
+            Object interactionModule = Accessors.invokeStatic(interactionModuleClass, "get");
+            Accessors.Invoker getResourceType = Accessors.invoker(interactionModuleClass, "getBlockCounterResourceType");
+            if (interactionModule == null || getResourceType == null) {
+                return null;
+            }
+            Object resourceType = getResourceType.invoke(interactionModule);
 
             // Get the resource from the store
             Method getResourceMethod = chunkStoreStore.getClass().getMethod("getResource", ResourceType.class);
@@ -150,12 +154,8 @@ public class FixCounterCommand extends AbstractPlayerCommand {
 
     @SuppressWarnings("unchecked")
     private Map<String, Integer> getBlockPlacementCounts(Object blockCounter) throws Exception {
-        // Get the blockPlacementCounts field via reflection
-        Field countsField = blockCounter.getClass().getDeclaredField("blockPlacementCounts");
-        countsField.setAccessible(true);
-
         // This is an Object2IntMap<String>, we need to convert it
-        Object countsMap = countsField.get(blockCounter);
+        Object countsMap = getCountsMap(blockCounter);
 
         // Convert to regular map for easier handling
         java.util.Map<String, Integer> result = new java.util.HashMap<>();
@@ -177,16 +177,21 @@ public class FixCounterCommand extends AbstractPlayerCommand {
         return result;
     }
 
+    private Object getCountsMap(Object blockCounter) throws NoSuchFieldException {
+        Accessors.Getter counts = Accessors.getter(blockCounter.getClass(), "blockPlacementCounts");
+        if (counts == null) {
+            throw new NoSuchFieldException("blockPlacementCounts");
+        }
+        return counts.get(blockCounter);
+    }
+
     private int getCount(Object blockCounter, String blockType) throws Exception {
         Method getCountMethod = blockCounter.getClass().getMethod("getBlockPlacementCount", String.class);
         return (int) getCountMethod.invoke(blockCounter, blockType);
     }
 
     private void setCountValue(Object blockCounter, String blockType, int value) throws Exception {
-        // Get the blockPlacementCounts field via reflection
-        Field countsField = blockCounter.getClass().getDeclaredField("blockPlacementCounts");
-        countsField.setAccessible(true);
-        Object countsMap = countsField.get(blockCounter);
+        Object countsMap = getCountsMap(blockCounter);
 
         // Use put method to set the value
         Method putMethod = countsMap.getClass().getMethod("put", Object.class, int.class);
@@ -1,12 +1,11 @@
 package com.hyzenkernel.commands;
 
 import com.hyzenkernel.HyzenKernel;
-import com.hyzenkernel.listeners.CraftingManagerSanitizer;
-import com.hyzenkernel.listeners.GatherObjectiveTaskSanitizer;
 import com.hyzenkernel.listeners.InteractionManagerSanitizer;
 import com.hyzenkernel.listeners.SpawnBeaconSanitizer;
 import com.hyzenkernel.listeners.ChunkTrackerSanitizer;
 import com.hyzenkernel.systems.InteractionChainMonitor;
+import com.hyzenkernel.systems.PlayerSanitizerPipeline;
 import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
@@ -17,6 +16,12 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.Message;
 import com.hyzenkernel.util.ChatColorUtil;
+import com.hyzenkernel.util.EarlyPluginBridge;
+import com.hyzenkernel.util.OverheadMeter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Command: /interactionstatus (alias: /hyfixstatus, /hfs)
@@ -24,6 +29,7 @@ import com.hyzenkernel.util.ChatColorUtil;
  * Shows comprehensive HyzenKernel statistics including:
  * - Crashes prevented by each sanitizer
  * - Memory management statistics
+ * - CPU time per tick spent by each HyzenKernel system (overhead)
  * - Information about unfixable Hytale core bugs
  *
  * This helps server admins:
@@ -87,11 +93,11 @@ public class InteractionStatusCommand extends AbstractPlayerCommand {
 
         sendMessage(player, "");
 
-        // GatherObjectiveTaskSanitizer status
-        GatherObjectiveTaskSanitizer objectiveSanitizer = plugin.getGatherObjectiveTaskSanitizer();
-        if (objectiveSanitizer != null) {
-            sendMessage(player, "&6--- Objective Task Sanitizer ---");
-            String status = objectiveSanitizer.getStatus();
+        // PlayerSanitizerPipeline scheduling
+        PlayerSanitizerPipeline pipeline = plugin.getPlayerSanitizerPipeline();
+        if (pipeline != null) {
+            sendMessage(player, "&6--- Player Sanitizer Pipeline ---");
+            String status = pipeline.getStatus();
             for (String line : status.split("\n")) {
                 sendMessage(player, "&7" + line);
             }
@@ -99,15 +105,23 @@ public class InteractionStatusCommand extends AbstractPlayerCommand {
 
         sendMessage(player, "");
 
+        // GatherObjectiveTaskSanitizer status
+        // Moved to the early plugin - the setup0 lambdas skip null/invalid refs themselves
+        sendMessage(player, "&6--- Objective Task Sanitizer ---");
+        sendMessage(player, "&aFIXED via early plugin (ref guard)");
+        sendMessage(player, "&7Updates skipped for invalid refs: "
+                + EarlyPluginBridge.getFixCounts().getOrDefault("gatherObjectiveTask.invalidRef", 0L));
+
+        sendMessage(player, "");
+
         // CraftingManagerSanitizer status
-        CraftingManagerSanitizer craftingSanitizer = plugin.getCraftingManagerSanitizer();
-        if (craftingSanitizer != null) {
-            sendMessage(player, "&6--- Crafting Manager Sanitizer ---");
-            String status = craftingSanitizer.getStatus();
-            for (String line : status.split("\n")) {
-                sendMessage(player, "&7" + line);
-            }
-        }
+        // Moved to the early plugin - CraftingManager.setBench() clears stale benches itself
+        sendMessage(player, "&6--- Crafting Manager Sanitizer ---");
+        sendMessage(player, "&aFIXED via early plugin (setBench guard)");
+        sendMessage(player, "&7Stale benches cleared: "
+                + EarlyPluginBridge.getFixCounts().getOrDefault("craftingManager.staleBench", 0L));
+        sendMessage(player, "&7Kept (bench window still open): "
+                + EarlyPluginBridge.getFixCounts().getOrDefault("craftingManager.benchStillOpen", 0L));
 
         sendMessage(player, "");
 
@@ -155,6 +169,22 @@ public class InteractionStatusCommand extends AbstractPlayerCommand {
 
         sendMessage(player, "");
 
+        // Overhead: CPU time of HyzenKernel's own systems and event handlers
+        sendMessage(player, "&6--- Overhead (last " + (OverheadMeter.WINDOW_TICKS / 20) + "s, per server tick) ---");
+        List<OverheadMeter.Snapshot> snapshots = new ArrayList<>();
+        for (OverheadMeter meter : OverheadMeter.all()) {
+            snapshots.add(meter.snapshot());
+        }
+        sendMessage(player, "&e" + OverheadMeter.Snapshot.sum("HyzenKernel total", snapshots).format());
+        snapshots.sort(Comparator.comparingDouble(OverheadMeter.Snapshot::getAverageMicrosPerTick).reversed());
+        for (OverheadMeter.Snapshot snapshot : snapshots) {
+            if (!snapshot.isIdle()) {
+                sendMessage(player, "&7" + snapshot.format());
+            }
+        }
+
+        sendMessage(player, "");
+
         // Known unfixable bugs section
         sendMessage(player, "&6--- Known Unfixable Hytale Bugs ---");
         sendMessage(player, "&7These require fixes from Hytale developers:");
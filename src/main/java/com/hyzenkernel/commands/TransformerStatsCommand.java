@@ -0,0 +1,106 @@
+package com.hyzenkernel.commands;
+
+import com.hyzenkernel.HyzenKernel;
+import com.hyzenkernel.util.ChatColorUtil;
+import com.hyzenkernel.util.EarlyPluginBridge;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.component.Store;
+
+import java.util.Map;
+
+/**
+ * Command: /transformerstats (alias: /tstats, /startupcost)
+ *
+ * Shows what each early plugin bytecode fix cost during server boot:
+ * - Classes inspected / rewritten (plus class cache and overlay hits)
+ * - Time spent in ASM and total time in the router
+ * - Class size before and after patching
+ *
+ * Use it to decide which fixes to turn off in config.json (transformers section)
+ * when boot time matters more than a particular fix.
+ */
+public class TransformerStatsCommand extends AbstractPlayerCommand {
+
+    private final HyzenKernel plugin;
+
+    public TransformerStatsCommand(HyzenKernel plugin) {
+        super("transformerstats", "hyzenkernel.command.transformerstats.desc");
+        this.plugin = plugin;
+        addAliases("tstats", "startupcost");
+    }
+
+    @Override
+    protected boolean canGeneratePermission() {
+        // Only admins should use this
+        return true;
+    }
+
+    @Override
+    protected void execute(
+            CommandContext context,
+            Store<EntityStore> store,
+            Ref<EntityStore> ref,
+            PlayerRef playerRef,
+            World world
+    ) {
+        Player player = store.getComponent(ref, Player.getComponentType());
+        if (player == null) return;
+
+        sendMessage(player, "&6[HyzenKernel] Early Plugin Startup Cost");
+
+        Map<String, long[]> stats = EarlyPluginBridge.getTransformerStats();
+        if (stats.isEmpty()) {
+            sendMessage(player, "&cEarly plugin not loaded - no transformer statistics available");
+            sendMessage(player, "&7Install hyzenkernel-early in earlyplugins/ to enable bytecode fixes");
+            return;
+        }
+
+        Map<String, String> configKeys = EarlyPluginBridge.getTransformerConfigKeys();
+        long totalAsm = 0;
+        long totalRouter = 0;
+        long totalRewritten = 0;
+
+        sendMessage(player, "&7Classes seen by router: &f" + EarlyPluginBridge.getClassesSeen());
+        sendMessage(player, "&7");
+        sendMessage(player, "&7Fix (config key): inspected/rewritten, cache/overlay, asm/total, bytes in->out");
+        sendMessage(player, "&8  Fixes sharing a class split its time and bytes");
+
+        for (Map.Entry<String, long[]> entry : stats.entrySet()) {
+            long[] row = entry.getValue();
+            String name = entry.getKey().replace("Transformer", "");
+            String key = configKeys.getOrDefault(entry.getKey(), "-");
+
+            totalAsm += row[EarlyPluginBridge.STAT_ASM_NANOS];
+            totalRouter += row[EarlyPluginBridge.STAT_TOTAL_NANOS];
+            totalRewritten += row[EarlyPluginBridge.STAT_REWRITTEN];
+
+            String color = row[EarlyPluginBridge.STAT_INSPECTED] == 0 ? "&7" : "&a";
+            sendMessage(player, color + "  " + name + " &8(" + key + ")&7: "
+                    + row[EarlyPluginBridge.STAT_INSPECTED] + "/" + row[EarlyPluginBridge.STAT_REWRITTEN]
+                    + ", " + row[EarlyPluginBridge.STAT_CACHE_HITS] + "/" + row[EarlyPluginBridge.STAT_OVERLAY_HITS]
+                    + ", &e" + formatMillis(row[EarlyPluginBridge.STAT_ASM_NANOS])
+                    + "&7/&e" + formatMillis(row[EarlyPluginBridge.STAT_TOTAL_NANOS])
+                    + "&7, " + row[EarlyPluginBridge.STAT_BYTES_IN] + "->" + row[EarlyPluginBridge.STAT_BYTES_OUT]);
+        }
+
+        sendMessage(player, "&7");
+        sendMessage(player, "&7Classes rewritten: &f" + totalRewritten);
+        sendMessage(player, "&7Total ASM time: &e" + formatMillis(totalAsm));
+        sendMessage(player, "&7Total router time: &e" + formatMillis(totalRouter));
+        sendMessage(player, "&7Disable expensive fixes under &ftransformers &7in config.json");
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
+    private void sendMessage(Player player, String message) {
+        ChatColorUtil.sendMessage(player, message);
+    }
+}
@@ -205,11 +205,9 @@ public class ConfigManager {
         return switch (name.toLowerCase()) {
             case "respawnblock" -> s.respawnBlock;
             case "processingbench" -> s.processingBench;
-            case "craftingmanager" -> s.craftingManager;
             case "interactionmanager" -> s.interactionManager;
             case "spawnbeacon" -> s.spawnBeacon;
             case "chunktracker" -> s.chunkTracker;
-            case "gatherobjective" -> s.gatherObjective;
             case "emptyarchetype" -> s.emptyArchetype;
             case "instancepositiontracker" -> s.instancePositionTracker;
             case "sharedinstancepersistence" -> s.sharedInstancePersistence;
@@ -238,6 +236,8 @@ public class ConfigManager {
             case "commandbuffer" -> t.commandBuffer;
             case "worldmaptracker" -> t.worldMapTracker;
             case "archetypechunk" -> t.archetypeChunk;
+            case "craftingmanager" -> t.craftingManager;
+            case "gatherobjectivetask" -> t.gatherObjectiveTask;
             case "staticsharedinstances" -> t.staticSharedInstances;
             default -> {
                 System.err.println("[HyzenKernel-Config] Unknown transformer: " + name);
@@ -268,6 +268,18 @@ public class ConfigManager {
     }
 
 
+    // ============================================
+    // Per-player sanitizer scheduling
+    // ============================================
+
+    public long getPlayerSanitizerTickBudgetMicros() {
+        return config.playerSanitizers.tickBudgetMicros;
+    }
+
+    public int getSanitizerMaxBackoffIntervalTicks() {
+        return config.playerSanitizers.maxBackoffIntervalTicks;
+    }
+
     // ============================================
     // Interaction manager settings
     // ============================================
@@ -276,6 +288,10 @@ public class ConfigManager {
         return config.interactionManager.clientTimeoutMs;
     }
 
+    public long getInteractionManagerFullSweepIntervalMs() {
+        return config.interactionManager.fullSweepIntervalMs;
+    }
+
     // ============================================
     // Instance tracker settings
     // ============================================
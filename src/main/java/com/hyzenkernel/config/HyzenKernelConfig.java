@@ -11,6 +11,9 @@ public class HyzenKernelConfig {
     // Sanitizer toggles
     public SanitizersConfig sanitizers = new SanitizersConfig();
     
+    // Per-player sanitizer scheduling (PlayerSanitizerPipeline)
+    public PlayerSanitizersConfig playerSanitizers = new PlayerSanitizersConfig();
+
     // Interaction manager settings
     public InteractionManagerConfig interactionManager = new InteractionManagerConfig();
     
@@ -38,28 +41,46 @@ public class HyzenKernelConfig {
     // Interaction timeout settings (for early plugin)
     public InteractionTimeoutConfig interactionTimeout = new InteractionTimeoutConfig();
 
+    // Interaction sync buffer settings (for early plugin)
+    public SyncBufferConfig syncBuffer = new SyncBufferConfig();
+
     /**
      * Sanitizer toggle configuration
      */
     public static class SanitizersConfig {
         public boolean respawnBlock = true;
         public boolean processingBench = true;
-        public boolean craftingManager = true;
         public boolean interactionManager = true;
         public boolean spawnBeacon = true;
         public boolean chunkTracker = true;
-        public boolean gatherObjective = true;
         public boolean emptyArchetype = true;
         public boolean instancePositionTracker = true;
         public boolean sharedInstancePersistence = true;
         public boolean defaultWorldRecovery = true;  // Auto-reload default world after crash
     }
 
+    /**
+     * Per-player sanitizer scheduling configuration
+     */
+    public static class PlayerSanitizersConfig {
+        // CPU time the per-player stages may use per world thread per tick, in microseconds
+        // (1000 = 1ms of the 50ms tick); once spent, the remaining players wait for the next
+        // tick. 0 = unlimited
+        public long tickBudgetMicros = 1000;
+        // SpawnBeaconSanitizer back-off: each clean scan doubles its interval up to this many
+        // ticks; a scan that removes something drops it back to every tick. 0 = off.
+        // The per-player stages don't back off.
+        public int maxBackoffIntervalTicks = 64;
+    }
+
     /**
      * Interaction manager configuration
      */
     public static class InteractionManagerConfig {
         public long clientTimeoutMs = 2000;
+        // With the early plugin, only entities whose chains changed are scanned each tick;
+        // everyone is still scanned at this interval (owning entities can go invalid silently)
+        public long fullSweepIntervalMs = 1000;
     }
 
     /**
@@ -112,6 +133,8 @@ public class HyzenKernelConfig {
         public boolean uuidSystem = true;
         public boolean tickingThread = true;
         public boolean universeRemovePlayer = true;
+        public boolean craftingManager = true;
+        public boolean gatherObjectiveTask = true;
         public boolean worldSpawningSystem = true;
         public boolean staticSharedInstances = true;
     }
@@ -129,6 +152,9 @@ public class HyzenKernelConfig {
      */
     public static class EarlyConfig {
         public EarlyLoggingConfig logging = new EarlyLoggingConfig();
+
+        /** Cache transformed class bytes in mods/hyzenkernel/class-cache/ across restarts */
+        public boolean classCache = true;
     }
 
     /**
@@ -136,6 +162,9 @@ public class HyzenKernelConfig {
      */
     public static class EarlyLoggingConfig {
         public boolean verbose = false;
+
+        /** Write early plugin logs from a background thread, rate limited per message */
+        public boolean async = true;
     }
 
     /**
@@ -143,11 +172,41 @@ public class HyzenKernelConfig {
      * Controls how long the server waits for client responses during interactions
      */
     public static class InteractionTimeoutConfig {
-        /** Base timeout in milliseconds (added to ping-based calculation) */
+        /** Base timeout in milliseconds (added to the average-based calculation) */
         public long baseTimeoutMs = 6000;
 
         /** Multiplier applied to average ping */
         public double pingMultiplier = 3.0;
+
+        /** Derive the timeout per connection from recent raw pings (percentile + jitter) instead of the average */
+        public boolean adaptive = true;
+
+        /** Ping percentile used by the adaptive timeout (0-1) */
+        public double pingPercentile = 0.95;
+
+        /** Multiplier applied to ping jitter (median absolute deviation) by the adaptive timeout */
+        public double jitterMultiplier = 3.0;
+
+        /** Added to the ping percentile and jitter by the adaptive timeout, in milliseconds */
+        public long headroomMs = 1000;
+
+        /** Adaptive timeout floor in milliseconds */
+        public long minTimeoutMs = 3000;
+
+        /** Adaptive timeout ceiling in milliseconds */
+        public long maxTimeoutMs = 20000;
+    }
+
+    /**
+     * Interaction sync buffer configuration
+     * Bounds InteractionChain.tempSyncData (client sync data waiting to be consumed)
+     */
+    public static class SyncBufferConfig {
+        /** Max buffered entries per chain; a chain that would exceed it is desynced. 0 = no cap */
+        public int maxEntries = 512;
+
+        /** Chains whose buffer reaches this size are reported per interaction in /interactionstatus */
+        public int reportHighWaterAbove = 32;
     }
 
 
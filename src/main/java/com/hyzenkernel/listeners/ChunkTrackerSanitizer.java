@@ -1,20 +1,24 @@
 package com.hyzenkernel.listeners;
 
 import com.hyzenkernel.HyzenKernel;
+import com.hyzenkernel.systems.PlayerSanitizerStage;
+import com.hyzenkernel.systems.PlayerTickContext;
+import com.hyzenkernel.util.Accessors;
+import com.hyzenkernel.util.TickSchedule;
+import com.hypixel.hytale.event.EventRegistration;
 import com.hypixel.hytale.component.ArchetypeChunk;
-import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
-import com.hypixel.hytale.component.Ref;
-import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
-import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.event.events.player.DrainPlayerFromWorldEvent;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
@@ -37,48 +41,90 @@ import java.util.logging.Level;
  * 4. Calling getStore() on null crashes
  *
  * The Fix:
- * This sanitizer runs each tick on entities with ChunkTracker components.
- * It validates PlayerRef references and removes invalid ones before
- * Hytale's PlayerChunkTrackerSystems$UpdateSystem can crash on them.
+ * Stale PlayerRefs appear when a player leaves a world, so that is when the trackers are
+ * purged: DrainPlayerFromWorldEvent starts a purge of every remaining player's tracker for
+ * the next {@link #PURGE_TICKS} ticks (the departed PlayerRef may lose its reference a tick
+ * after the event). Between departures each tracker is only sampled every
+ * {@link #SAMPLE_INTERVAL_TICKS} ticks, as a cheap assertion that nothing else produced a
+ * stale ref; a sample that finds one keeps checking every tick until a pass comes back clean.
+ * The windows are a {@link TickSchedule} per world thread, in PlayerSanitizerPipeline frames.
+ *
+ * Only the ChunkTracker fields that can hold a PlayerRef are visited - resolved once from
+ * the declared field types, so sets of loaded chunk indices are never iterated. If the
+ * types give nothing away (raw or Object-typed collections), those fields are visited instead.
  */
-public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
+public class ChunkTrackerSanitizer implements PlayerSanitizerStage {
+
+    private static final String CHUNK_TRACKER_CLASS = "com.hypixel.hytale.server.core.modules.entity.player.ChunkTracker";
+    private static final String PLAYER_REF_CLASS = "com.hypixel.hytale.server.core.universe.PlayerRef";
+
+    /** Ticks of purging every tracker after a player leaves a world */
+    public static final int PURGE_TICKS = 3;
+    /** Ticks between samples of every tracker while no player leaves (10s at 20 TPS) */
+    public static final int SAMPLE_INTERVAL_TICKS = 200;
 
     private final HyzenKernel plugin;
 
-    // Discovered via reflection
+    // Discovered via Accessors
     private Class<?> chunkTrackerClass = null;
     private ComponentType chunkTrackerType = null;
     private Class<?> playerRefClass = null;
-    private Method getReferencesMethod = null;  // Method to get player refs from ChunkTracker
-    private Method getReferenceMethod = null;   // PlayerRef.getReference()
-    private Field playerRefsField = null;       // Field holding player refs if no getter
+    private Accessors.FieldAccessor[] playerRefFields = null;   // fields that can hold a PlayerRef
+    private Accessors.Invoker getReference = null;   // PlayerRef.getReference()
 
     private boolean initialized = false;
     private boolean apiDiscoveryFailed = false;
 
+    // Bumped for every player leaving a world; each world thread purges when it changes
+    private final AtomicInteger purgeEpoch = new AtomicInteger(0);
+    private final ThreadLocal<TickSchedule> checkSchedules =
+            ThreadLocal.withInitial(() -> new TickSchedule(SAMPLE_INTERVAL_TICKS, false));
+    private EventRegistration<?, ?> drainEventRegistration;
+
     // Statistics
     private final AtomicInteger entitiesChecked = new AtomicInteger(0);
+    private final AtomicInteger trackerTicksSkipped = new AtomicInteger(0);
     private final AtomicInteger invalidRefsFound = new AtomicInteger(0);
     private final AtomicInteger crashesPrevented = new AtomicInteger(0);
 
     public ChunkTrackerSanitizer(HyzenKernel plugin) {
         this.plugin = plugin;
+        Accessors.prefetch(CHUNK_TRACKER_CLASS, PLAYER_REF_CLASS);
+    }
+
+    /**
+     * Purge the trackers whenever a player leaves a world.
+     */
+    public void register() {
+        drainEventRegistration = plugin.getEventRegistry().registerGlobal(
+                DrainPlayerFromWorldEvent.class,
+                event -> purgeEpoch.incrementAndGet()
+        );
     }
 
     @Override
-    public Query<EntityStore> getQuery() {
-        // ChunkTracker is on Player entities
-        return Player.getComponentType();
+    public String getStageName() {
+        return "ChunkTracker";
+    }
+
+    /**
+     * The tick budget skipped this player: if a purge or sample window is open, keep it open
+     * for another tick so the player is still checked in it.
+     */
+    @Override
+    public void deferred(PlayerTickContext context) {
+        TickSchedule schedule = checkSchedules.get();
+        schedule.openOnEpoch(context.getFrame(), purgeEpoch.get(), PURGE_TICKS);
+        if (schedule.isDue(context.getFrame())) {
+            schedule.open(context.getFrame(), 2);
+        }
     }
 
     @Override
-    public void tick(
-            float deltaTime,
-            int index,
-            ArchetypeChunk<EntityStore> chunk,
-            Store<EntityStore> store,
-            CommandBuffer<EntityStore> commandBuffer
-    ) {
+    public void tick(PlayerTickContext context) {
+        int index = context.getIndex();
+        ArchetypeChunk<EntityStore> chunk = context.getChunk();
+
         if (!initialized && !apiDiscoveryFailed) {
             discoverApi();
         }
@@ -87,6 +133,13 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
             return;
         }
 
+        TickSchedule schedule = checkSchedules.get();
+        schedule.openOnEpoch(context.getFrame(), purgeEpoch.get(), PURGE_TICKS);
+        if (!schedule.isDue(context.getFrame())) {
+            trackerTicksSkipped.incrementAndGet();
+            return;
+        }
+
         try {
             entitiesChecked.incrementAndGet();
 
@@ -97,7 +150,11 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
             }
 
             // Try to validate and clean player refs
+            int fixedBefore = crashesPrevented.get();
             validateAndCleanPlayerRefs(chunkTracker);
+            if (crashesPrevented.get() != fixedBefore) {
+                schedule.defectFound();
+            }
 
         } catch (Exception e) {
             plugin.getLogger().at(Level.FINE).log(
@@ -110,11 +167,7 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
      */
     private void validateAndCleanPlayerRefs(Object chunkTracker) {
         try {
-            // Try multiple approaches to find and validate player refs
-
-            // Approach 1: Look for fields that might contain PlayerRefs
-            for (Field field : chunkTrackerClass.getDeclaredFields()) {
-                field.setAccessible(true);
+            for (Accessors.FieldAccessor field : playerRefFields) {
                 Object value = field.get(chunkTracker);
 
                 if (value == null) continue;
@@ -126,8 +179,8 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
                     cleanMap((Map<?, ?>) value, field.getName());
                 } else if (playerRefClass != null && playerRefClass.isInstance(value)) {
                     // Single PlayerRef field
-                    if (isInvalidPlayerRef(value)) {
-                        field.set(chunkTracker, null);
+                    if (isInvalidPlayerRef(value) && field.getSetter() != null) {
+                        field.getSetter().set(chunkTracker, null);
                         invalidRefsFound.incrementAndGet();
                         crashesPrevented.incrementAndGet();
                         plugin.getLogger().at(Level.INFO).log(
@@ -207,8 +260,8 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
      */
     private boolean isInvalidPlayerRef(Object playerRef) {
         try {
-            if (getReferenceMethod != null) {
-                Object ref = getReferenceMethod.invoke(playerRef);
+            if (getReference != null) {
+                Object ref = getReference.invoke(playerRef);
                 return ref == null;
             }
         } catch (Exception e) {
@@ -218,47 +271,126 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
     }
 
     private void discoverApi() {
-        try {
-            plugin.getLogger().at(Level.INFO).log("[ChunkTrackerSanitizer] Discovering ChunkTracker API...");
+        plugin.getLogger().at(Level.INFO).log("[ChunkTrackerSanitizer] Discovering ChunkTracker API...");
 
-            // Find ChunkTracker class
-            chunkTrackerClass = Class.forName("com.hypixel.hytale.server.core.modules.entity.player.ChunkTracker");
+        chunkTrackerClass = Accessors.findClass(CHUNK_TRACKER_CLASS);
+        playerRefClass = Accessors.findClass(PLAYER_REF_CLASS);
+        if (chunkTrackerClass == null || playerRefClass == null) {
+            plugin.getLogger().at(Level.WARNING).log(
+                    "[ChunkTrackerSanitizer] API discovery failed - class not found: " +
+                    (chunkTrackerClass == null ? CHUNK_TRACKER_CLASS : PLAYER_REF_CLASS));
+            apiDiscoveryFailed = true;
+            return;
+        }
 
-            // Get ComponentType
-            Method getComponentTypeMethod = chunkTrackerClass.getMethod("getComponentType");
-            chunkTrackerType = (ComponentType) getComponentTypeMethod.invoke(null);
+        // Get ComponentType and PlayerRef.getReference()
+        chunkTrackerType = (ComponentType) Accessors.invokeStatic(chunkTrackerClass, "getComponentType");
+        getReference = Accessors.invoker(playerRefClass, "getReference");
+        if (chunkTrackerType == null || getReference == null) {
+            plugin.getLogger().at(Level.WARNING).log(
+                    "[ChunkTrackerSanitizer] API discovery failed - method not found: " +
+                    (chunkTrackerType == null ? "ChunkTracker.getComponentType()" : "PlayerRef.getReference()"));
+            apiDiscoveryFailed = true;
+            return;
+        }
+        playerRefFields = resolvePlayerRefFields(Accessors.fields(chunkTrackerClass));
 
-            // Find PlayerRef class
-            playerRefClass = Class.forName("com.hypixel.hytale.server.core.universe.PlayerRef");
+        initialized = true;
+        plugin.getLogger().at(Level.INFO).log("[ChunkTrackerSanitizer] API discovery successful!");
+        plugin.getLogger().at(Level.INFO).log("  - ChunkTracker type: " + chunkTrackerType);
+        plugin.getLogger().at(Level.INFO).log("  - PlayerRef class: " + playerRefClass);
 
-            // Find getReference() method on PlayerRef
-            getReferenceMethod = playerRefClass.getMethod("getReference");
+        plugin.getLogger().at(Level.INFO).log("  - PlayerRef fields: " + playerRefFields.length);
+        for (Accessors.FieldAccessor field : playerRefFields) {
+            plugin.getLogger().at(Level.FINE).log("    - " + field.getName() + ": " + field.getGenericType().getTypeName());
+        }
+    }
 
-            initialized = true;
-            plugin.getLogger().at(Level.INFO).log("[ChunkTrackerSanitizer] API discovery successful!");
-            plugin.getLogger().at(Level.INFO).log("  - ChunkTracker type: " + chunkTrackerType);
-            plugin.getLogger().at(Level.INFO).log("  - PlayerRef class: " + playerRefClass);
-            plugin.getLogger().at(Level.INFO).log("  - getReference method: " + getReferenceMethod);
+    /**
+     * The fields worth visiting: a PlayerRef, or a Collection / Map whose type arguments
+     * mention PlayerRef. If there are none, the Collections / Maps whose element types are
+     * unknown (raw, Object, type variables).
+     */
+    private Accessors.FieldAccessor[] resolvePlayerRefFields(Accessors.FieldAccessor[] fields) {
+        List<Accessors.FieldAccessor> typed = new ArrayList<>();
+        List<Accessors.FieldAccessor> untyped = new ArrayList<>();
+        for (Accessors.FieldAccessor field : fields) {
+            Class<?> type = field.getType();
+            if (playerRefClass.isAssignableFrom(type)) {
+                typed.add(field);
+            } else if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+                if (mentionsPlayerRef(field.getGenericType(), 3)) {
+                    typed.add(field);
+                } else if (isOpen(field.getGenericType())) {
+                    untyped.add(field);
+                }
+            }
+        }
+        if (typed.isEmpty() && !untyped.isEmpty()) {
+            plugin.getLogger().at(Level.INFO).log(
+                    "[ChunkTrackerSanitizer] No PlayerRef-typed fields - visiting " + untyped.size() + " untyped collection(s)");
+            return untyped.toArray(new Accessors.FieldAccessor[0]);
+        }
+        return typed.toArray(new Accessors.FieldAccessor[0]);
+    }
 
-            // Log fields for debugging
-            plugin.getLogger().at(Level.FINE).log("  - ChunkTracker fields:");
-            for (Field field : chunkTrackerClass.getDeclaredFields()) {
-                plugin.getLogger().at(Level.FINE).log("    - " + field.getName() + ": " + field.getType().getSimpleName());
+    /**
+     * Whether PlayerRef appears in a type, its type arguments or (for classes such as a
+     * non-generic Set implementation) the type arguments of its supertypes.
+     */
+    private boolean mentionsPlayerRef(Type type, int depth) {
+        if (type instanceof Class<?> c) {
+            if (playerRefClass.isAssignableFrom(c)) {
+                return true;
+            }
+            if (depth == 0 || c.isPrimitive() || c.getName().startsWith("java.lang.")) {
+                return false;
+            }
+            for (Type supertype : c.getGenericInterfaces()) {
+                if (mentionsPlayerRef(supertype, depth - 1)) {
+                    return true;
+                }
+            }
+            return c.getGenericSuperclass() != null && mentionsPlayerRef(c.getGenericSuperclass(), depth - 1);
+        }
+        if (type instanceof ParameterizedType p) {
+            for (Type argument : p.getActualTypeArguments()) {
+                if (mentionsPlayerRef(argument, depth)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (type instanceof WildcardType w) {
+            for (Type bound : w.getUpperBounds()) {
+                if (mentionsPlayerRef(bound, depth)) {
+                    return true;
+                }
             }
+        }
+        return false;
+    }
 
-        } catch (ClassNotFoundException e) {
-            plugin.getLogger().at(Level.WARNING).log(
-                    "[ChunkTrackerSanitizer] API discovery failed - class not found: " + e.getMessage());
-            apiDiscoveryFailed = true;
-        } catch (NoSuchMethodException e) {
-            plugin.getLogger().at(Level.WARNING).log(
-                    "[ChunkTrackerSanitizer] API discovery failed - method not found: " + e.getMessage());
-            apiDiscoveryFailed = true;
-        } catch (Exception e) {
-            plugin.getLogger().at(Level.WARNING).log(
-                    "[ChunkTrackerSanitizer] API discovery failed: " + e.getMessage());
-            apiDiscoveryFailed = true;
+    /**
+     * Whether a collection type leaves its element type open: raw, Object, or a type variable.
+     */
+    private static boolean isOpen(Type type) {
+        if (type instanceof Class<?> c) {
+            return c == Object.class || c.getTypeParameters().length > 0;
+        }
+        if (type instanceof ParameterizedType p) {
+            for (Type argument : p.getActualTypeArguments()) {
+                if (isOpen(argument)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (type instanceof WildcardType w) {
+            Type[] upper = w.getUpperBounds();
+            return upper.length == 0 || upper[0] == Object.class;
         }
+        return type instanceof TypeVariable;
     }
 
     /**
@@ -268,7 +400,10 @@ public class ChunkTrackerSanitizer extends EntityTickingSystem<EntityStore> {
         StringBuilder sb = new StringBuilder();
         sb.append("Initialized: ").append(initialized).append("\n");
         sb.append("API Discovery Failed: ").append(apiDiscoveryFailed).append("\n");
+        sb.append("PlayerRef Fields: ").append(playerRefFields != null ? playerRefFields.length : 0).append("\n");
+        sb.append("Purges (players left a world): ").append(purgeEpoch.get()).append("\n");
         sb.append("Entities Checked: ").append(entitiesChecked.get()).append("\n");
+        sb.append("Tracker Ticks Skipped: ").append(trackerTicksSkipped.get()).append("\n");
         sb.append("Invalid Refs Found: ").append(invalidRefsFound.get()).append("\n");
         sb.append("Crashes Prevented: ").append(crashesPrevented.get());
         return sb.toString();
@@ -1,6 +1,7 @@
 package com.hyzenkernel.listeners;
 
 import com.hyzenkernel.HyzenKernel;
+import com.hyzenkernel.util.OverheadMeter;
 import com.hypixel.hytale.event.EventRegistration;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.universe.Universe;
@@ -33,6 +34,7 @@ import java.util.logging.Level;
 public class DefaultWorldRecoverySanitizer {
 
     private final HyzenKernel plugin;
+    private final OverheadMeter overhead = OverheadMeter.create("DefaultWorldRecoverySanitizer");
     private EventRegistration<?, ?> eventRegistration;
 
     // Recovery state
@@ -55,7 +57,7 @@ public class DefaultWorldRecoverySanitizer {
     public void register() {
         eventRegistration = plugin.getEventRegistry().registerGlobal(
             RemoveWorldEvent.class,
-            this::onWorldRemoved
+            event -> overhead.time(() -> onWorldRemoved(event))
         );
 
         plugin.getLogger().at(Level.INFO).log(
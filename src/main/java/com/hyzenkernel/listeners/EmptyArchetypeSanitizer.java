@@ -2,6 +2,7 @@ package com.hyzenkernel.listeners;
 
 import com.hyzenkernel.HyzenKernel;
 import com.hyzenkernel.config.ConfigManager;
+import com.hyzenkernel.util.OverheadMeter;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
@@ -42,6 +43,7 @@ import java.util.logging.Level;
 public class EmptyArchetypeSanitizer extends EntityTickingSystem<EntityStore> {
 
     private final HyzenKernel plugin;
+    private final OverheadMeter overhead = OverheadMeter.create("EmptyArchetypeSanitizer");
     private boolean loggedOnce = false;
     private int checkedCount = 0;
     private int removedCount = 0;
@@ -70,6 +72,21 @@ public class EmptyArchetypeSanitizer extends EntityTickingSystem<EntityStore> {
             ArchetypeChunk<EntityStore> chunk,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer
+    ) {
+        long start = overhead.start();
+        try {
+            checkEntity(deltaTime, entityIndex, chunk, store, commandBuffer);
+        } finally {
+            overhead.stop(start);
+        }
+    }
+
+    private void checkEntity(
+            float deltaTime,
+            int entityIndex,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
     ) {
         if (!loggedOnce) {
             plugin.getLogger().at(Level.INFO).log(
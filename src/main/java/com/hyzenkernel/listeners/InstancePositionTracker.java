@@ -2,6 +2,7 @@ package com.hyzenkernel.listeners;
 
 import com.hyzenkernel.HyzenKernel;
 import com.hyzenkernel.data.SavedPosition;
+import com.hyzenkernel.util.OverheadMeter;
 import com.hypixel.hytale.builtin.instances.InstancesPlugin;
 import com.hypixel.hytale.event.EventRegistration;
 import com.hypixel.hytale.server.core.event.events.player.AddPlayerToWorldEvent;
@@ -33,6 +34,7 @@ import java.util.logging.Level;
 public class InstancePositionTracker {
 
     private final HyzenKernel plugin;
+    private final OverheadMeter overhead = OverheadMeter.create("InstancePositionTracker");
     private final Map<UUID, SavedPosition> savedPositions = new ConcurrentHashMap<>();
     private boolean loggedOnce = false;
     private int recoveryCount = 0;
@@ -52,13 +54,13 @@ public class InstancePositionTracker {
         // Register for DrainPlayerFromWorldEvent (fired when player leaves a world)
         drainEventRegistration = plugin.getEventRegistry().registerGlobal(
             DrainPlayerFromWorldEvent.class,
-            this::onPlayerDrainedFromWorld
+            event -> overhead.time(() -> onPlayerDrainedFromWorld(event))
         );
 
         // Register for AddPlayerToWorldEvent (fired when player enters a world)
         addEventRegistration = plugin.getEventRegistry().registerGlobal(
             AddPlayerToWorldEvent.class,
-            this::onPlayerAddedToWorld
+            event -> overhead.time(() -> onPlayerAddedToWorld(event))
         );
 
         plugin.getLogger().at(Level.INFO).log(
@@ -1,22 +1,31 @@
 package com.hyzenkernel.listeners;
 
 import com.hyzenkernel.HyzenKernel;
+import com.hyzenkernel.systems.PlayerSanitizerStage;
+import com.hyzenkernel.systems.PlayerTickContext;
 import com.hyzenkernel.config.ConfigManager;
+import com.hyzenkernel.util.Accessors;
+import com.hyzenkernel.util.EarlyPluginBridge;
+import com.hyzenkernel.util.LongTimestampMap;
 import com.hypixel.hytale.component.ArchetypeChunk;
-import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
-import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 /**
@@ -40,32 +49,38 @@ import java.util.logging.Level;
  * 2. Validates all chains in the chains map
  * 3. Removes any chains with null context, null refs, or invalid state
  * 4. This prevents the NPE from ever reaching TickInteractionManagerSystem
+ *
+ * Performance:
+ * This runs for every player on every tick (a player deferred by the pipeline's tick budget
+ * keeps its dirty bit until the next run), so the steady state allocates nothing.
+ * Reflective members are static final MethodHandles (see {@link Handles}), removals
+ * go into a per-thread int buffer, and chains waiting for client data are tracked in a
+ * {@link LongTimestampMap} keyed by (entity index, chain id) instead of String keys.
+ *
+ * With the early plugin, InteractionManager/InteractionChain mark an entity dirty when a
+ * chain is added or its clientState/serverState changes (InteractionDirtySet). Only dirty
+ * entities and those with chains waiting on client data are scanned; everyone is still swept
+ * every interactionManager.fullSweepIntervalMs, since an owning entity can go invalid without
+ * touching its chains. A marked entity is therefore scanned on the next tick.
  */
-public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore> {
+public class InteractionManagerSanitizer implements PlayerSanitizerStage {
 
     private final HyzenKernel plugin;
 
-    // Discovered via reflection at runtime
-    private Class<?> interactionManagerClass = null;
+    // Discovered at runtime (reflective members live in Handles)
     private ComponentType interactionManagerType = null;
-    private Method getChainsMethod = null;
-    private Field chainsField = null; // InteractionManager.chains (mutable)
-    private Field contextField = null;  // InteractionChain.context
-    private Field owningEntityField = null;  // InteractionContext.owningEntity
-    private Method isValidMethod = null;  // Ref.isValid()
-
-    // Timeout detection - added in v1.3.3
-    private Field callStateField = null;  // InteractionChain.callState (enum)
-    private Field waitStartTimeField = null;  // Timestamp when chain started waiting
-    private Method cancelMethod = null;  // InteractionChain.cancel() or similar
-    private Object waitingForClientDataState = null;  // CallState.WAITING_FOR_CLIENT_DATA enum value
 
     // Client timeout threshold - configurable (default 2000ms)
     // Lowered from 2500ms in v1.3.6 to catch more timeout issues before player gets kicked
     private final long clientTimeoutMs;
 
-    // Track chains waiting for client data: chainKey -> firstSeenTimestamp
-    private final ConcurrentHashMap<String, Long> waitingChains = new ConcurrentHashMap<>();
+    // Everyone is rescanned at this interval even when dirty tracking is active
+    private final long fullSweepIntervalMs;
+    // A sweep lasts this long, so every entity gets ticked at least once during it
+    private static final long FULL_SWEEP_WINDOW_MS = 100;
+
+    // World threads tick concurrently - scratch state is per thread
+    private final ThreadLocal<TickScratch> scratch = ThreadLocal.withInitial(TickScratch::new);
 
     private boolean initialized = false;
     private boolean apiDiscoveryFailed = false;
@@ -84,26 +99,26 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
     private final AtomicInteger chainsRemoved = new AtomicInteger(0);
     private final AtomicInteger crashesPrevented = new AtomicInteger(0);
     private final AtomicInteger timeoutsPrevented = new AtomicInteger(0);
+    private final AtomicLong entitiesScanned = new AtomicLong(0);
+    private final AtomicLong entitiesSkipped = new AtomicLong(0);
 
     public InteractionManagerSanitizer(HyzenKernel plugin) {
         this.plugin = plugin;
         this.clientTimeoutMs = ConfigManager.getInstance().getInteractionManagerClientTimeoutMs();
+        this.fullSweepIntervalMs = ConfigManager.getInstance().getInteractionManagerFullSweepIntervalMs();
     }
 
     @Override
-    public Query<EntityStore> getQuery() {
-        // Query for Player entities (they have InteractionManager)
-        return Player.getComponentType();
+    public String getStageName() {
+        return "InteractionManager";
     }
 
     @Override
-    public void tick(
-            float deltaTime,
-            int index,
-            ArchetypeChunk<EntityStore> chunk,
-            Store<EntityStore> store,
-            CommandBuffer<EntityStore> commandBuffer
-    ) {
+    public void tick(PlayerTickContext context) {
+        int index = context.getIndex();
+        ArchetypeChunk<EntityStore> chunk = context.getChunk();
+        Store<EntityStore> store = context.getStore();
+
         // Try to discover API on first tick
         if (!initialized && !apiDiscoveryFailed) {
             discoverApi();
@@ -114,195 +129,238 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
         }
 
         try {
-            Ref<EntityStore> ref = chunk.getReferenceTo(index);
+            Ref<EntityStore> ref = context.getRef();
+            int refIndex = ref.getIndex();
+            TickScratch tickScratch = scratch.get();
 
-            // Get InteractionManager component
-            Object interactionManager = chunk.getComponent(index, interactionManagerType);
-            if (interactionManager == null) {
+            // With the early plugin, skip entities whose chains haven't changed
+            if (!isDirty(store, refIndex, tickScratch)) {
+                entitiesSkipped.incrementAndGet();
                 return;
             }
+            entitiesScanned.incrementAndGet();
+
+            int visit = ++tickScratch.visit;
+            tickScratch.removalCount = 0;
+            tickScratch.waitingCount = 0;
 
-            // Get the chains map
-            @SuppressWarnings("unchecked")
-            Map<Integer, Object> chains = getChains(interactionManager);
+            // Get InteractionManager component
+            Object interactionManager = chunk.getComponent(index, interactionManagerType);
+            Map<?, ?> chains = interactionManager != null ? getChains(interactionManager) : null;
             if (chains == null || chains.isEmpty()) {
+                if (tickScratch.waitingChains.size() > 0) {
+                    tickScratch.waitingChains.removeStale(refIndex, visit);
+                }
                 return;
             }
 
             // Validate each chain
-            java.util.List<Integer> chainsToRemove = new java.util.ArrayList<>();
-            java.util.List<String> seenChainKeys = new java.util.ArrayList<>();
-
-            for (Map.Entry<Integer, Object> entry : chains.entrySet()) {
-                chainsValidated.incrementAndGet();
-                Object chain = entry.getValue();
-                Integer chainId = entry.getKey();
-
-                if (chain == null) {
-                    chainsToRemove.add(chainId);
-                    continue;
+            if (chains instanceof Int2ObjectMap) {
+                @SuppressWarnings("unchecked")
+                ObjectIterator<Int2ObjectMap.Entry<Object>> it =
+                        Int2ObjectMaps.fastIterator((Int2ObjectMap<Object>) chains);
+                while (it.hasNext()) {
+                    Int2ObjectMap.Entry<Object> entry = it.next();
+                    validateChain(ref, entry.getIntKey(), entry.getValue(), tickScratch, visit);
                 }
-
-                // Check if context is null
-                Object context = contextField.get(chain);
-                if (context == null) {
-                    chainsToRemove.add(chainId);
-                    logWarningThrottled(
-                            "null-context",
-                            "[InteractionManagerSanitizer] Found chain with null context, removing to prevent crash");
-                    continue;
-                }
-
-                // Check if owningEntity ref is null or invalid
-                Object owningEntityRef = owningEntityField.get(context);
-                if (owningEntityRef == null) {
-                    chainsToRemove.add(chainId);
-                    logWarningThrottled(
-                            "null-owning-ref",
-                            "[InteractionManagerSanitizer] Found chain with null owningEntity ref, removing to prevent crash");
-                    continue;
-                }
-
-                // Check if the ref is valid
-                if (isValidMethod != null) {
-                    Boolean isValid = (Boolean) isValidMethod.invoke(owningEntityRef);
-                    if (!isValid) {
-                        chainsToRemove.add(chainId);
-                        logWarningThrottled(
-                                "invalid-owning-ref",
-                                "[InteractionManagerSanitizer] Found chain with invalid owningEntity ref, removing to prevent crash");
-                        continue;
-                    }
-                }
-
-                // Client timeout detection (v1.3.3)
-                if (timeoutDetectionEnabled && callStateField != null) {
-                    try {
-                        Object callState = callStateField.get(chain);
-                        String chainKey = ref.toString() + ":" + chainId;
-                        seenChainKeys.add(chainKey);
-
-                        // Check if chain is waiting for client data
-                        if (isWaitingForClientData(callState)) {
-                            Long firstSeen = waitingChains.get(chainKey);
-                            long now = System.currentTimeMillis();
-
-                            if (firstSeen == null) {
-                                // First time seeing this chain waiting
-                                waitingChains.put(chainKey, now);
-                            } else if (now - firstSeen > clientTimeoutMs) {
-                                // Chain has been waiting too long - proactively cancel it
-                                chainsToRemove.add(chainId);
-                                waitingChains.remove(chainKey);
-                                timeoutsPrevented.incrementAndGet();
-                                logWarningThrottled(
-                                        "client-timeout",
-                                        "[InteractionManagerSanitizer] Chain waiting for client data > " +
-                                        clientTimeoutMs + "ms, removing to prevent kick (chain " + chainId + ")");
-                            }
-                        } else {
-                            // Chain not waiting anymore - remove from tracking
-                            waitingChains.remove(chainKey);
-                        }
-                    } catch (Exception e) {
-                        // Ignore timeout check errors - still have main validation
+            } else {
+                Iterator<? extends Map.Entry<?, ?>> it = chains.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<?, ?> entry = it.next();
+                    if (entry.getKey() instanceof Integer) {
+                        validateChain(ref, (Integer) entry.getKey(), entry.getValue(), tickScratch, visit);
                     }
                 }
             }
 
-            // Clean up tracking for chains that no longer exist
-            waitingChains.keySet().removeIf(key -> !seenChainKeys.contains(key));
+            // Clean up tracking for this player's chains that no longer exist
+            tickScratch.waitingChains.removeStale(refIndex, visit);
+
+            // Chains still waiting on the client keep the entity on next tick's list
+            if (tickScratch.waitingCount > 0 && DirtySet.MARK != null) {
+                DirtySet.MARK.invokeExact((Object) store, refIndex);
+            }
 
             // Remove invalid chains
-            int removedCount = 0;
-            if (!chainsToRemove.isEmpty()) {
-                for (Integer chainId : chainsToRemove) {
-                    try {
-                        Object removed = chains.remove(chainId);
-                        if (removed != null) {
-                            chainsRemoved.incrementAndGet();
-                            removedCount++;
-                        }
-                    } catch (UnsupportedOperationException e) {
-                        logWarningThrottled(
-                                "chains-unmodifiable",
-                                "[InteractionManagerSanitizer] Unable to remove invalid chains (unmodifiable map) - sanitizer may not prevent crashes");
-                        removedCount = 0;
-                        break;
-                    }
-                }
-                if (removedCount > 0) {
-                    crashesPrevented.incrementAndGet();
-                    removalsSinceLastLog.addAndGet(removedCount);
-                    logRemovalSummaryIfNeeded();
-                }
+            if (tickScratch.removalCount > 0) {
+                removeChains(chains, tickScratch);
             }
 
-        } catch (Exception e) {
+        } catch (Throwable e) {
             // Don't crash on our sanitizer - log and continue
             plugin.getLogger().at(Level.FINE).log(
                     "[InteractionManagerSanitizer] Error during validation: " + e.getMessage());
         }
     }
 
-    private void discoverApi() {
+    /**
+     * Whether the early plugin's InteractionDirtySet is present and tracking chain changes.
+     */
+    private static boolean isDirtyTrackingActive() {
         try {
-            plugin.getLogger().at(Level.INFO).log("[InteractionManagerSanitizer] Discovering InteractionManager API...");
+            return DirtySet.CLAIM != null && (boolean) DirtySet.IS_ACTIVE.invokeExact();
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether this entity's chains need a scan: always without the early plugin's
+     * InteractionDirtySet, otherwise if its dirty bit was set or a full sweep is running.
+     * The bit is claimed (cleared) either way.
+     */
+    private boolean isDirty(Store<EntityStore> store, int refIndex, TickScratch tickScratch) throws Throwable {
+        if (!isDirtyTrackingActive()) {
+            return true;
+        }
 
-            // Find InteractionManager class
-            interactionManagerClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionManager");
+        long now = System.currentTimeMillis();
+        long generation = (long) DirtySet.GENERATION.invokeExact();
+        if (generation != tickScratch.sweepGeneration || now >= tickScratch.nextFullSweep) {
+            // Periodic sweep, or a chain the early plugin couldn't attribute to an entity
+            tickScratch.sweepGeneration = generation;
+            tickScratch.nextFullSweep = now + fullSweepIntervalMs;
+            tickScratch.sweepUntil = now + FULL_SWEEP_WINDOW_MS;
+        }
 
-            // Find InteractionChain class
-            Class<?> interactionChainClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionChain");
+        boolean dirty = (boolean) DirtySet.CLAIM.invokeExact((Object) store, refIndex);
+        return dirty || now < tickScratch.sweepUntil;
+    }
 
-            // Find InteractionContext class
-            Class<?> interactionContextClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionContext");
+    private void validateChain(Ref<EntityStore> ref, int chainId, Object chain, TickScratch tickScratch, int visit)
+            throws Throwable {
+        chainsValidated.incrementAndGet();
 
-            // Find Ref class
-            Class<?> refClass = Class.forName("com.hypixel.hytale.component.Ref");
+        if (chain == null) {
+            tickScratch.addRemoval(chainId);
+            return;
+        }
+
+        // Check if context is null
+        Object context = (Object) Handles.CONTEXT.invokeExact(chain);
+        if (context == null) {
+            tickScratch.addRemoval(chainId);
+            logWarningThrottled(
+                    "null-context",
+                    "[InteractionManagerSanitizer] Found chain with null context, removing to prevent crash");
+            return;
+        }
+
+        // Check if owningEntity ref is null or invalid
+        Object owningEntityRef = (Object) Handles.OWNING_ENTITY.invokeExact(context);
+        if (owningEntityRef == null) {
+            tickScratch.addRemoval(chainId);
+            logWarningThrottled(
+                    "null-owning-ref",
+                    "[InteractionManagerSanitizer] Found chain with null owningEntity ref, removing to prevent crash");
+            return;
+        }
+
+        // Check if the ref is valid
+        if (!(boolean) Handles.IS_VALID.invokeExact(owningEntityRef)) {
+            tickScratch.addRemoval(chainId);
+            logWarningThrottled(
+                    "invalid-owning-ref",
+                    "[InteractionManagerSanitizer] Found chain with invalid owningEntity ref, removing to prevent crash");
+            return;
+        }
+
+        // Client timeout detection (v1.3.3)
+        if (timeoutDetectionEnabled) {
+            try {
+                Object callState = (Object) Handles.CALL_STATE.invokeExact(chain);
+                long chainKey = LongTimestampMap.key(ref.getIndex(), chainId);
+
+                // Check if chain is waiting for client data
+                if (callState == Handles.WAITING_FOR_CLIENT_DATA) {
+                    tickScratch.waitingCount++;
+                    long now = System.currentTimeMillis();
+                    long firstSeen = tickScratch.waitingChains.firstSeen(chainKey, ref, now, visit);
+                    if (now - firstSeen > clientTimeoutMs) {
+                        // Chain has been waiting too long - proactively cancel it
+                        tickScratch.addRemoval(chainId);
+                        tickScratch.waitingChains.remove(chainKey);
+                        timeoutsPrevented.incrementAndGet();
+                        logWarningThrottled(
+                                "client-timeout",
+                                "[InteractionManagerSanitizer] Chain waiting for client data > " +
+                                clientTimeoutMs + "ms, removing to prevent kick (chain " + chainId + ")");
+                    }
+                }
+                // Chains that aren't waiting (anymore) are dropped by removeStale()
+            } catch (Exception e) {
+                // Ignore timeout check errors - still have main validation
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void removeChains(Map<?, ?> chains, TickScratch tickScratch) throws Throwable {
+        int removedCount = 0;
+        for (int i = 0; i < tickScratch.removalCount; i++) {
+            int chainId = tickScratch.removals[i];
+            try {
+                Object removed = chains instanceof Int2ObjectMap
+                        ? ((Int2ObjectMap<Object>) chains).remove(chainId)
+                        : chains.remove(chainId);
+                if (removed != null) {
+                    if (Lifecycle.REMOVED_BY_SANITIZER != null) {
+                        Lifecycle.REMOVED_BY_SANITIZER.invokeExact(removed);
+                    }
+                    chainsRemoved.incrementAndGet();
+                    removedCount++;
+                }
+            } catch (UnsupportedOperationException e) {
+                logWarningThrottled(
+                        "chains-unmodifiable",
+                        "[InteractionManagerSanitizer] Unable to remove invalid chains (unmodifiable map) - sanitizer may not prevent crashes");
+                removedCount = 0;
+                break;
+            }
+        }
+        if (removedCount > 0) {
+            crashesPrevented.incrementAndGet();
+            removalsSinceLastLog.addAndGet(removedCount);
+            logRemovalSummaryIfNeeded();
+        }
+    }
+
+    private void discoverApi() {
+        try {
+            plugin.getLogger().at(Level.INFO).log("[InteractionManagerSanitizer] Discovering InteractionManager API...");
 
             // Get ComponentType for InteractionManager via InteractionModule
-            Class<?> interactionModuleClass = Class.forName("com.hypixel.hytale.server.core.modules.interaction.InteractionModule");
-            Method getModuleMethod = interactionModuleClass.getMethod("get");
-            Object interactionModule = getModuleMethod.invoke(null);
-            Method getComponentTypeMethod = interactionModuleClass.getMethod("getInteractionManagerComponent");
-            interactionManagerType = (ComponentType) getComponentTypeMethod.invoke(interactionModule);
-
-            // Get getChains() method (unmodifiable)
-            getChainsMethod = interactionManagerClass.getMethod("getChains");
-
-            // Get mutable chains field if possible
-            chainsField = discoverChainsField(interactionManagerClass);
-            if (chainsField != null) {
+            Class<?> interactionModuleClass = Handles.requireClass("com.hypixel.hytale.server.core.modules.interaction.InteractionModule");
+            Object interactionModule = Accessors.invokeStatic(interactionModuleClass, "get");
+            Accessors.Invoker getComponentType = Accessors.invoker(interactionModuleClass, "getInteractionManagerComponent");
+            if (interactionModule == null || getComponentType == null) {
+                throw new NoSuchMethodException("InteractionModule.get() / getInteractionManagerComponent()");
+            }
+            interactionManagerType = (ComponentType) getComponentType.invoke(interactionModule);
+
+            // Resolves every reflective member once (throws if a required one is missing)
+            Handles.touch();
+
+            if (Handles.CHAINS_FIELD != null) {
                 plugin.getLogger().at(Level.INFO).log(
-                        "[InteractionManagerSanitizer] Found mutable chains field: " + chainsField.getName());
+                        "[InteractionManagerSanitizer] Found mutable chains field: " + Handles.CHAINS_FIELD);
             } else {
                 plugin.getLogger().at(Level.WARNING).log(
                         "[InteractionManagerSanitizer] Mutable chains field not found - removals may be limited");
             }
 
-            // Get context field from InteractionChain
-            contextField = interactionChainClass.getDeclaredField("context");
-            contextField.setAccessible(true);
-
-            // Get owningEntity field from InteractionContext
-            owningEntityField = interactionContextClass.getDeclaredField("owningEntity");
-            owningEntityField.setAccessible(true);
-
-            // Get isValid() method from Ref
-            isValidMethod = refClass.getMethod("isValid");
-
             initialized = true;
             plugin.getLogger().at(Level.INFO).log("[InteractionManagerSanitizer] API discovery successful!");
             plugin.getLogger().at(Level.INFO).log("  - InteractionManager ComponentType: " + interactionManagerType);
-            plugin.getLogger().at(Level.INFO).log("  - getChains method: " + getChainsMethod);
-            plugin.getLogger().at(Level.INFO).log("  - context field: " + contextField);
-            plugin.getLogger().at(Level.INFO).log("  - owningEntity field: " + owningEntityField);
-            plugin.getLogger().at(Level.INFO).log("  - isValid method: " + isValidMethod);
+            plugin.getLogger().at(Level.INFO).log("  - context/owningEntity/isValid resolved as MethodHandles");
 
             // Timeout detection discovery (v1.3.3)
-            discoverTimeoutApi(interactionChainClass);
+            discoverTimeoutApi();
 
+        } catch (ExceptionInInitializerError e) {
+            plugin.getLogger().at(Level.WARNING).log(
+                    "[InteractionManagerSanitizer] API discovery failed: " + e.getCause());
+            apiDiscoveryFailed = true;
         } catch (ClassNotFoundException e) {
             plugin.getLogger().at(Level.WARNING).log(
                     "[InteractionManagerSanitizer] API discovery failed - class not found: " + e.getMessage());
@@ -311,11 +369,7 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
             plugin.getLogger().at(Level.WARNING).log(
                     "[InteractionManagerSanitizer] API discovery failed - method not found: " + e.getMessage());
             apiDiscoveryFailed = true;
-        } catch (NoSuchFieldException e) {
-            plugin.getLogger().at(Level.WARNING).log(
-                    "[InteractionManagerSanitizer] API discovery failed - field not found: " + e.getMessage());
-            apiDiscoveryFailed = true;
-        } catch (Exception e) {
+        } catch (Exception | LinkageError e) {
             plugin.getLogger().at(Level.WARNING).log(
                     "[InteractionManagerSanitizer] API discovery failed: " + e.getMessage());
             apiDiscoveryFailed = true;
@@ -323,122 +377,40 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
     }
 
     /**
-     * Discover API for client timeout detection.
-     * This is optional - if it fails, we still have the main validation.
+     * Report the optional timeout detection members.
+     * This is optional - if they're missing, we still have the main validation.
      */
-    private void discoverTimeoutApi(Class<?> interactionChainClass) {
-        try {
-            // Find CallState enum
-            Class<?> callStateClass = Class.forName("com.hypixel.hytale.server.core.entity.InteractionChain$CallState");
-
-            // Find callState field on InteractionChain
-            String[] stateFieldNames = {"callState", "state", "currentState"};
-            for (String fieldName : stateFieldNames) {
-                try {
-                    callStateField = interactionChainClass.getDeclaredField(fieldName);
-                    callStateField.setAccessible(true);
-                    plugin.getLogger().at(Level.INFO).log(
-                            "[InteractionManagerSanitizer] Found callState field: " + fieldName);
-                    break;
-                } catch (NoSuchFieldException e) {
-                    // Try next
-                }
-            }
-
-            // Find WAITING_FOR_CLIENT_DATA enum value
-            if (callStateClass.isEnum()) {
-                for (Object enumValue : callStateClass.getEnumConstants()) {
-                    String name = enumValue.toString();
-                    if (name.contains("WAITING") && name.contains("CLIENT")) {
-                        waitingForClientDataState = enumValue;
-                        plugin.getLogger().at(Level.INFO).log(
-                                "[InteractionManagerSanitizer] Found waiting state: " + name);
-                        break;
-                    }
-                }
-            }
-
-            // Find cancel method on InteractionChain
-            String[] cancelMethods = {"cancel", "stop", "abort"};
-            for (String methodName : cancelMethods) {
-                try {
-                    cancelMethod = interactionChainClass.getMethod(methodName);
-                    plugin.getLogger().at(Level.INFO).log(
-                            "[InteractionManagerSanitizer] Found cancel method: " + methodName + "()");
-                    break;
-                } catch (NoSuchMethodException e) {
-                    // Try next
-                }
-            }
-
-            // Enable timeout detection if we found the state field
-            if (callStateField != null && waitingForClientDataState != null) {
-                timeoutDetectionEnabled = true;
-                plugin.getLogger().at(Level.INFO).log(
-                        "[InteractionManagerSanitizer] Client timeout detection ENABLED (" +
-                        clientTimeoutMs + "ms threshold)");
-            } else {
-                plugin.getLogger().at(Level.INFO).log(
-                        "[InteractionManagerSanitizer] Client timeout detection not available " +
-                        "(callStateField=" + (callStateField != null) +
-                        ", waitingState=" + (waitingForClientDataState != null) + ")");
-            }
-
-        } catch (ClassNotFoundException e) {
+    private void discoverTimeoutApi() {
+        if (Handles.CALL_STATE_FIELD != null) {
             plugin.getLogger().at(Level.INFO).log(
-                    "[InteractionManagerSanitizer] CallState enum not found - timeout detection disabled");
-        } catch (Exception e) {
+                    "[InteractionManagerSanitizer] Found callState field: " + Handles.CALL_STATE_FIELD);
+        }
+        if (Handles.WAITING_FOR_CLIENT_DATA != null) {
             plugin.getLogger().at(Level.INFO).log(
-                    "[InteractionManagerSanitizer] Timeout detection discovery failed: " + e.getMessage());
+                    "[InteractionManagerSanitizer] Found waiting state: " + Handles.WAITING_FOR_CLIENT_DATA);
         }
-    }
-
-    /**
-     * Check if a chain's CallState indicates it's waiting for client data.
-     */
-    private boolean isWaitingForClientData(Object callState) {
-        if (callState == null || waitingForClientDataState == null) {
-            return false;
+        if (Handles.CANCEL_METHOD != null) {
+            plugin.getLogger().at(Level.INFO).log(
+                    "[InteractionManagerSanitizer] Found cancel method: " + Handles.CANCEL_METHOD + "()");
         }
-        // Compare enum values
-        return callState == waitingForClientDataState ||
-               callState.toString().contains("WAITING") && callState.toString().contains("CLIENT");
-    }
 
-    @SuppressWarnings("unchecked")
-    private Map<Integer, Object> getChains(Object interactionManager) throws Exception {
-        if (chainsField != null) {
-            Object chainsObj = chainsField.get(interactionManager);
-            if (chainsObj instanceof Map) {
-                return (Map<Integer, Object>) chainsObj;
-            }
+        // Enable timeout detection if we found the state field
+        if (Handles.CALL_STATE != null && Handles.WAITING_FOR_CLIENT_DATA != null) {
+            timeoutDetectionEnabled = true;
+            plugin.getLogger().at(Level.INFO).log(
+                    "[InteractionManagerSanitizer] Client timeout detection ENABLED (" +
+                    clientTimeoutMs + "ms threshold)");
+        } else {
+            plugin.getLogger().at(Level.INFO).log(
+                    "[InteractionManagerSanitizer] Client timeout detection not available " +
+                    "(callStateField=" + (Handles.CALL_STATE != null) +
+                    ", waitingState=" + (Handles.WAITING_FOR_CLIENT_DATA != null) + ")");
         }
-        return (Map<Integer, Object>) getChainsMethod.invoke(interactionManager);
     }
 
-    private Field discoverChainsField(Class<?> interactionManagerClass) {
-        try {
-            Field field = interactionManagerClass.getDeclaredField("chains");
-            field.setAccessible(true);
-            return field;
-        } catch (NoSuchFieldException ignored) {
-            // Fall back to scanning for a non-unmodifiable map-like field
-        }
-
-        for (Field field : interactionManagerClass.getDeclaredFields()) {
-            String name = field.getName().toLowerCase();
-            if (name.contains("unmodifiable")) {
-                continue;
-            }
-            Class<?> type = field.getType();
-            boolean mapLike = Map.class.isAssignableFrom(type) ||
-                    type.getName().contains("Int2ObjectMap");
-            if (mapLike) {
-                field.setAccessible(true);
-                return field;
-            }
-        }
-        return null;
+    private Map<?, ?> getChains(Object interactionManager) throws Throwable {
+        Object chainsObj = (Object) Handles.CHAINS.invokeExact(interactionManager);
+        return chainsObj instanceof Map ? (Map<?, ?>) chainsObj : null;
     }
 
     private void logWarningThrottled(String key, String message) {
@@ -487,6 +459,9 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
         sb.append("Initialized: ").append(initialized).append("\n");
         sb.append("API Discovery Failed: ").append(apiDiscoveryFailed).append("\n");
         sb.append("Timeout Detection: ").append(timeoutDetectionEnabled ? "ENABLED" : "disabled").append("\n");
+        sb.append("Dirty Tracking: ").append(dirtyTrackingStatus()).append("\n");
+        sb.append("Entities Scanned: ").append(entitiesScanned.get())
+                .append(" (skipped clean: ").append(entitiesSkipped.get()).append(")\n");
         sb.append("Chains Validated: ").append(chainsValidated.get()).append("\n");
         sb.append("Chains Removed: ").append(chainsRemoved.get()).append("\n");
         sb.append("Crashes Prevented: ").append(crashesPrevented.get()).append("\n");
@@ -494,6 +469,22 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
         return sb.toString();
     }
 
+    private String dirtyTrackingStatus() {
+        if (DirtySet.CLAIM == null) {
+            return "unavailable (early plugin not loaded)";
+        }
+        try {
+            if (!(boolean) DirtySet.IS_ACTIVE.invokeExact()) {
+                return "waiting for early hooks (scanning every tick)";
+            }
+        } catch (Throwable e) {
+            return "error";
+        }
+        long[] totals = EarlyPluginBridge.getInteractionDirtyTotals();
+        return totals == null ? "ENABLED" : "ENABLED (marks: " + totals[EarlyPluginBridge.DIRTY_MARKS] +
+                ", full sweeps requested: " + totals[EarlyPluginBridge.DIRTY_UNRESOLVED] + ")";
+    }
+
     /**
      * Get the number of client timeouts prevented
      */
@@ -507,4 +498,202 @@ public class InteractionManagerSanitizer extends EntityTickingSystem<EntityStore
     public int getCrashesPrevented() {
         return crashesPrevented.get();
     }
+
+    /**
+     * Per-thread tick state, reused across players and ticks.
+     */
+    private static final class TickScratch {
+        int[] removals = new int[8];
+        int removalCount;
+        int waitingCount;
+        int visit;
+        // Full sweep state (dirty tracking only)
+        long sweepGeneration;
+        long nextFullSweep;
+        long sweepUntil;
+        // (entity index, chain id) -> first time the chain was seen waiting for client data
+        final LongTimestampMap waitingChains = new LongTimestampMap(16);
+
+        void addRemoval(int chainId) {
+            if (removalCount == removals.length) {
+                removals = Arrays.copyOf(removals, removalCount * 2);
+            }
+            removals[removalCount++] = chainId;
+        }
+    }
+
+    /**
+     * The early plugin's InteractionDirtySet as static final MethodHandles; all null if the
+     * early plugin isn't installed, in which case every entity is scanned every tick.
+     */
+    private static final class DirtySet {
+
+        static final MethodHandle IS_ACTIVE = EarlyPluginBridge.findStatic(
+                "InteractionDirtySet", "isActive", MethodType.methodType(boolean.class));
+        static final MethodHandle GENERATION = EarlyPluginBridge.findStatic(
+                "InteractionDirtySet", "fullSweepGeneration", MethodType.methodType(long.class));
+        static final MethodHandle CLAIM = IS_ACTIVE != null && GENERATION != null ? EarlyPluginBridge.findStatic(
+                "InteractionDirtySet", "claim", MethodType.methodType(boolean.class, Object.class, int.class)) : null;
+        static final MethodHandle MARK = CLAIM != null ? EarlyPluginBridge.findStatic(
+                "InteractionDirtySet", "mark", MethodType.methodType(void.class, Object.class, int.class)) : null;
+
+        private DirtySet() {
+        }
+    }
+
+    /**
+     * ChainLifecycleStats.removedBySanitizer(chain), or null without the early plugin.
+     */
+    private static final class Lifecycle {
+
+        static final MethodHandle REMOVED_BY_SANITIZER = EarlyPluginBridge.findStatic(
+                "ChainLifecycleStats", "removedBySanitizer", MethodType.methodType(void.class, Object.class));
+
+        private Lifecycle() {
+        }
+    }
+
+    /**
+     * InteractionManager / InteractionChain members as static final MethodHandles, so the
+     * JIT treats them as constants. Resolved when discoverApi() first touches this class;
+     * a missing required member fails class initialization (ExceptionInInitializerError).
+     *
+     * All handles are adapted to Object in / Object (or boolean) out for invokeExact.
+     */
+    private static final class Handles {
+
+        private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+
+        /** InteractionManager -> chains map (mutable field if found, else getChains()) */
+        static final MethodHandle CHAINS;
+        static final String CHAINS_FIELD;
+        /** InteractionChain.context */
+        static final MethodHandle CONTEXT;
+        /** InteractionContext.owningEntity */
+        static final MethodHandle OWNING_ENTITY;
+        /** Ref.isValid() */
+        static final MethodHandle IS_VALID;
+
+        // Timeout detection - added in v1.3.3 (optional, null if not found)
+        static final MethodHandle CALL_STATE;
+        static final String CALL_STATE_FIELD;
+        static final Object WAITING_FOR_CLIENT_DATA;
+        static final String CANCEL_METHOD;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                Class<?> interactionManagerClass = requireClass("com.hypixel.hytale.server.core.entity.InteractionManager");
+                Class<?> interactionChainClass = requireClass("com.hypixel.hytale.server.core.entity.InteractionChain");
+                Class<?> interactionContextClass = requireClass("com.hypixel.hytale.server.core.entity.InteractionContext");
+                Class<?> refClass = requireClass("com.hypixel.hytale.component.Ref");
+
+                Field chainsField = discoverChainsField(interactionManagerClass);
+                CHAINS_FIELD = chainsField != null ? chainsField.getName() : null;
+                CHAINS = chainsField != null
+                        ? lookup.unreflectGetter(chainsField).asType(OBJECT_GETTER)
+                        : lookup.unreflect(interactionManagerClass.getMethod("getChains")).asType(OBJECT_GETTER);
+
+                CONTEXT = getter(lookup, interactionChainClass.getDeclaredField("context"));
+                OWNING_ENTITY = getter(lookup, interactionContextClass.getDeclaredField("owningEntity"));
+                IS_VALID = lookup.unreflect(refClass.getMethod("isValid"))
+                        .asType(MethodType.methodType(boolean.class, Object.class));
+
+                Field callStateField = findField(interactionChainClass, "callState", "state", "currentState");
+                CALL_STATE_FIELD = callStateField != null ? callStateField.getName() : null;
+                CALL_STATE = callStateField != null ? getter(lookup, callStateField) : null;
+                WAITING_FOR_CLIENT_DATA = findWaitingState();
+                CANCEL_METHOD = findMethodName(interactionChainClass, "cancel", "stop", "abort");
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private Handles() {
+        }
+
+        /** Forces class initialization. */
+        static void touch() {
+        }
+
+        /**
+         * A class from the shared {@link Accessors} cache (doesn't initialize Handles).
+         */
+        static Class<?> requireClass(String name) throws ClassNotFoundException {
+            Class<?> type = Accessors.findClass(name);
+            if (type == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return type;
+        }
+
+        private static MethodHandle getter(MethodHandles.Lookup lookup, Field field) throws IllegalAccessException {
+            field.setAccessible(true);
+            return lookup.unreflectGetter(field).asType(OBJECT_GETTER);
+        }
+
+        private static Field discoverChainsField(Class<?> interactionManagerClass) {
+            try {
+                Field field = interactionManagerClass.getDeclaredField("chains");
+                field.setAccessible(true);
+                return field;
+            } catch (NoSuchFieldException ignored) {
+                // Fall back to scanning for a non-unmodifiable map-like field
+            }
+
+            for (Field field : interactionManagerClass.getDeclaredFields()) {
+                String name = field.getName().toLowerCase();
+                if (name.contains("unmodifiable")) {
+                    continue;
+                }
+                Class<?> type = field.getType();
+                boolean mapLike = Map.class.isAssignableFrom(type) ||
+                        type.getName().contains("Int2ObjectMap");
+                if (mapLike) {
+                    field.setAccessible(true);
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        private static Field findField(Class<?> type, String... names) {
+            for (String name : names) {
+                try {
+                    return type.getDeclaredField(name);
+                } catch (NoSuchFieldException e) {
+                    // Try next
+                }
+            }
+            return null;
+        }
+
+        private static String findMethodName(Class<?> type, String... names) {
+            for (String name : names) {
+                try {
+                    return type.getMethod(name).getName();
+                } catch (NoSuchMethodException e) {
+                    // Try next
+                }
+            }
+            return null;
+        }
+
+        /**
+         * CallState.WAITING_FOR_CLIENT_DATA (or the closest WAITING...CLIENT constant).
+         */
+        private static Object findWaitingState() {
+            Class<?> callStateClass = Accessors.findClass("com.hypixel.hytale.server.core.entity.InteractionChain$CallState");
+            if (callStateClass != null && callStateClass.isEnum()) {
+                for (Object enumValue : callStateClass.getEnumConstants()) {
+                    String name = enumValue.toString();
+                    if (name.contains("WAITING") && name.contains("CLIENT")) {
+                        return enumValue;
+                    }
+                }
+            }
+            // CallState enum not found - timeout detection disabled
+            return null;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.hyzenkernel.listeners;
 
 import com.hyzenkernel.HyzenKernel;
+import com.hyzenkernel.util.OverheadMeter;
 import com.hypixel.hytale.component.AddReason;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
@@ -47,6 +48,7 @@ import java.util.logging.Level;
 public class RespawnBlockSanitizer extends RefSystem<ChunkStore> {
 
     private final HyzenKernel plugin;
+    private final OverheadMeter overhead = OverheadMeter.create("RespawnBlockSanitizer");
     private boolean loggedOnce = false;
     private int fixedCount = 0;
 
@@ -75,6 +77,20 @@ public class RespawnBlockSanitizer extends RefSystem<ChunkStore> {
             RemoveReason reason,
             Store<ChunkStore> store,
             CommandBuffer<ChunkStore> commandBuffer
+    ) {
+        long start = overhead.start();
+        try {
+            sanitizeRemoval(ref, reason, store, commandBuffer);
+        } finally {
+            overhead.stop(start);
+        }
+    }
+
+    private void sanitizeRemoval(
+            Ref<ChunkStore> ref,
+            RemoveReason reason,
+            Store<ChunkStore> store,
+            CommandBuffer<ChunkStore> commandBuffer
     ) {
         if (!loggedOnce) {
             plugin.getLogger().at(Level.INFO).log(
@@ -1,6 +1,7 @@
 package com.hyzenkernel.listeners;
 
 import com.hyzenkernel.HyzenKernel;
+import com.hyzenkernel.util.OverheadMeter;
 import com.hypixel.hytale.event.EventRegistration;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.universe.Universe;
@@ -30,6 +31,7 @@ public class SharedInstanceBootUnloader {
     private static final long UNLOAD_DELAY_MS = 1000L;
 
     private final HyzenKernel plugin;
+    private final OverheadMeter overhead = OverheadMeter.create("SharedInstanceBootUnloader");
     private final AtomicBoolean ran = new AtomicBoolean(false);
     private EventRegistration<?, ?> registration;
 
@@ -40,7 +42,7 @@ public class SharedInstanceBootUnloader {
     public void register() {
         registration = plugin.getEventRegistry().registerGlobal(
             AllWorldsLoadedEvent.class,
-            event -> onAllWorldsLoaded()
+            event -> overhead.time(this::onAllWorldsLoaded)
         );
 
         plugin.getLogger().at(Level.INFO).log(
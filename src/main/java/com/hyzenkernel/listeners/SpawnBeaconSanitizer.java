@@ -1,6 +1,11 @@
 package com.hyzenkernel.listeners;
 
 import com.hyzenkernel.HyzenKernel;
+import com.hyzenkernel.config.ConfigManager;
+import com.hyzenkernel.util.Accessors;
+import com.hyzenkernel.util.OverheadMeter;
+import com.hyzenkernel.util.TickClock;
+import com.hyzenkernel.util.TickSchedule;
 import com.hypixel.hytale.component.ArchetypeChunk;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.ComponentType;
@@ -15,6 +20,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 /**
@@ -38,17 +44,46 @@ import java.util.logging.Level;
  *
  * NOTE: This uses reflection since we don't have direct API access to
  * BeaconSpawnController. The component discovery happens at runtime.
+ *
+ * BACK-OFF: Null spawns show up in bursts and are absent for hours in between, so the
+ * beacons aren't checked on every tick. Each world thread scans all its beacons in one
+ * tick, then waits twice as long after every clean scan (up to
+ * playerSanitizers.maxBackoffIntervalTicks); only a scan that removes something drops it
+ * back to every tick. Ticks are counted by a {@link TickClock} advanced in
+ * {@link #tick(float, int, Store)}, and the scans scheduled by a {@link TickSchedule}.
  */
 public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
 
     private final HyzenKernel plugin;
+    private final OverheadMeter overhead = OverheadMeter.create("SpawnBeaconSanitizer");
     private boolean loggedOnce = false;
     private boolean discoveryComplete = false;
     private boolean discoveryFailed = false;
     private int fixedCount = 0;
     private int checkedCount = 0;
 
-    // Discovered at runtime via reflection
+    // Adaptive scan interval, per world thread
+    private final TickClock clock = new TickClock();
+    private final ThreadLocal<TickSchedule> scanSchedules;
+    private final AtomicLong beaconTicksSkipped = new AtomicLong(0);
+
+    private static final String[] CONTROLLER_CLASSES = {
+        "com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController",
+        "com.hypixel.hytale.server.spawning.BeaconSpawnController",
+        "com.hypixel.hytale.builtin.spawning.controllers.BeaconSpawnController"
+    };
+    private static final String[] PARAMETER_CLASSES = {
+        "com.hypixel.hytale.server.spawning.assets.spawns.config.RoleSpawnParameters",
+        "com.hypixel.hytale.server.spawning.config.RoleSpawnParameters",
+        "com.hypixel.hytale.builtin.spawning.config.RoleSpawnParameters"
+    };
+    private static final String[] BEACON_CLASSES = {
+        "com.hypixel.hytale.server.spawning.beacons.SpawnBeacon",
+        "com.hypixel.hytale.server.spawning.SpawnBeacon",
+        "com.hypixel.hytale.builtin.spawning.SpawnBeacon"
+    };
+
+    // Discovered at runtime via Accessors
     private Class<?> beaconSpawnControllerClass = null;
     private Class<?> roleSpawnParametersClass = null;
     private Class<?> spawnBeaconClass = null;
@@ -57,14 +92,18 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
     @SuppressWarnings("rawtypes")
     private ComponentType beaconSpawnControllerType = null;
 
-    // Fields for accessing spawn data
-    private Field spawnsField = null;  // Field containing spawn configurations
-    private Field roleSpawnsField = null;  // Alternative field name
-    private Field spawnListField = null;  // Another alternative
-    private Method getSpawnsMethod = null;  // Method to get spawns if no direct field
+    // Accessors for spawn data
+    private Accessors.Getter spawnsGetter = null;  // Field containing spawn configurations
+    private Accessors.Invoker getSpawns = null;    // Method to get spawns if no direct field
+    // Last spawn class seen, and its getId()
+    private Class<?> spawnClass = null;
+    private Accessors.Invoker getSpawnId = null;
 
     public SpawnBeaconSanitizer(HyzenKernel plugin) {
         this.plugin = plugin;
+        int maxIntervalTicks = ConfigManager.getInstance().getSanitizerMaxBackoffIntervalTicks();
+        this.scanSchedules = ThreadLocal.withInitial(() -> new TickSchedule(maxIntervalTicks, true));
+        Accessors.prefetch(PARAMETER_CLASSES);
         // Try to discover API early so getQuery() works at registration time
         discoverSpawnAPIEarly();
     }
@@ -91,68 +130,20 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
     /**
      * Early discovery attempt - runs in constructor before getQuery() is called.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
+    @SuppressWarnings("rawtypes")
     private void discoverSpawnAPIEarly() {
         try {
             // Try to find and get component type for BeaconSpawnController
-            String[] controllerClasses = {
-                "com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController",
-                "com.hypixel.hytale.server.spawning.BeaconSpawnController",
-                "com.hypixel.hytale.builtin.spawning.controllers.BeaconSpawnController"
-            };
-
-            for (String className : controllerClasses) {
-                try {
-                    beaconSpawnControllerClass = Class.forName(className);
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
-            }
-
+            beaconSpawnControllerClass = Accessors.findClass(CONTROLLER_CLASSES);
             if (beaconSpawnControllerClass != null) {
-                try {
-                    Method getTypeMethod = beaconSpawnControllerClass.getMethod("getComponentType");
-                    beaconSpawnControllerType = (ComponentType) getTypeMethod.invoke(null);
-                } catch (Exception e) {
-                    // Try TYPE field
-                    try {
-                        Field typeField = beaconSpawnControllerClass.getField("TYPE");
-                        beaconSpawnControllerType = (ComponentType) typeField.get(null);
-                    } catch (Exception ex) {
-                        // Continue without it
-                    }
-                }
+                beaconSpawnControllerType = componentTypeOf(beaconSpawnControllerClass);
+                resolveSpawnAccessors();
             }
 
             // Also try SpawnBeacon
-            String[] beaconClasses = {
-                "com.hypixel.hytale.server.spawning.beacons.SpawnBeacon",
-                "com.hypixel.hytale.server.spawning.SpawnBeacon",
-                "com.hypixel.hytale.builtin.spawning.SpawnBeacon"
-            };
-
-            for (String className : beaconClasses) {
-                try {
-                    spawnBeaconClass = Class.forName(className);
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
-            }
-
+            spawnBeaconClass = Accessors.findClass(BEACON_CLASSES);
             if (spawnBeaconClass != null && spawnBeaconType == null) {
-                try {
-                    Method getTypeMethod = spawnBeaconClass.getMethod("getComponentType");
-                    spawnBeaconType = (ComponentType) getTypeMethod.invoke(null);
-                } catch (Exception e) {
-                    try {
-                        Field typeField = spawnBeaconClass.getField("TYPE");
-                        spawnBeaconType = (ComponentType) typeField.get(null);
-                    } catch (Exception ex) {
-                        // Continue
-                    }
-                }
+                spawnBeaconType = componentTypeOf(spawnBeaconClass);
             }
 
             if (beaconSpawnControllerType != null || spawnBeaconType != null) {
@@ -170,6 +161,38 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
         }
     }
 
+    /**
+     * getComponentType(), or the public static TYPE field, or null.
+     */
+    @SuppressWarnings("rawtypes")
+    private static ComponentType componentTypeOf(Class<?> componentClass) {
+        Object type = Accessors.invokeStatic(componentClass, "getComponentType");
+        if (type == null) {
+            type = Accessors.staticField(componentClass, "TYPE");
+        }
+        return type instanceof ComponentType ? (ComponentType) type : null;
+    }
+
+    /**
+     * Find the spawns field/method in BeaconSpawnController.
+     */
+    private void resolveSpawnAccessors() {
+        spawnsGetter = Accessors.getter(beaconSpawnControllerClass,
+            "spawns", "roleSpawns", "spawnList", "spawnParameters",
+            "roleSpawnParameters", "spawnConfigs", "spawnEntries");
+        getSpawns = Accessors.invoker(beaconSpawnControllerClass,
+            "getSpawns", "getRoleSpawns", "getSpawnList", "getSpawnParameters");
+    }
+
+    /**
+     * Runs once per tick, before the per-beacon ticks below: advances the tick count.
+     */
+    @Override
+    public void tick(float deltaTime, int systemIndex, Store<EntityStore> store) {
+        clock.advance();
+        super.tick(deltaTime, systemIndex, store);
+    }
+
     @Override
     public void tick(
             float deltaTime,
@@ -177,6 +200,21 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
             ArchetypeChunk<EntityStore> chunk,
             Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer
+    ) {
+        long start = overhead.start();
+        try {
+            checkBeacon(deltaTime, entityIndex, chunk, store, commandBuffer);
+        } finally {
+            overhead.stop(start);
+        }
+    }
+
+    private void checkBeacon(
+            float deltaTime,
+            int entityIndex,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
     ) {
         if (!loggedOnce) {
             plugin.getLogger().at(Level.INFO).log(
@@ -195,6 +233,12 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
             return;
         }
 
+        TickSchedule schedule = scanSchedules.get();
+        if (!schedule.isDue(clock.current())) {
+            beaconTicksSkipped.incrementAndGet();
+            return;
+        }
+
         try {
             checkedCount++;
 
@@ -205,7 +249,9 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
             }
 
             // Validate spawn parameters
-            validateSpawnParameters(controller);
+            if (validateSpawnParameters(controller) > 0) {
+                schedule.defectFound();
+            }
 
         } catch (Exception e) {
             // Don't spam logs - only log first error
@@ -221,7 +267,6 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
      * Discover the spawn API via reflection.
      * This runs once on first tick.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void discoverSpawnAPI() {
         discoveryComplete = true;
 
@@ -231,144 +276,51 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
 
         try {
             // Step 1: Find BeaconSpawnController class
-            String[] controllerClasses = {
-                "com.hypixel.hytale.server.spawning.controllers.BeaconSpawnController",
-                "com.hypixel.hytale.server.spawning.BeaconSpawnController",
-                "com.hypixel.hytale.builtin.spawning.controllers.BeaconSpawnController"
-            };
-
-            for (String className : controllerClasses) {
-                try {
-                    beaconSpawnControllerClass = Class.forName(className);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[SpawnBeaconSanitizer] Found BeaconSpawnController: " + className
-                    );
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
+            beaconSpawnControllerClass = Accessors.findClass(CONTROLLER_CLASSES);
+            if (beaconSpawnControllerClass != null) {
+                plugin.getLogger().at(Level.INFO).log(
+                    "[SpawnBeaconSanitizer] Found BeaconSpawnController: " + beaconSpawnControllerClass.getName()
+                );
             }
 
             // Step 2: Find RoleSpawnParameters class
-            String[] paramClasses = {
-                "com.hypixel.hytale.server.spawning.assets.spawns.config.RoleSpawnParameters",
-                "com.hypixel.hytale.server.spawning.config.RoleSpawnParameters",
-                "com.hypixel.hytale.builtin.spawning.config.RoleSpawnParameters"
-            };
-
-            for (String className : paramClasses) {
-                try {
-                    roleSpawnParametersClass = Class.forName(className);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[SpawnBeaconSanitizer] Found RoleSpawnParameters: " + className
-                    );
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
+            roleSpawnParametersClass = Accessors.findClass(PARAMETER_CLASSES);
+            if (roleSpawnParametersClass != null) {
+                plugin.getLogger().at(Level.INFO).log(
+                    "[SpawnBeaconSanitizer] Found RoleSpawnParameters: " + roleSpawnParametersClass.getName()
+                );
             }
 
             // Step 3: Find SpawnBeacon component class
-            String[] beaconClasses = {
-                "com.hypixel.hytale.server.spawning.beacons.SpawnBeacon",
-                "com.hypixel.hytale.server.spawning.SpawnBeacon",
-                "com.hypixel.hytale.builtin.spawning.SpawnBeacon"
-            };
-
-            for (String className : beaconClasses) {
-                try {
-                    spawnBeaconClass = Class.forName(className);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[SpawnBeaconSanitizer] Found SpawnBeacon: " + className
-                    );
-                    break;
-                } catch (ClassNotFoundException e) {
-                    // Try next
-                }
+            spawnBeaconClass = Accessors.findClass(BEACON_CLASSES);
+            if (spawnBeaconClass != null) {
+                plugin.getLogger().at(Level.INFO).log(
+                    "[SpawnBeaconSanitizer] Found SpawnBeacon: " + spawnBeaconClass.getName()
+                );
             }
 
             // Step 4: Get component types
             if (beaconSpawnControllerClass != null) {
-                try {
-                    Method getTypeMethod = beaconSpawnControllerClass.getMethod("getComponentType");
-                    beaconSpawnControllerType = (ComponentType) getTypeMethod.invoke(null);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[SpawnBeaconSanitizer] Got BeaconSpawnController component type"
-                    );
-                } catch (NoSuchMethodException e) {
-                    plugin.getLogger().at(Level.WARNING).log(
-                        "[SpawnBeaconSanitizer] BeaconSpawnController has no getComponentType() - trying fields"
-                    );
-                    // Try to find TYPE field
-                    try {
-                        Field typeField = beaconSpawnControllerClass.getField("TYPE");
-                        beaconSpawnControllerType = (ComponentType) typeField.get(null);
-                        plugin.getLogger().at(Level.INFO).log(
-                            "[SpawnBeaconSanitizer] Got BeaconSpawnController component type from TYPE field"
-                        );
-                    } catch (NoSuchFieldException ex) {
-                        // Continue
-                    }
-                }
+                beaconSpawnControllerType = componentTypeOf(beaconSpawnControllerClass);
+                plugin.getLogger().at(Level.INFO).log(
+                    "[SpawnBeaconSanitizer] BeaconSpawnController component type: " +
+                    (beaconSpawnControllerType != null ? "found" : "not found")
+                );
 
                 // Log fields for debugging
                 logClassFields(beaconSpawnControllerClass);
                 logClassMethods(beaconSpawnControllerClass);
 
                 // Step 5: Find spawns field/method in BeaconSpawnController
-                String[] spawnFieldNames = {
-                    "spawns", "roleSpawns", "spawnList", "spawnParameters",
-                    "roleSpawnParameters", "spawnConfigs", "spawnEntries"
-                };
-
-                for (String fieldName : spawnFieldNames) {
-                    try {
-                        spawnsField = beaconSpawnControllerClass.getDeclaredField(fieldName);
-                        spawnsField.setAccessible(true);
-                        plugin.getLogger().at(Level.INFO).log(
-                            "[SpawnBeaconSanitizer] Found spawns field: " + fieldName +
-                            " (type: " + spawnsField.getType().getSimpleName() + ")"
-                        );
-                        break;
-                    } catch (NoSuchFieldException e) {
-                        // Try next
-                    }
-                }
-
-                // Try getter methods
-                String[] spawnMethodNames = {
-                    "getSpawns", "getRoleSpawns", "getSpawnList", "getSpawnParameters"
-                };
-
-                for (String methodName : spawnMethodNames) {
-                    try {
-                        getSpawnsMethod = beaconSpawnControllerClass.getMethod(methodName);
-                        plugin.getLogger().at(Level.INFO).log(
-                            "[SpawnBeaconSanitizer] Found spawns method: " + methodName + "()"
-                        );
-                        break;
-                    } catch (NoSuchMethodException e) {
-                        // Try next
-                    }
-                }
+                resolveSpawnAccessors();
+                plugin.getLogger().at(Level.INFO).log(
+                    "[SpawnBeaconSanitizer] Spawns field: " + (spawnsGetter != null ? "YES" : "NO") +
+                    ", spawns method: " + (getSpawns != null ? "YES" : "NO")
+                );
             }
 
             if (spawnBeaconClass != null) {
-                try {
-                    Method getTypeMethod = spawnBeaconClass.getMethod("getComponentType");
-                    spawnBeaconType = (ComponentType) getTypeMethod.invoke(null);
-                    plugin.getLogger().at(Level.INFO).log(
-                        "[SpawnBeaconSanitizer] Got SpawnBeacon component type"
-                    );
-                } catch (NoSuchMethodException e) {
-                    // Try TYPE field
-                    try {
-                        Field typeField = spawnBeaconClass.getField("TYPE");
-                        spawnBeaconType = (ComponentType) typeField.get(null);
-                    } catch (NoSuchFieldException ex) {
-                        // Continue
-                    }
-                }
+                spawnBeaconType = componentTypeOf(spawnBeaconClass);
             }
 
             // Summary
@@ -384,7 +336,7 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
                     "Controller=" + (beaconSpawnControllerClass != null ? "YES" : "NO") +
                     ", SpawnParams=" + (roleSpawnParametersClass != null ? "YES" : "NO") +
                     ", ComponentType=" + (beaconSpawnControllerType != null ? "YES" : "NO") +
-                    ", SpawnsField=" + (spawnsField != null ? "YES" : "NO")
+                    ", SpawnsField=" + (spawnsGetter != null ? "YES" : "NO")
                 );
             }
 
@@ -442,23 +394,23 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
 
     /**
      * Validate spawn parameters in a BeaconSpawnController and remove nulls.
+     * Returns the number of spawns removed.
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private void validateSpawnParameters(Object controller) {
+    private int validateSpawnParameters(Object controller) {
         try {
             Object spawns = null;
 
             // Try to get spawns via field
-            if (spawnsField != null) {
-                spawns = spawnsField.get(controller);
-            } else if (getSpawnsMethod != null) {
-                spawns = getSpawnsMethod.invoke(controller);
+            if (spawnsGetter != null) {
+                spawns = spawnsGetter.get(controller);
+            } else if (getSpawns != null) {
+                spawns = getSpawns.invoke(controller);
             }
 
             if (spawns == null) {
                 // Try to find any field that looks like a collection of spawns
-                for (Field field : controller.getClass().getDeclaredFields()) {
-                    field.setAccessible(true);
+                for (Accessors.FieldAccessor field : Accessors.fields(controller.getClass())) {
                     Object value = field.get(controller);
                     if (value instanceof Collection || value instanceof Map ||
                         (value != null && value.getClass().isArray())) {
@@ -469,7 +421,7 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
             }
 
             if (spawns == null) {
-                return;
+                return 0;
             }
 
             // Check for nulls and remove them
@@ -481,9 +433,11 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
                     " null spawn parameter(s) to prevent crash (total fixed: " + fixedCount + ")"
                 );
             }
+            return removed;
 
         } catch (Exception e) {
             // Silently fail - we're just trying to prevent crashes
+            return 0;
         }
     }
 
@@ -565,13 +519,18 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
 
         try {
             // Check if getId() would return null or throw
-            Method getIdMethod = spawn.getClass().getMethod("getId");
-            Object id = getIdMethod.invoke(spawn);
+            if (spawn.getClass() != spawnClass) {
+                getSpawnId = Accessors.invoker(spawn.getClass(), "getId");
+                spawnClass = spawn.getClass();
+            }
+            if (getSpawnId == null) {
+                // No getId method, can't validate this way
+                return false;
+            }
+            Object id = getSpawnId.invoke(spawn);
             if (id == null) {
                 return true;
             }
-        } catch (NoSuchMethodException e) {
-            // No getId method, can't validate this way
         } catch (Exception e) {
             // getId() threw an exception, spawn is invalid
             return true;
@@ -600,14 +559,16 @@ public class SpawnBeaconSanitizer extends EntityTickingSystem<EntityStore> {
             "  Component Type Found: %s\n" +
             "  Spawns Field Found: %s\n" +
             "  Beacons Checked: %d\n" +
+            "  Beacon Ticks Skipped (back-off): %d\n" +
             "  Null Spawns Removed: %d",
             discoveryComplete,
             discoveryFailed,
             beaconSpawnControllerClass != null ? beaconSpawnControllerClass.getSimpleName() : "None",
             roleSpawnParametersClass != null ? roleSpawnParametersClass.getSimpleName() : "None",
             beaconSpawnControllerType != null,
-            spawnsField != null || getSpawnsMethod != null,
+            spawnsGetter != null || getSpawns != null,
             checkedCount,
+            beaconTicksSkipped.get(),
             fixedCount
         );
     }
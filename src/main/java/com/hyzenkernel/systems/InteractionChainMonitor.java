@@ -2,14 +2,17 @@ package com.hyzenkernel.systems;
 
 import com.hyzenkernel.HyzenKernel;
 import com.hyzenkernel.config.ConfigManager;
-import com.hypixel.hytale.component.ArchetypeChunk;
-import com.hypixel.hytale.component.CommandBuffer;
-import com.hypixel.hytale.component.Store;
-import com.hypixel.hytale.component.query.Query;
-import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
-import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hyzenkernel.util.EarlyPluginBridge;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -20,7 +23,8 @@ import java.util.logging.Level;
  *
  * IMPORTANT: This system CANNOT fix the InteractionChain overflow bug
  * (408+ errors per session). That bug is deep in Hytale's core networking
- * and interaction system.
+ * and interaction system - the early plugin patches the symptoms, and this
+ * monitor reports the sync gaps it measures (see SyncGapStats).
  *
  * This monitor serves to:
  * 1. Track statistics about HyzenKernel-prevented crashes
@@ -36,7 +40,7 @@ import java.util.logging.Level;
  * Since we can't intercept Hytale's core logging, we track what we CAN
  * observe and fix through HyzenKernel.
  */
-public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
+public class InteractionChainMonitor implements PlayerSanitizerStage {
 
     private final HyzenKernel plugin;
 
@@ -52,6 +56,19 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
     private final AtomicInteger instanceExitFixes = new AtomicInteger(0);
     private final AtomicInteger objectiveFixes = new AtomicInteger(0);
 
+    // Statistics - early plugin (bytecode) fixes, refreshed from FixCounters
+    private volatile Map<String, Long> earlyFixCounts = Collections.emptyMap();
+
+    // Sync gap rates over the last summary interval, sampled from SyncGapStats
+    private long lastGapSampleTime = System.currentTimeMillis();
+    private long lastGapTotal = 0;
+    private volatile double gapsPerMinute = 0;
+    private Map<Object, Long> lastGapCountByPlayer = new HashMap<>();
+    private volatile Map<Object, Double> gapsPerMinuteByPlayer = Collections.emptyMap();
+
+    // Interaction types listed in the chain lifecycle section of /interactionstatus
+    private static final int MAX_CHAIN_TYPES_SHOWN = 10;
+
     // Known unfixable issues (from log analysis)
     // These are constants based on our analysis - we can't track them in real-time
     // but we document them for admin awareness
@@ -59,9 +76,10 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
         Known Hytale Core Issues (Cannot be fixed by plugins):
 
         1. InteractionChain Sync Buffer Overflow
-           - ~408 errors per 35-minute session
+           - Patched by the early plugin; sync gaps are measured per player
+             (see /interactionstatus)
            - Affects: combat damage, food SFX, shield blocking
-           - Root cause: Buffer undersized for complex interaction chains
+           - Root cause: Sync data arriving out of order
 
         2. Missing Replacement Interactions
            - ~8 errors per session
@@ -90,20 +108,14 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
     }
 
     @Override
-    public Query<EntityStore> getQuery() {
-        return Player.getComponentType();
+    public String getStageName() {
+        return "InteractionChainMonitor";
     }
 
     @Override
-    public void tick(
-            float deltaTime,
-            int entityIndex,
-            ArchetypeChunk<EntityStore> chunk,
-            Store<EntityStore> store,
-            CommandBuffer<EntityStore> commandBuffer
-    ) {
+    public void tick(PlayerTickContext context) {
         // Only run on first entity to avoid duplicate processing
-        if (entityIndex != 0) {
+        if (context.getIndex() != 0) {
             return;
         }
 
@@ -136,15 +148,65 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
                          instanceExitFixes.get() +
                          objectiveFixes.get();
 
-        if (totalFixes > 0) {
+        long earlyFixes = getEarlyFixTotal();
+
+        sampleSyncGaps();
+
+        if (totalFixes > 0 || earlyFixes > 0) {
             plugin.getLogger().at(Level.INFO).log(
                 "[InteractionChainMonitor] 5-minute summary - Crashes prevented: " + totalFixes +
                 " (RespawnBlock: " + respawnBlockFixes.get() +
                 ", ProcessingBench: " + processingBenchFixes.get() +
                 ", InstanceExit: " + instanceExitFixes.get() +
-                ", Objective: " + objectiveFixes.get() + ")"
+                ", Objective: " + objectiveFixes.get() + ")" +
+                ", Early plugin fixes: " + earlyFixes
             );
         }
+
+        long[] forward = EarlyPluginBridge.getSyncGapForward();
+        long[] backward = EarlyPluginBridge.getSyncGapBackward();
+        if (forward != null && backward != null && lastGapTotal > 0) {
+            plugin.getLogger().at(Level.INFO).log(String.format(
+                "[InteractionChainMonitor] Sync gaps: %.1f/min - forward %s, backward %s",
+                gapsPerMinute, formatGapSummary(forward), formatGapSummary(backward)
+            ));
+        }
+    }
+
+    /**
+     * Turn the early plugin's cumulative gap counts into per-minute rates
+     * over the interval since the previous sample.
+     */
+    private synchronized void sampleSyncGaps() {
+        long[] forward = EarlyPluginBridge.getSyncGapForward();
+        long[] backward = EarlyPluginBridge.getSyncGapBackward();
+        if (forward == null || backward == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        double minutes = Math.max(now - lastGapSampleTime, 1) / 60000.0;
+        long total = forward[EarlyPluginBridge.GAP_COUNT] + backward[EarlyPluginBridge.GAP_COUNT];
+        gapsPerMinute = (total - lastGapTotal) / minutes;
+        lastGapTotal = total;
+
+        Map<Object, Long> counts = new HashMap<>();
+        Map<Object, Double> rates = new HashMap<>();
+        for (Map.Entry<Object, long[]> entry : EarlyPluginBridge.getSyncGapsByPlayer().entrySet()) {
+            long count = entry.getValue()[EarlyPluginBridge.GAP_COUNT];
+            long previous = lastGapCountByPlayer.getOrDefault(entry.getKey(), 0L);
+            counts.put(entry.getKey(), count);
+            rates.put(entry.getKey(), (count - previous) / minutes);
+        }
+        lastGapCountByPlayer = counts;
+        gapsPerMinuteByPlayer = rates;
+        lastGapSampleTime = now;
+    }
+
+    private static String formatGapSummary(long[] summary) {
+        return String.format("%d (p50 %d, p99 %d, max %d)",
+                summary[EarlyPluginBridge.GAP_COUNT], summary[EarlyPluginBridge.GAP_P50],
+                summary[EarlyPluginBridge.GAP_P99], summary[EarlyPluginBridge.GAP_MAX]);
     }
 
     /**
@@ -152,8 +214,17 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
      * Called periodically to sync statistics.
      */
     private void updateFixCounts() {
-        // These would need to be wired up to actual systems
-        // For now, just track what we can
+        // Runtime sanitizers report through the record*Fix() methods below;
+        // bytecode fixes count into the early plugin's FixCounters
+        earlyFixCounts = EarlyPluginBridge.getFixCounts();
+    }
+
+    private long getEarlyFixTotal() {
+        long total = 0;
+        for (long count : earlyFixCounts.values()) {
+            total += count;
+        }
+        return total;
     }
 
     /**
@@ -208,11 +279,26 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
         sb.append(String.format("  InstanceExit (missing return world): %d\n", instanceExitFixes.get()));
         sb.append(String.format("  Objective (null task ref): %d\n", objectiveFixes.get()));
         sb.append("\n");
+        updateFixCounts();
+        sb.append("--- Early Plugin Fixes (bytecode) ---\n");
+        if (earlyFixCounts.isEmpty()) {
+            sb.append("  (none triggered or early plugin not loaded)\n");
+        } else {
+            for (Map.Entry<String, Long> entry : earlyFixCounts.entrySet()) {
+                sb.append(String.format("  %s: %d\n", entry.getKey(), entry.getValue()));
+            }
+        }
+        sb.append("\n");
+        appendSyncBufferStatus(sb);
+        sb.append("\n");
+        appendSyncGapStatus(sb);
+        sb.append("\n");
+        appendChainLifecycleStatus(sb);
+        sb.append("\n");
         sb.append("--- Memory Management ---\n");
         sb.append("\n");
         sb.append("--- Known Unfixable Issues ---\n");
         sb.append("(These are Hytale core bugs - report to developers)\n");
-        sb.append("  InteractionChain Overflow: ~408/session (estimated)\n");
         sb.append("  Missing Replacement Interactions: ~8/session\n");
         sb.append("  Client/Server Desync: ~27/session\n");
         sb.append("  Task Queue NPE: ~10/session\n");
@@ -220,6 +306,102 @@ public class InteractionChainMonitor extends EntityTickingSystem<EntityStore> {
         return sb.toString();
     }
 
+    private void appendSyncBufferStatus(StringBuilder sb) {
+        sb.append("--- Interaction Sync Buffer ---\n");
+        long[] totals = EarlyPluginBridge.getSyncBufferTotals();
+        if (totals == null) {
+            sb.append("  (early plugin not loaded)\n");
+            return;
+        }
+        sb.append(String.format("  Max buffer size: %d\n", totals[EarlyPluginBridge.SYNC_MAX_HIGH_WATER]));
+        sb.append(String.format("  Compactions: %d (%d entries)\n",
+                totals[EarlyPluginBridge.SYNC_COMPACTIONS], totals[EarlyPluginBridge.SYNC_ENTRIES_COMPACTED]));
+        sb.append(String.format("  Cap reached (chains desynced): %d\n", totals[EarlyPluginBridge.SYNC_OVERFLOWS]));
+        for (Map.Entry<String, Long> entry : EarlyPluginBridge.getSyncBufferHighWater().entrySet()) {
+            sb.append(String.format("  %s: %d\n", entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private void appendSyncGapStatus(StringBuilder sb) {
+        sb.append("--- Interaction Sync Gaps ---\n");
+        long[] forward = EarlyPluginBridge.getSyncGapForward();
+        long[] backward = EarlyPluginBridge.getSyncGapBackward();
+        if (forward == null || backward == null) {
+            sb.append("  (early plugin not loaded)\n");
+            return;
+        }
+        sb.append(String.format("  Rate: %.1f/min (last %d-tick interval)\n", gapsPerMinute, logIntervalTicks));
+        sb.append("  Forward (skipped indices): ").append(formatGapSummary(forward)).append("\n");
+        sb.append("  Backward (late data): ").append(formatGapSummary(backward)).append("\n");
+
+        Map<Object, long[]> byPlayer = EarlyPluginBridge.getSyncGapsByPlayer();
+        if (byPlayer.isEmpty()) {
+            return;
+        }
+        Map<Object, String> names = resolvePlayerNames();
+        Map<Object, Double> rates = gapsPerMinuteByPlayer;
+        for (Map.Entry<Object, long[]> entry : byPlayer.entrySet()) {
+            String name = names.getOrDefault(entry.getKey(), String.valueOf(entry.getKey()));
+            sb.append(String.format("  %s: %s, %.1f/min\n",
+                    name, formatGapSummary(entry.getValue()), rates.getOrDefault(entry.getKey(), 0.0)));
+        }
+    }
+
+    private void appendChainLifecycleStatus(StringBuilder sb) {
+        sb.append("--- Interaction Chains by Type ---\n");
+        Map<String, long[]> byType = EarlyPluginBridge.getChainLifecycleByType();
+        if (byType.isEmpty()) {
+            sb.append("  (no chains recorded or early plugin not loaded)\n");
+            return;
+        }
+
+        // Interactions that time out first, then the busiest ones
+        List<Map.Entry<String, long[]>> rows = new ArrayList<>(byType.entrySet());
+        rows.sort((a, b) -> {
+            int byTimeouts = Long.compare(b.getValue()[EarlyPluginBridge.CHAIN_CLIENT_TIMEOUT],
+                    a.getValue()[EarlyPluginBridge.CHAIN_CLIENT_TIMEOUT]);
+            return byTimeouts != 0 ? byTimeouts
+                    : Long.compare(b.getValue()[EarlyPluginBridge.CHAIN_COUNT], a.getValue()[EarlyPluginBridge.CHAIN_COUNT]);
+        });
+
+        int shown = 0;
+        for (Map.Entry<String, long[]> entry : rows) {
+            if (shown++ == MAX_CHAIN_TYPES_SHOWN) {
+                sb.append(String.format("  ... %d more\n", rows.size() - MAX_CHAIN_TYPES_SHOWN));
+                break;
+            }
+            long[] row = entry.getValue();
+            sb.append(String.format("  %s: %d chains, duration p50/p99/max %d/%d/%d ms, waiting on client p99/max %d/%d ms\n",
+                    entry.getKey(), row[EarlyPluginBridge.CHAIN_COUNT],
+                    row[EarlyPluginBridge.CHAIN_DURATION_P50], row[EarlyPluginBridge.CHAIN_DURATION_P99],
+                    row[EarlyPluginBridge.CHAIN_DURATION_MAX],
+                    row[EarlyPluginBridge.CHAIN_WAITING_P99], row[EarlyPluginBridge.CHAIN_WAITING_MAX]));
+            sb.append(String.format("    finished %d, client timeout %d, sanitizer removed %d, cancelled %d\n",
+                    row[EarlyPluginBridge.CHAIN_FINISHED], row[EarlyPluginBridge.CHAIN_CLIENT_TIMEOUT],
+                    row[EarlyPluginBridge.CHAIN_SANITIZER_REMOVED], row[EarlyPluginBridge.CHAIN_CANCELLED]));
+        }
+    }
+
+    /**
+     * Entity Ref -> username for every online player.
+     */
+    private static Map<Object, String> resolvePlayerNames() {
+        Map<Object, String> names = new HashMap<>();
+        try {
+            for (World world : Universe.get().getWorlds().values()) {
+                for (PlayerRef playerRef : world.getPlayerRefs()) {
+                    Object ref = playerRef.getReference();
+                    if (ref != null) {
+                        names.put(ref, playerRef.getUsername());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Fall back to Ref.toString() for anything we couldn't resolve
+        }
+        return names;
+    }
+
     /**
      * Get brief status for quick checks.
      */
@@ -0,0 +1,278 @@
+package com.hyzenkernel.systems;
+
+import com.hyzenkernel.HyzenKernel;
+import com.hyzenkernel.config.ConfigManager;
+import com.hyzenkernel.util.OverheadMeter;
+import com.hyzenkernel.util.TickClock;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * PlayerSanitizerPipeline - runs every per-player check in a single pass
+ *
+ * InteractionChainMonitor, ChunkTrackerSanitizer and InteractionManagerSanitizer all query
+ * Player.getComponentType(). Registered as separate systems, the ECS walked every player
+ * archetype chunk once per system per tick. They are now {@link PlayerSanitizerStage}s of
+ * this one system: each player is visited once, and the stages share the Ref and the
+ * Player component through {@link PlayerTickContext}.
+ *
+ * Stages are added in HyzenKernel.setup() only if enabled in SanitizersConfig, and run in
+ * the order they were added.
+ *
+ * Budget:
+ * Every stage runs on every player each tick, and all of them together may spend at most
+ * playerSanitizers.tickBudgetMicros of CPU time per world thread per tick - each run is
+ * timed and charged. Once the budget is spent, the remaining (player, stage) runs of that
+ * tick are deferred and the stage's {@link PlayerSanitizerStage#deferred} is called
+ * instead. The budget is checked before each run, so one run may overshoot it.
+ *
+ * A world thread's "frame" is the tick number of a {@link TickClock}, advanced by
+ * {@link #tick(float, int, Store)} before the players are ticked; stages read it from
+ * {@link PlayerTickContext#getFrame()}. Each (player, stage) remembers the frame it last
+ * ran in. If anything was deferred, the next frame only admits players that last ran no
+ * later than the deferred ones, so under sustained load the cursor keeps moving through
+ * all players instead of favouring those early in iteration order.
+ */
+public class PlayerSanitizerPipeline extends EntityTickingSystem<EntityStore> {
+
+    private final HyzenKernel plugin;
+    private final List<PlayerSanitizerStage> stages = new ArrayList<>();
+    private PlayerSanitizerStage[] stageArray = new PlayerSanitizerStage[0];
+    private OverheadMeter[] stageMeters = new OverheadMeter[0];
+
+    private final long tickBudgetNanos;
+
+    // World threads tick concurrently - one frame counter, context and schedule per thread
+    private final TickClock clock = new TickClock();
+    private final ThreadLocal<ThreadState> threadStates = ThreadLocal.withInitial(ThreadState::new);
+
+    // Statistics
+    private final AtomicLong stageRuns = new AtomicLong(0);
+    private final AtomicLong stageRunsDeferred = new AtomicLong(0);
+
+    public PlayerSanitizerPipeline(HyzenKernel plugin) {
+        this.plugin = plugin;
+        ConfigManager config = ConfigManager.getInstance();
+        this.tickBudgetNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0, config.getPlayerSanitizerTickBudgetMicros()));
+        // Every world ticks this system, so its frames are the server ticks the meters bucket by
+        OverheadMeter.useTickClock(clock);
+    }
+
+    /**
+     * Add a stage. Only call during setup, before the system is registered.
+     */
+    public void addStage(PlayerSanitizerStage stage) {
+        stages.add(stage);
+        stageArray = stages.toArray(new PlayerSanitizerStage[0]);
+        stageMeters = Arrays.copyOf(stageMeters, stageArray.length);
+        stageMeters[stageArray.length - 1] = OverheadMeter.create(stage.getClass().getSimpleName());
+    }
+
+    public List<PlayerSanitizerStage> getStages() {
+        return Collections.unmodifiableList(stages);
+    }
+
+    public boolean isEmpty() {
+        return stages.isEmpty();
+    }
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        return Player.getComponentType();
+    }
+
+    /**
+     * Runs once per tick, before the per-player ticks below: starts the thread's next frame.
+     */
+    @Override
+    public void tick(float deltaTime, int systemIndex, Store<EntityStore> store) {
+        threadStates.get().startFrame(clock.advance());
+        super.tick(deltaTime, systemIndex, store);
+    }
+
+    @Override
+    public void tick(
+            float deltaTime,
+            int index,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer
+    ) {
+        ThreadState state = threadStates.get();
+        PlayerTickContext context = state.context;
+        context.reset(deltaTime, index, chunk, store, commandBuffer, state.frame);
+        try {
+            PlayerSanitizerStage[] stagesNow = stageArray;
+            OverheadMeter[] meters = stageMeters;
+            if (tickBudgetNanos == 0) {
+                for (int s = 0; s < stagesNow.length; s++) {
+                    long start = meters[s].start();
+                    runStage(stagesNow[s], context);
+                    meters[s].stop(start);
+                    stageRuns.incrementAndGet();
+                }
+                return;
+            }
+
+            StoreSchedule schedule = state.scheduleFor(store, stagesNow.length);
+            int slotBase = context.getRef().getIndex() * stagesNow.length;
+            schedule.ensureCapacity(slotBase + stagesNow.length);
+
+            for (int s = 0; s < stagesNow.length; s++) {
+                PlayerSanitizerStage stage = stagesNow[s];
+                int slot = slotBase + s;
+                int lastRun = schedule.lastRun[slot];
+                boolean overBudget = state.spentNanos >= tickBudgetNanos;
+                if (overBudget || lastRun > schedule.admitUpTo[s]) {
+                    // Over budget, or fresher than a player that was deferred last frame
+                    if (overBudget) {
+                        schedule.deferred(s, lastRun);
+                    }
+                    stageRunsDeferred.incrementAndGet();
+                    deferStage(stage, context);
+                    continue;
+                }
+
+                long start = meters[s].start();
+                runStage(stage, context);
+                state.spentNanos += meters[s].stop(start);
+                stageRuns.incrementAndGet();
+                schedule.lastRun[slot] = state.frame;
+            }
+        } finally {
+            context.clear();
+        }
+    }
+
+    private void runStage(PlayerSanitizerStage stage, PlayerTickContext context) {
+        try {
+            stage.tick(context);
+        } catch (Exception e) {
+            plugin.getLogger().at(Level.FINE).log(
+                    "[PlayerSanitizerPipeline] " + stage.getStageName() + " failed: " + e.getMessage());
+        }
+    }
+
+    private void deferStage(PlayerSanitizerStage stage, PlayerTickContext context) {
+        try {
+            stage.deferred(context);
+        } catch (Exception e) {
+            plugin.getLogger().at(Level.FINE).log(
+                    "[PlayerSanitizerPipeline] " + stage.getStageName() + " failed: " + e.getMessage());
+        }
+    }
+
+    public long getTickBudgetMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(tickBudgetNanos);
+    }
+
+    /**
+     * Stage runs on a player.
+     */
+    public long getStageRuns() {
+        return stageRuns.get();
+    }
+
+    /**
+     * Due stage runs pushed to a later tick by the budget.
+     */
+    public long getStageRunsDeferred() {
+        return stageRunsDeferred.get();
+    }
+
+    public String getStatus() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Stages: ").append(stages.size()).append("\n");
+        sb.append("Tick Budget: ").append(tickBudgetNanos > 0 ? getTickBudgetMicros() + "us" : "unlimited").append("\n");
+        sb.append("Stage Runs: ").append(stageRuns.get()).append("\n");
+        sb.append("Deferred (budget): ").append(stageRunsDeferred.get());
+        return sb.toString();
+    }
+
+    /**
+     * Per world thread: the tick context, the current frame and its budget.
+     */
+    private static final class ThreadState {
+
+        final PlayerTickContext context = new PlayerTickContext();
+        int frame = 1;
+        long spentNanos;
+
+        // Stores are held weakly; a world thread normally ticks a single store
+        private final Map<Object, StoreSchedule> schedules = new WeakHashMap<>();
+        private Object lastStore;
+        private StoreSchedule lastSchedule;
+
+        void startFrame(int tick) {
+            frame = tick;
+            spentNanos = 0;
+        }
+
+        StoreSchedule scheduleFor(Object store, int stageCount) {
+            if (store != lastStore) {
+                lastSchedule = schedules.computeIfAbsent(store, k -> new StoreSchedule(stageCount));
+                lastStore = store;
+            }
+            lastSchedule.roll(frame);
+            return lastSchedule;
+        }
+    }
+
+    /**
+     * Last-run frames of one store's players, by (Ref index, stage). lastRun 0 = never run.
+     */
+    private static final class StoreSchedule {
+
+        int[] lastRun = new int[64];
+        // Per stage: only last-run frames up to this are admitted (MAX_VALUE = no limit)
+        final int[] admitUpTo;
+        // Per stage: latest last-run frame deferred by the budget in the current frame (-1 = none)
+        final int[] newestDeferred;
+        int frame;
+
+        StoreSchedule(int stageCount) {
+            admitUpTo = new int[stageCount];
+            newestDeferred = new int[stageCount];
+            Arrays.fill(admitUpTo, Integer.MAX_VALUE);
+            Arrays.fill(newestDeferred, -1);
+        }
+
+        void roll(int currentFrame) {
+            if (frame != currentFrame) {
+                frame = currentFrame;
+                for (int s = 0; s < admitUpTo.length; s++) {
+                    admitUpTo[s] = newestDeferred[s] < 0 ? Integer.MAX_VALUE : newestDeferred[s];
+                }
+                Arrays.fill(newestDeferred, -1);
+            }
+        }
+
+        void deferred(int stage, int lastRunFrame) {
+            if (lastRunFrame > newestDeferred[stage]) {
+                newestDeferred[stage] = lastRunFrame;
+            }
+        }
+
+        void ensureCapacity(int slots) {
+            if (slots > lastRun.length) {
+                int capacity = Math.max(slots, lastRun.length * 2);
+                lastRun = Arrays.copyOf(lastRun, capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.hyzenkernel.systems;
+
+/**
+ * One per-player check run by {@link PlayerSanitizerPipeline}.
+ *
+ * Stages used to be separate EntityTickingSystems querying Player.getComponentType();
+ * the pipeline now walks the player archetype chunks once and hands every stage the
+ * same {@link PlayerTickContext}.
+ */
+public interface PlayerSanitizerStage {
+
+    /**
+     * Short name for logs and status output.
+     */
+    String getStageName();
+
+    /**
+     * Check one player. Exceptions are caught by the pipeline, so one failing stage
+     * doesn't skip the others.
+     */
+    void tick(PlayerTickContext context);
+
+    /**
+     * Called instead of {@link #tick} when the pipeline's tick budget defers this player to
+     * a later tick. Stages whose checks only happen in certain ticks keep them open here.
+     */
+    default void deferred(PlayerTickContext context) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.hyzenkernel.systems;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+/**
+ * The player entity a {@link PlayerSanitizerPipeline} tick is about, shared by all stages.
+ *
+ * The Ref is fetched on first use and then reused by later stages. One instance per world thread is reset for every entity, so this allocates nothing.
+ */
+public final class PlayerTickContext {
+
+    private float deltaTime;
+    private int index;
+    private int frame;
+    private ArchetypeChunk<EntityStore> chunk;
+    private Store<EntityStore> store;
+    private CommandBuffer<EntityStore> commandBuffer;
+
+    private Ref<EntityStore> ref;
+
+    void reset(
+            float deltaTime,
+            int index,
+            ArchetypeChunk<EntityStore> chunk,
+            Store<EntityStore> store,
+            CommandBuffer<EntityStore> commandBuffer,
+            int frame
+    ) {
+        this.deltaTime = deltaTime;
+        this.index = index;
+        this.frame = frame;
+        this.chunk = chunk;
+        this.store = store;
+        this.commandBuffer = commandBuffer;
+        this.ref = null;
+    }
+
+    /**
+     * Drop references to the chunk and store once the entity is done.
+     */
+    void clear() {
+        reset(0, 0, null, null, null, 0);
+    }
+
+    public float getDeltaTime() {
+        return deltaTime;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * The pipeline's tick number on this world thread, for stages keeping a
+     * {@link com.hyzenkernel.util.TickSchedule}.
+     */
+    public int getFrame() {
+        return frame;
+    }
+
+    public ArchetypeChunk<EntityStore> getChunk() {
+        return chunk;
+    }
+
+    public Store<EntityStore> getStore() {
+        return store;
+    }
+
+    public CommandBuffer<EntityStore> getCommandBuffer() {
+        return commandBuffer;
+    }
+
+    public Ref<EntityStore> getRef() {
+        if (ref == null) {
+            ref = chunk.getReferenceTo(index);
+        }
+        return ref;
+    }
+}
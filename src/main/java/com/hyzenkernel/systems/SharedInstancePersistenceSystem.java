@@ -2,6 +2,7 @@ package com.hyzenkernel.systems;
 
 import com.hyzenkernel.HyzenKernel;
 import com.hyzenkernel.config.ConfigManager;
+import com.hyzenkernel.util.OverheadMeter;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.component.system.tick.TickingSystem;
 import com.hypixel.hytale.server.core.universe.world.World;
@@ -26,6 +27,7 @@ public class SharedInstancePersistenceSystem extends TickingSystem<ChunkStore> {
     private static final String SHARED_PREFIX = "instance-shared-";
 
     private final HyzenKernel plugin;
+    private final OverheadMeter overhead = OverheadMeter.create("SharedInstancePersistenceSystem");
     private final Set<String> loggedWorlds = ConcurrentHashMap.newKeySet();
     private boolean loggedOnce = false;
 
@@ -35,6 +37,15 @@ public class SharedInstancePersistenceSystem extends TickingSystem<ChunkStore> {
 
     @Override
     public void tick(float dt, int systemIndex, Store<ChunkStore> store) {
+        long start = overhead.start();
+        try {
+            preserveTerrain(dt, systemIndex, store);
+        } finally {
+            overhead.stop(start);
+        }
+    }
+
+    private void preserveTerrain(float dt, int systemIndex, Store<ChunkStore> store) {
         World world = store.getExternalData().getWorld();
         if (world == null) {
             return;
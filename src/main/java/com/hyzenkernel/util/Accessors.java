@@ -0,0 +1,378 @@
+package com.hyzenkernel.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolve-once accessors for Hytale internals, shared by all sanitizers and commands.
+ *
+ * Sanitizers used to rediscover the same members with Class.forName / getDeclaredField /
+ * getMethod and then call Field.get and Method.invoke on every tick. Here every class and
+ * member is resolved once, cached by (class, member names), and handed out as a typed
+ * functional interface:
+ * - {@link Invoker}: public no-arg instance methods get a LambdaMetafactory-generated
+ *   implementation (a direct call, inlined like a lambda); anything LambdaMetafactory
+ *   can't target (void methods, non-public declaring classes) falls back to a MethodHandle
+ * - {@link Getter} / {@link Setter}: fields, backed by a MethodHandle (LambdaMetafactory
+ *   only targets methods)
+ * - {@link FieldAccessor}: all instance fields of a class, for sanitizers that scan fields
+ *
+ * Members are looked up by a list of candidate names, so API drift between Hytale builds
+ * is handled here: the first name that exists wins, and null means none did. Lookups that
+ * found nothing are cached too. A lookup still builds its cache key, so hot paths keep the
+ * accessor in a field rather than looking it up per call.
+ *
+ * {@link #prefetch(String...)} loads classes on a background thread, so sanitizers that
+ * discover their API on the first tick don't stall a world thread with class loading.
+ *
+ * Accessors rethrow checked exceptions of the target wrapped in IllegalStateException;
+ * runtime exceptions and errors pass through unchanged.
+ */
+public final class Accessors {
+
+    /** A public no-arg instance method. */
+    @FunctionalInterface
+    public interface Invoker {
+        Object invoke(Object target);
+    }
+
+    /** An instance field read. */
+    @FunctionalInterface
+    public interface Getter {
+        Object get(Object target);
+    }
+
+    /** An instance field write. */
+    @FunctionalInterface
+    public interface Setter {
+        void set(Object target, Object value);
+    }
+
+    /**
+     * One instance field of a class: name, type and accessors (setter null for final fields).
+     */
+    public static final class FieldAccessor {
+
+        private final String name;
+        private final Class<?> type;
+        private final Type genericType;
+        private final Getter getter;
+        private final Setter setter;
+
+        FieldAccessor(String name, Class<?> type, Type genericType, Getter getter, Setter setter) {
+            this.name = name;
+            this.type = type;
+            this.genericType = genericType;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Declared type with type arguments, e.g. Map&lt;UUID, PlayerRef&gt;.
+         */
+        public Type getGenericType() {
+            return genericType;
+        }
+
+        public Object get(Object target) {
+            return getter.get(target);
+        }
+
+        /**
+         * Null if the field is final.
+         */
+        public Setter getSetter() {
+            return setter;
+        }
+    }
+
+    private static final Object MISSING = new Object();
+    private static final FieldAccessor[] NO_FIELDS = new FieldAccessor[0];
+
+    private static final Map<String, Object> classes = new ConcurrentHashMap<>();
+
+    // Per class: "kind:name1,name2" -> accessor (or MISSING). ClassValue doesn't keep classes alive.
+    private static final ClassValue<Map<String, Object>> members = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<FieldAccessor[]> fieldLayouts = new ClassValue<>() {
+        @Override
+        protected FieldAccessor[] computeValue(Class<?> type) {
+            return resolveFields(type);
+        }
+    };
+
+    private Accessors() {
+    }
+
+    // ============================================
+    // Classes
+    // ============================================
+
+    /**
+     * The first of the candidate classes that exists, or null.
+     */
+    public static Class<?> findClass(String... candidates) {
+        for (String name : candidates) {
+            Object cached = classes.get(name);
+            if (cached == null) {
+                cached = loadClass(name);
+                classes.putIfAbsent(name, cached);
+            }
+            if (cached != MISSING) {
+                return (Class<?>) cached;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Load classes on a background thread; later {@link #findClass} calls hit the cache.
+     * Classes are loaded but not initialized - their static initializers (component
+     * registrations) still run on the server's own threads, in the server's order.
+     */
+    public static void prefetch(String... classNames) {
+        String[] names = classNames.clone();
+        Thread thread = new Thread(() -> {
+            for (String name : names) {
+                findClass(name);
+            }
+        }, "HyzenKernel-Accessors");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static Object loadClass(String name) {
+        try {
+            return Class.forName(name, false, Accessors.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return MISSING;
+        }
+    }
+
+    // ============================================
+    // Members
+    // ============================================
+
+    /**
+     * The first public no-arg instance method of {@code owner} with one of the given names, or null.
+     */
+    public static Invoker invoker(Class<?> owner, String... methodNames) {
+        return (Invoker) member(owner, "invoke:", methodNames);
+    }
+
+    /**
+     * The first declared instance field (in {@code owner} or a superclass) with one of the
+     * given names, or null.
+     */
+    public static Getter getter(Class<?> owner, String... fieldNames) {
+        return (Getter) member(owner, "get:", fieldNames);
+    }
+
+    /**
+     * Like {@link #getter}, for writing; null if the field doesn't exist or is final.
+     */
+    public static Setter setter(Class<?> owner, String... fieldNames) {
+        return (Setter) member(owner, "set:", fieldNames);
+    }
+
+    /**
+     * All declared instance fields of {@code owner} (not its superclasses).
+     */
+    public static FieldAccessor[] fields(Class<?> owner) {
+        return fieldLayouts.get(owner);
+    }
+
+    /**
+     * Call a public static no-arg method (e.g. getComponentType(), SomeModule.get()) - for
+     * one-off discovery, not hot paths. Null if it doesn't exist or fails.
+     */
+    public static Object invokeStatic(Class<?> owner, String methodName) {
+        try {
+            return owner.getMethod(methodName).invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Read a public static field (e.g. a component's TYPE) - for one-off discovery. Null if
+     * it doesn't exist.
+     */
+    public static Object staticField(Class<?> owner, String fieldName) {
+        try {
+            Field field = owner.getField(fieldName);
+            return Modifier.isStatic(field.getModifiers()) ? field.get(null) : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object member(Class<?> owner, String kind, String[] names) {
+        Map<String, Object> cache = members.get(owner);
+        String key = kind + String.join(",", names);
+        Object cached = cache.get(key);
+        if (cached == null) {
+            cached = resolve(owner, kind, names);
+            cache.putIfAbsent(key, cached);
+        }
+        return cached != MISSING ? cached : null;
+    }
+
+    private static Object resolve(Class<?> owner, String kind, String[] names) {
+        for (String name : names) {
+            try {
+                Object accessor;
+                if (kind.equals("invoke:")) {
+                    accessor = invokerFor(owner.getMethod(name));
+                } else {
+                    Field field = findField(owner, name);
+                    if (field == null) {
+                        continue;
+                    }
+                    accessor = kind.equals("get:") ? getterFor(field) : setterFor(field);
+                }
+                if (accessor != null) {
+                    return accessor;
+                }
+            } catch (NoSuchMethodException e) {
+                // Try the next name
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Inaccessible - try the next name
+            }
+        }
+        return MISSING;
+    }
+
+    private static Field findField(Class<?> owner, String name) {
+        for (Class<?> c = owner; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            } catch (NoSuchFieldException e) {
+                // Check the superclass
+            }
+        }
+        return null;
+    }
+
+    private static FieldAccessor[] resolveFields(Class<?> owner) {
+        List<FieldAccessor> result = new ArrayList<>();
+        for (Field field : owner.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            try {
+                Getter getter = getterFor(field);
+                result.add(new FieldAccessor(field.getName(), field.getType(), field.getGenericType(),
+                        getter, setterFor(field)));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Inaccessible field - leave it out
+            }
+        }
+        return result.isEmpty() ? NO_FIELDS : result.toArray(NO_FIELDS);
+    }
+
+    // ============================================
+    // Accessor generation
+    // ============================================
+
+    private static Invoker invokerFor(Method method) throws IllegalAccessException {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0) {
+            return null;
+        }
+        // Public methods of non-public classes (e.g. nested implementations) need this too
+        method.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle target = lookup.unreflect(method);
+
+        Class<?> declaring = method.getDeclaringClass();
+        if (method.getReturnType() != void.class && Modifier.isPublic(declaring.getModifiers())) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(
+                        lookup,
+                        "invoke",
+                        MethodType.methodType(Invoker.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        target,
+                        MethodType.methodType(target.type().wrap().returnType(), declaring));
+                return (Invoker) site.getTarget().invokeExact();
+            } catch (Throwable e) {
+                // Not visible from here - use the MethodHandle below
+            }
+        }
+
+        MethodHandle generic = target.asType(MethodType.methodType(Object.class, Object.class));
+        return t -> {
+            try {
+                return (Object) generic.invokeExact(t);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    private static Getter getterFor(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+        return t -> {
+            try {
+                return (Object) handle.invokeExact(t);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    private static Setter setterFor(Field field) throws IllegalAccessException {
+        if (Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        field.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflectSetter(field)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (t, value) -> {
+            try {
+                handle.invokeExact(t, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        throw new IllegalStateException(e);
+    }
+}
@@ -0,0 +1,231 @@
+package com.hyzenkernel.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Read-only access to static registries of the HyzenKernel early plugin.
+ *
+ * The runtime plugin doesn't compile against hyzenkernel-early (and the early plugin
+ * may not be installed at all), so everything is looked up by name and only JDK types
+ * cross the boundary. Every method degrades to an empty result if the early plugin is missing.
+ */
+public final class EarlyPluginBridge {
+
+    private static final String EARLY_PACKAGE = "com.hyzenkernel.early.";
+
+    private EarlyPluginBridge() {
+    }
+
+    /**
+     * Load an early plugin class, or null if the early plugin isn't present.
+     */
+    public static Class<?> findEarlyClass(String simpleName) {
+        String name = EARLY_PACKAGE + simpleName;
+        ClassLoader[] loaders = {
+                EarlyPluginBridge.class.getClassLoader(),
+                ClassLoader.getSystemClassLoader(),
+                Thread.currentThread().getContextClassLoader()
+        };
+        for (ClassLoader loader : loaders) {
+            if (loader == null) {
+                continue;
+            }
+            try {
+                return Class.forName(name, false, loader);
+            } catch (ClassNotFoundException | LinkageError ignored) {
+                // Try the next loader
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Invoke a public static no-arg method on an early plugin class, or null on any failure.
+     */
+    public static Object invokeStatic(String simpleName, String methodName) {
+        Class<?> clazz = findEarlyClass(simpleName);
+        if (clazz == null) {
+            return null;
+        }
+        try {
+            Method method = clazz.getMethod(methodName);
+            return method.invoke(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * A public static method of an early plugin class as a MethodHandle, for callers on a
+     * hot path (resolve once, keep it in a field). Null on any failure.
+     */
+    public static MethodHandle findStatic(String simpleName, String methodName, MethodType type) {
+        Class<?> clazz = findEarlyClass(simpleName);
+        if (clazz == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().findStatic(clazz, methodName, type);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public static boolean isEarlyPluginLoaded() {
+        return findEarlyClass("TransformerStats") != null;
+    }
+
+    // ============================================
+    // TransformerStats (startup cost per early fix)
+    // Column order mirrors TransformerStats.COL_*
+    // ============================================
+
+    public static final int STAT_INSPECTED = 0;
+    public static final int STAT_REWRITTEN = 1;
+    public static final int STAT_CACHE_HITS = 2;
+    public static final int STAT_OVERLAY_HITS = 3;
+    public static final int STAT_ASM_NANOS = 4;
+    public static final int STAT_TOTAL_NANOS = 5;
+    public static final int STAT_BYTES_IN = 6;
+    public static final int STAT_BYTES_OUT = 7;
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, long[]> getTransformerStats() {
+        Object result = invokeStatic("TransformerStats", "snapshot");
+        return result instanceof Map ? (Map<String, long[]>) result : Collections.emptyMap();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Map<String, String> getTransformerConfigKeys() {
+        Object result = invokeStatic("TransformerStats", "configKeys");
+        return result instanceof Map ? (Map<String, String>) result : Collections.emptyMap();
+    }
+
+    public static long getClassesSeen() {
+        Object result = invokeStatic("TransformerStats", "classesSeen");
+        return result instanceof Long ? (Long) result : 0L;
+    }
+
+    // ============================================
+    // FixCounters (hits of fixes injected into Hytale code)
+    // ============================================
+
+    /**
+     * Hit count per early fix ID ("configKey.event"), sorted by ID.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Long> getFixCounts() {
+        Object result = invokeStatic("FixCounters", "snapshot");
+        return result instanceof Map ? (Map<String, Long>) result : Collections.emptyMap();
+    }
+
+    // ============================================
+    // SyncBufferStats (InteractionChain sync buffer)
+    // Index order mirrors SyncBufferStats.totals()
+    // ============================================
+
+    public static final int SYNC_MAX_HIGH_WATER = 0;
+    public static final int SYNC_COMPACTIONS = 1;
+    public static final int SYNC_ENTRIES_COMPACTED = 2;
+    public static final int SYNC_OVERFLOWS = 3;
+
+    /**
+     * Sync buffer totals, or null if the early plugin isn't loaded.
+     */
+    public static long[] getSyncBufferTotals() {
+        Object result = invokeStatic("SyncBufferStats", "totals");
+        return result instanceof long[] ? (long[]) result : null;
+    }
+
+    /**
+     * Largest sync buffer per root interaction (only buffers above syncBuffer.reportHighWaterAbove).
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Long> getSyncBufferHighWater() {
+        Object result = invokeStatic("SyncBufferStats", "highWaterByInteraction");
+        return result instanceof Map ? (Map<String, Long>) result : Collections.emptyMap();
+    }
+
+    // ============================================
+    // SyncGapStats (InteractionChain sync gap histograms)
+    // Index order mirrors LogHistogram.summary()
+    // ============================================
+
+    public static final int GAP_COUNT = 0;
+    public static final int GAP_P50 = 1;
+    public static final int GAP_P99 = 2;
+    public static final int GAP_MAX = 3;
+
+    /**
+     * Forward gaps (skipped sync indices), or null if the early plugin isn't loaded.
+     */
+    public static long[] getSyncGapForward() {
+        Object result = invokeStatic("SyncGapStats", "forwardSummary");
+        return result instanceof long[] ? (long[]) result : null;
+    }
+
+    /**
+     * Backward gaps (late sync data the buffer was expanded for), or null if the early plugin isn't loaded.
+     */
+    public static long[] getSyncGapBackward() {
+        Object result = invokeStatic("SyncGapStats", "backwardSummary");
+        return result instanceof long[] ? (long[]) result : null;
+    }
+
+    /**
+     * Gap summary per player, keyed by the player's entity Ref.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<Object, long[]> getSyncGapsByPlayer() {
+        Object result = invokeStatic("SyncGapStats", "playerSummaries");
+        return result instanceof Map ? (Map<Object, long[]>) result : Collections.emptyMap();
+    }
+
+    // ============================================
+    // InteractionDirtySet (entities whose interaction chains changed)
+    // Index order mirrors InteractionDirtySet.totals()
+    // ============================================
+
+    public static final int DIRTY_MARKS = 0;
+    public static final int DIRTY_UNRESOLVED = 1;
+    public static final int DIRTY_STORES = 2;
+
+    /**
+     * Dirty-set totals, or null if the early plugin isn't loaded.
+     */
+    public static long[] getInteractionDirtyTotals() {
+        Object result = invokeStatic("InteractionDirtySet", "totals");
+        return result instanceof long[] ? (long[]) result : null;
+    }
+
+    // ============================================
+    // ChainLifecycleStats (interaction chain duration/outcome per root interaction)
+    // Index order mirrors ChainLifecycleStats.byType() rows
+    // ============================================
+
+    public static final int CHAIN_COUNT = 0;
+    public static final int CHAIN_DURATION_P50 = 1;
+    public static final int CHAIN_DURATION_P99 = 2;
+    public static final int CHAIN_DURATION_MAX = 3;
+    public static final int CHAIN_WAITING_P50 = 4;
+    public static final int CHAIN_WAITING_P99 = 5;
+    public static final int CHAIN_WAITING_MAX = 6;
+    public static final int CHAIN_FINISHED = 7;
+    public static final int CHAIN_CLIENT_TIMEOUT = 8;
+    public static final int CHAIN_SANITIZER_REMOVED = 9;
+    public static final int CHAIN_CANCELLED = 10;
+
+    /**
+     * Lifecycle row per root interaction (milliseconds and outcome counts).
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, long[]> getChainLifecycleByType() {
+        Object result = invokeStatic("ChainLifecycleStats", "byType");
+        return result instanceof Map ? (Map<String, long[]>) result : Collections.emptyMap();
+    }
+}
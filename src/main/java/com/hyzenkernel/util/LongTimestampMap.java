@@ -0,0 +1,210 @@
+package com.hyzenkernel.util;
+
+/**
+ * Open-addressing (linear probing) map from long keys to a "first seen" timestamp,
+ * for per-tick bookkeeping that must not allocate.
+ *
+ * Keys are grouped by their high 32 bits - a small non-negative int such as an entity
+ * index - and each group keeps the low halves of its keys in a list, so
+ * {@link #removeStale} sweeps one group in O(its entries) instead of walking the whole
+ * table. Every entry also remembers an owner,
+ * compared by identity: a key reused by a different owner (an entity index handed to a
+ * new entity) starts over instead of inheriting the old timestamp.
+ *
+ * Not thread-safe. Allocates only when the table or a group list grows.
+ */
+public final class LongTimestampMap {
+
+    private long[] keys;
+    private long[] timestamps;
+    private int[] stamps;
+    private Object[] owners;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    // Per group: low 32 bits of its keys (unordered), and how many there are
+    private int[][] groupIds = new int[0][];
+    private int[] groupSizes = new int[0];
+
+    public LongTimestampMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 4) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    public static long key(int group, int id) {
+        return ((long) group << 32) | (id & 0xFFFFFFFFL);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Timestamp of the first call for {@code key} (by this owner), inserting {@code now}
+     * if the key is absent. The entry is marked with {@code stamp} for {@link #removeStale}.
+     */
+    public long firstSeen(long key, Object owner, long now, int stamp) {
+        int slot = slotOf(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                if (owners[slot] != owner) {
+                    owners[slot] = owner;
+                    timestamps[slot] = now;
+                }
+                stamps[slot] = stamp;
+                return timestamps[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        used[slot] = true;
+        keys[slot] = key;
+        owners[slot] = owner;
+        timestamps[slot] = now;
+        stamps[slot] = stamp;
+        addToGroup(key);
+        if (++size > (mask + 1) / 2) {
+            grow();
+        }
+        return now;
+    }
+
+    public void remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return;
+        }
+        removeAt(slot);
+
+        int group = (int) (key >>> 32);
+        int[] ids = groupIds[group];
+        int last = --groupSizes[group];
+        for (int i = 0; i <= last; i++) {
+            if (ids[i] == (int) key) {
+                ids[i] = ids[last];
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove every entry of {@code group} that wasn't marked with {@code stamp}.
+     */
+    public void removeStale(int group, int stamp) {
+        if (group < 0 || group >= groupSizes.length) {
+            return;
+        }
+        int[] ids = groupIds[group];
+        int count = groupSizes[group];
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = find(key(group, ids[i]));
+            if (stamps[slot] == stamp) {
+                ids[kept++] = ids[i];
+            } else {
+                removeAt(slot);
+            }
+        }
+        groupSizes[group] = kept;
+    }
+
+    public void clear() {
+        java.util.Arrays.fill(used, false);
+        java.util.Arrays.fill(owners, null);
+        java.util.Arrays.fill(groupSizes, 0);
+        size = 0;
+    }
+
+    private int find(long key) {
+        int slot = slotOf(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void addToGroup(long key) {
+        int group = (int) (key >>> 32);
+        if (group >= groupSizes.length) {
+            int length = Math.max(group + 1, groupSizes.length * 2);
+            groupIds = java.util.Arrays.copyOf(groupIds, length);
+            groupSizes = java.util.Arrays.copyOf(groupSizes, length);
+        }
+        int[] ids = groupIds[group];
+        int count = groupSizes[group];
+        if (ids == null) {
+            ids = groupIds[group] = new int[4];
+        } else if (count == ids.length) {
+            ids = groupIds[group] = java.util.Arrays.copyOf(ids, count * 2);
+        }
+        ids[count] = (int) key;
+        groupSizes[group] = count + 1;
+    }
+
+    private int slotOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Backward-shift deletion: keeps probe sequences intact without tombstones.
+     */
+    private void removeAt(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (used[next]) {
+            int home = slotOf(keys[next]);
+            // Move the entry back if its home slot isn't in (hole, next]
+            boolean movable = hole <= next ? (home <= hole || home > next) : (home <= hole && home > next);
+            if (movable) {
+                keys[hole] = keys[next];
+                timestamps[hole] = timestamps[next];
+                stamps[hole] = stamps[next];
+                owners[hole] = owners[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[hole] = false;
+        owners[hole] = null;
+        size--;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldTimestamps = timestamps;
+        int[] oldStamps = stamps;
+        Object[] oldOwners = owners;
+        boolean[] oldUsed = used;
+
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = slotOf(oldKeys[i]);
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                timestamps[slot] = oldTimestamps[i];
+                stamps[slot] = oldStamps[i];
+                owners[slot] = oldOwners[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        timestamps = new long[capacity];
+        stamps = new int[capacity];
+        owners = new Object[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,293 @@
+package com.hyzenkernel.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CPU time one HyzenKernel system or event handler spends, per server tick.
+ *
+ * Callers bracket their work with {@link #start()} / {@link #stop(long)} (or wrap it in
+ * {@link #time(Runnable)}); each stop counts one entity (or event) visited. Time is
+ * bucketed by the world thread's tick from the PlayerSanitizerPipeline's {@link TickClock}
+ * (see {@link #useTickClock}), so a bucket is one whole tick of that world however long the
+ * tick took. Each world thread has its own buckets; a snapshot lines the worlds up by their
+ * latest finished tick and adds them, so a bucket is what HyzenKernel cost the server in
+ * one tick of every world. The last {@link #WINDOW_TICKS} buckets give the rolling average
+ * and p99 shown by /interactionstatus; totals cover the whole uptime.
+ *
+ * Recording is two nanoTime calls, two LongAdder adds and an uncontended lock on the
+ * thread's own buckets (taken by a snapshot too). Work on a thread that never ticks the
+ * pipeline (tick 0) only counts towards the totals.
+ */
+public final class OverheadMeter {
+
+    /** One minute at 20 TPS */
+    public static final int WINDOW_TICKS = 1200;
+
+    private static final List<OverheadMeter> meters = new CopyOnWriteArrayList<>();
+    private static volatile TickClock tickClock;
+
+    private final String name;
+
+    // Buckets of each world thread this meter ran on
+    private final List<Ring> rings = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Ring> ring = new ThreadLocal<>();
+
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder totalVisits = new LongAdder();
+
+    private OverheadMeter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Create a meter and list it in {@link #all()}. Call once per system, at construction.
+     */
+    public static OverheadMeter create(String name) {
+        OverheadMeter meter = new OverheadMeter(name);
+        meters.add(meter);
+        return meter;
+    }
+
+    /**
+     * All meters, in creation order.
+     */
+    public static List<OverheadMeter> all() {
+        return Collections.unmodifiableList(meters);
+    }
+
+    /**
+     * The clock whose ticks the meters bucket by - the PlayerSanitizerPipeline's, which
+     * every world thread advances once per tick. Until it is set, only totals are kept.
+     */
+    public static void useTickClock(TickClock clock) {
+        tickClock = clock;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Charge the time since {@code start} and one visit to this meter; returns that time.
+     */
+    public long stop(long start) {
+        long elapsed = System.nanoTime() - start;
+        totalNanos.add(elapsed);
+        totalVisits.increment();
+        Ring buckets = ring.get();
+        if (buckets == null) {
+            buckets = ringForThread();
+            if (buckets == null) {
+                return elapsed;
+            }
+        }
+        buckets.add(elapsed);
+        return elapsed;
+    }
+
+    /**
+     * Run and charge {@code work} - for rare calls such as event handlers.
+     */
+    public void time(Runnable work) {
+        long start = start();
+        try {
+            work.run();
+        } finally {
+            stop(start);
+        }
+    }
+
+    private Ring ringForThread() {
+        TickClock clock = tickClock;
+        if (clock == null) {
+            return null;
+        }
+        AtomicInteger counter = clock.counter();
+        if (counter.get() == 0) {
+            return null;
+        }
+        Ring buckets = new Ring(Thread.currentThread(), counter);
+        rings.add(buckets);
+        ring.set(buckets);
+        return buckets;
+    }
+
+    /**
+     * Per-tick nanos of the last {@link #WINDOW_TICKS} finished ticks, oldest first (0 for
+     * ticks this meter didn't run in), plus the visits over the same ticks.
+     */
+    public Snapshot snapshot() {
+        long[] nanos = new long[WINDOW_TICKS];
+        long[] visits = new long[1];
+        for (Ring buckets : rings) {
+            if (!buckets.owner.isAlive()) {
+                // World thread gone (world unloaded) - its ticks stopped lining up with the rest
+                rings.remove(buckets);
+                continue;
+            }
+            buckets.addWindow(nanos, visits);
+        }
+        return new Snapshot(name, nanos, visits[0], totalNanos.sum(), totalVisits.sum());
+    }
+
+    /**
+     * One world thread's buckets. Written by that thread, read by snapshots.
+     */
+    private static final class Ring {
+
+        private final Thread owner;
+        private final AtomicInteger clockTick;
+
+        // Current tick bucket
+        private long tick;
+        private long tickNanos;
+        private long tickVisits;
+
+        // Finished buckets by tick % WINDOW_TICKS, valid while ringTick matches
+        private final long[] ringTick = new long[WINDOW_TICKS];
+        private final long[] ringNanos = new long[WINDOW_TICKS];
+        private final long[] ringVisits = new long[WINDOW_TICKS];
+
+        Ring(Thread owner, AtomicInteger clockTick) {
+            this.owner = owner;
+            this.clockTick = clockTick;
+            this.tick = clockTick.get();
+            Arrays.fill(ringTick, Long.MIN_VALUE);
+        }
+
+        synchronized void add(long elapsed) {
+            roll(clockTick.get());
+            tickNanos += elapsed;
+            tickVisits++;
+        }
+
+        /**
+         * Add the last WINDOW_TICKS finished ticks, aligned at the newest, to {@code nanos}.
+         */
+        synchronized void addWindow(long[] nanos, long[] visits) {
+            long now = clockTick.get();
+            roll(now);
+            for (int i = 0; i < WINDOW_TICKS; i++) {
+                long t = now - WINDOW_TICKS + i;
+                int slot = (int) Math.floorMod(t, (long) WINDOW_TICKS);
+                if (ringTick[slot] == t) {
+                    nanos[i] += ringNanos[slot];
+                    visits[0] += ringVisits[slot];
+                }
+            }
+        }
+
+        private void roll(long now) {
+            if (now == tick) {
+                return;
+            }
+            int slot = (int) Math.floorMod(tick, (long) WINDOW_TICKS);
+            ringTick[slot] = tick;
+            ringNanos[slot] = tickNanos;
+            ringVisits[slot] = tickVisits;
+            tickNanos = 0;
+            tickVisits = 0;
+            tick = now;
+        }
+    }
+
+    /**
+     * A meter's last {@link #WINDOW_TICKS} ticks. {@link #sum} adds meters tick by tick.
+     */
+    public static final class Snapshot {
+
+        private final String name;
+        private final long[] tickNanos;
+        private final long windowVisits;
+        private final long totalNanos;
+        private final long totalVisits;
+
+        Snapshot(String name, long[] tickNanos, long windowVisits, long totalNanos, long totalVisits) {
+            this.name = name;
+            this.tickNanos = tickNanos;
+            this.windowVisits = windowVisits;
+            this.totalNanos = totalNanos;
+            this.totalVisits = totalVisits;
+        }
+
+        /**
+         * All snapshots added tick by tick, under a new name.
+         */
+        public static Snapshot sum(String name, List<Snapshot> snapshots) {
+            long[] nanos = new long[WINDOW_TICKS];
+            long windowVisits = 0;
+            long totalNanos = 0;
+            long totalVisits = 0;
+            for (Snapshot snapshot : snapshots) {
+                for (int i = 0; i < WINDOW_TICKS; i++) {
+                    nanos[i] += snapshot.tickNanos[i];
+                }
+                windowVisits += snapshot.windowVisits;
+                totalNanos += snapshot.totalNanos;
+                totalVisits += snapshot.totalVisits;
+            }
+            return new Snapshot(name, nanos, windowVisits, totalNanos, totalVisits);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getAverageMicrosPerTick() {
+            long sum = 0;
+            for (long nanos : tickNanos) {
+                sum += nanos;
+            }
+            return sum / 1000.0 / WINDOW_TICKS;
+        }
+
+        public double getP99MicrosPerTick() {
+            long[] sorted = tickNanos.clone();
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(WINDOW_TICKS * 0.99) - 1] / 1000.0;
+        }
+
+        public double getMaxMicrosPerTick() {
+            long max = 0;
+            for (long nanos : tickNanos) {
+                max = Math.max(max, nanos);
+            }
+            return max / 1000.0;
+        }
+
+        public double getVisitsPerTick() {
+            return (double) windowVisits / WINDOW_TICKS;
+        }
+
+        public long getTotalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+        }
+
+        public long getTotalVisits() {
+            return totalVisits;
+        }
+
+        public boolean isIdle() {
+            return totalVisits == 0 && windowVisits == 0;
+        }
+
+        /**
+         * One status line: avg / p99 / max per tick, visits, totals.
+         */
+        public String format() {
+            return String.format("%s: avg %.1fus, p99 %.1fus, max %.1fus per tick; %.1f visits/tick; total %dms over %d visits",
+                    name, getAverageMicrosPerTick(), getP99MicrosPerTick(), getMaxMicrosPerTick(),
+                    getVisitsPerTick(), getTotalMillis(), getTotalVisits());
+        }
+    }
+}
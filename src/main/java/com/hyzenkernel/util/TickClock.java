@@ -0,0 +1,42 @@
+package com.hyzenkernel.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tick numbers for an EntityTickingSystem, per world thread.
+ *
+ * The ECS hands EntityTickingSystem.tick() one entity at a time and no tick number. The
+ * system's TickingSystem.tick(float, int, Store) - which EntityTickingSystem implements by
+ * walking the archetype chunks - runs once per tick before any of them, so the system
+ * overrides it to call {@link #advance()} and then super. The per-entity ticks that follow
+ * on the same thread see that tick in {@link #current()}.
+ *
+ * A world thread ticks a single store, so one counter per thread is one per world.
+ * {@link OverheadMeter} reads a world thread's counter from other threads through
+ * {@link #counter()}.
+ */
+public final class TickClock {
+
+    private final ThreadLocal<AtomicInteger> ticks = ThreadLocal.withInitial(AtomicInteger::new);
+
+    /**
+     * Start the next tick on this thread and return its number (the first is 1).
+     */
+    public int advance() {
+        return ticks.get().incrementAndGet();
+    }
+
+    /**
+     * The tick this thread is in; 0 before the first {@link #advance()}.
+     */
+    public int current() {
+        return ticks.get().get();
+    }
+
+    /**
+     * This thread's counter, to read its tick from another thread.
+     */
+    AtomicInteger counter() {
+        return ticks.get();
+    }
+}
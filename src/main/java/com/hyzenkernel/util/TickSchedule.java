@@ -0,0 +1,101 @@
+package com.hyzenkernel.util;
+
+/**
+ * When a periodic check runs, in ticks (see {@link TickClock}).
+ *
+ * The check runs in windows: a window opens on the first tick the check is due and lasts
+ * that tick, so every entity ticked in it is checked. When a window closes the check waits
+ * for the next one - one tick if {@link #defectFound()} was called during the window,
+ * otherwise {@code cleanIntervalTicks}, or with {@code backOff} twice the previous wait
+ * (starting from one tick) up to that cap. {@link #open} forces a longer window and starts
+ * the back-off over, e.g. after an event that tends to leave defects behind.
+ *
+ * Not thread-safe: keep one per world thread.
+ */
+public final class TickSchedule {
+
+    private final int cleanIntervalTicks;
+    private final boolean backOff;
+
+    private boolean inWindow;
+    private int windowStart;
+    private int windowEnd;  // exclusive
+    private int nextWindow;
+    private int intervalTicks = 1;
+    private boolean defectInWindow;
+    private int epochSeen;
+
+    public TickSchedule(int cleanIntervalTicks, boolean backOff) {
+        this.cleanIntervalTicks = Math.max(1, cleanIntervalTicks);
+        this.backOff = backOff;
+    }
+
+    /**
+     * Whether the check runs on {@code tick}. Call for every entity; ticks only move forward.
+     */
+    public boolean isDue(int tick) {
+        closeWindowBefore(tick);
+        if (inWindow) {
+            return true;
+        }
+        if (tick - nextWindow >= 0) {
+            openWindow(tick, 1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Run the check for {@code ticks} ticks from {@code tick} (extending an open window),
+     * then back off from one tick again.
+     */
+    public void open(int tick, int ticks) {
+        closeWindowBefore(tick);
+        intervalTicks = 1;
+        if (inWindow) {
+            if (tick + ticks - windowEnd > 0) {
+                windowEnd = tick + ticks;
+            }
+        } else {
+            openWindow(tick, ticks);
+        }
+    }
+
+    /**
+     * {@link #open} if {@code epoch} changed since the last call - for events counted in a
+     * shared counter by other threads.
+     */
+    public void openOnEpoch(int tick, int epoch, int ticks) {
+        if (epoch != epochSeen) {
+            epochSeen = epoch;
+            open(tick, ticks);
+        }
+    }
+
+    /**
+     * The check found (and fixed) something in the current window.
+     */
+    public void defectFound() {
+        defectInWindow = true;
+    }
+
+    private void closeWindowBefore(int tick) {
+        if (!inWindow || tick - windowEnd < 0) {
+            return;
+        }
+        inWindow = false;
+        if (defectInWindow) {
+            intervalTicks = 1;
+        } else {
+            intervalTicks = backOff ? Math.min(cleanIntervalTicks, intervalTicks * 2) : cleanIntervalTicks;
+        }
+        nextWindow = windowStart + intervalTicks;
+    }
+
+    private void openWindow(int tick, int ticks) {
+        inWindow = true;
+        windowStart = tick;
+        windowEnd = tick + ticks;
+        defectInWindow = false;
+    }
+}